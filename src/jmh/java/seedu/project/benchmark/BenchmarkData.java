@@ -0,0 +1,72 @@
+package seedu.project.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.project.model.Name;
+import seedu.project.model.ProjectList;
+import seedu.project.model.project.Project;
+import seedu.project.model.tag.Tag;
+import seedu.project.model.task.Deadline;
+import seedu.project.model.task.Description;
+import seedu.project.model.task.Task;
+
+/**
+ * Creates the projects and tasks that the benchmarks work on.
+ * The data is the same on every run, so that results can be compared between versions.
+ */
+public class BenchmarkData {
+
+    public static final int TAG_COUNT = 50;
+    public static final int TAGS_PER_TASK = 2;
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns {@code count} distinct tasks, each with {@code TAGS_PER_TASK} of {@code TAG_COUNT} tags and a deadline
+     * in 2019 or 2021, in no particular order of deadline.
+     */
+    public static List<Task> createTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(createTask(i));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the task numbered {@code i}, which differs from the tasks of every other number.
+     */
+    public static Task createTask(int i) {
+        Set<Tag> tags = new HashSet<>();
+        for (int j = 0; j < TAGS_PER_TASK; j++) {
+            tags.add(new Tag("tag" + (i + j) % TAG_COUNT));
+        }
+        // multiplying by a number coprime to the count of days scatters the deadlines
+        int day = (int) ((long) i * 7919 % (2 * 12 * 28));
+        int year = day < 12 * 28 ? 2019 : 2021;
+        String deadline = String.format("%02d-%02d-%d", day % 28 + 1, day / 28 % 12 + 1, year);
+        return new Task(new Name("Task " + i), new Description("Description of task " + i), new Deadline(deadline),
+                tags);
+    }
+
+    /**
+     * Returns a project called {@code name} with {@code taskCount} tasks.
+     */
+    public static Project createProject(String name, int taskCount) {
+        return new Project(new Name(name), createTasks(taskCount));
+    }
+
+    /**
+     * Returns a project list of {@code projectCount} projects of {@code tasksPerProject} tasks each.
+     */
+    public static ProjectList createProjectList(int projectCount, int tasksPerProject) {
+        ProjectList projectList = new ProjectList();
+        for (int i = 0; i < projectCount; i++) {
+            projectList.addProject(createProject("Project " + i, tasksPerProject));
+        }
+        return projectList;
+    }
+}
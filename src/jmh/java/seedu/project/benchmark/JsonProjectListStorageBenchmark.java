@@ -0,0 +1,83 @@
+package seedu.project.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.project.commons.exceptions.DataConversionException;
+import seedu.project.model.ProjectList;
+import seedu.project.model.ReadOnlyProjectList;
+import seedu.project.storage.JsonProjectListStorage;
+
+/**
+ * Measures reading and writing the data file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonProjectListStorageBenchmark {
+
+    @Param({"10", "100"})
+    private int projectCount;
+
+    @Param({"10", "100", "1000"})
+    private int tasksPerProject;
+
+    private Path directory;
+    private ProjectList projectList;
+    private JsonProjectListStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("projectListBenchmark");
+        projectList = BenchmarkData.createProjectList(projectCount, tasksPerProject);
+        storage = new JsonProjectListStorage(directory.resolve("projectlist.json"));
+        storage.saveProjectList(projectList);
+    }
+
+    /**
+     * Deletes the data file and its backups.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyProjectList> read() throws DataConversionException {
+        return storage.readProjectList();
+    }
+
+    /**
+     * Writes the whole project list, as every command that changes it does.
+     */
+    @Benchmark
+    public ProjectList write() throws IOException {
+        storage.saveProjectList(projectList);
+        return projectList;
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.project.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.project.logic.CommandHistory;
+import seedu.project.logic.LogicManager;
+import seedu.project.logic.commands.CommandResult;
+import seedu.project.logic.commands.SortByDeadlineCommand;
+import seedu.project.model.Model;
+import seedu.project.model.ModelManager;
+import seedu.project.model.ProjectList;
+import seedu.project.model.UserPrefs;
+import seedu.project.model.project.Project;
+import seedu.project.model.task.NameContainsKeywordsPredicate;
+import seedu.project.model.task.Task;
+
+/**
+ * Measures the model operations behind the commands that work on all tasks of the opened project.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ModelBenchmark {
+
+    @Param({"10", "100"})
+    private int projectCount;
+
+    @Param({"100", "1000", "10000"})
+    private int taskCount;
+
+    private final CommandHistory history = new CommandHistory();
+    private final NameContainsKeywordsPredicate predicate =
+            new NameContainsKeywordsPredicate(Arrays.asList("7", "Task1"));
+    private ProjectList projectList;
+    private Model model;
+
+    /**
+     * Creates the project list, whose last project, the one that is opened, has {@code taskCount} tasks, and opens
+     * that project in a model shared by the benchmarks that do not change it.
+     */
+    @Setup
+    public void setUp() {
+        projectList = BenchmarkData.createProjectList(projectCount - 1, 10);
+        projectList.addProject(BenchmarkData.createProject("Opened", taskCount));
+        model = createModel();
+    }
+
+    /**
+     * Returns a new model with the project with {@code taskCount} tasks opened.
+     */
+    private Model createModel() {
+        Model newModel = new ModelManager(projectList, new Project(), new UserPrefs());
+        List<Project> projects = newModel.getFilteredProjectList();
+        Project opened = projects.get(projects.size() - 1);
+        newModel.setSelectedProject(opened);
+        newModel.setProject(opened);
+        LogicManager.setState(true);
+        return newModel;
+    }
+
+    @Benchmark
+    public String getTagWithTaskList() {
+        return model.getTagWithTaskList();
+    }
+
+    /**
+     * Filters the tasks of the opened project by name, as {@code find} does.
+     */
+    @Benchmark
+    public List<Task> filterByName() {
+        model.updateFilteredTaskList(predicate);
+        return model.getFilteredTaskList();
+    }
+
+    /**
+     * Sorts the tasks of the opened project, which also commits the project and the project list.
+     */
+    @Benchmark
+    public CommandResult sortByDeadline(SortState state) {
+        return new SortByDeadlineCommand().execute(state.model, history);
+    }
+
+    /**
+     * A model of its own for each call of {@code sortByDeadline}, as sorting changes the order of the tasks and
+     * the undo history. Only the sort takes long enough for a setup before every call to be measured reliably.
+     */
+    @State(Scope.Thread)
+    public static class SortState {
+        private Model model;
+
+        @Setup(Level.Invocation)
+        public void setUp(ModelBenchmark benchmark) {
+            model = benchmark.createModel();
+        }
+    }
+}
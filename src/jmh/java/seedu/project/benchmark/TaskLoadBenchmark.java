@@ -0,0 +1,82 @@
+package seedu.project.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.project.commons.exceptions.IllegalValueException;
+import seedu.project.model.Name;
+import seedu.project.model.tag.Tag;
+import seedu.project.model.task.Deadline;
+import seedu.project.model.task.Description;
+import seedu.project.model.task.Task;
+import seedu.project.storage.JsonAdaptedTask;
+
+/**
+ * Measures turning the tasks read from a data file of 1M tasks into model tasks, which is where loading spends its
+ * time validating fields, and validating the fields alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskLoadBenchmark {
+
+    @Param({"1000000"})
+    private int taskCount;
+
+    private List<Task> tasks;
+    private List<JsonAdaptedTask> adaptedTasks;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.createTasks(taskCount);
+        adaptedTasks = new ArrayList<>(taskCount);
+        for (Task task : tasks) {
+            adaptedTasks.add(new JsonAdaptedTask(task));
+        }
+    }
+
+    /**
+     * Converts every task read from the data file into a model task, as loading does.
+     */
+    @Benchmark
+    public List<Task> toModelType() throws IllegalValueException {
+        List<Task> loaded = new ArrayList<>(adaptedTasks.size());
+        for (JsonAdaptedTask adaptedTask : adaptedTasks) {
+            loaded.add(adaptedTask.toModelType());
+        }
+        return loaded;
+    }
+
+    /**
+     * Validates every field of every task, as loading does.
+     */
+    @Benchmark
+    public int validate() {
+        int validCount = 0;
+        for (Task task : tasks) {
+            validCount += Name.isValidName(task.getName().fullName) ? 1 : 0;
+            validCount += Description.isValidDescription(task.getDescription().value) ? 1 : 0;
+            validCount += Deadline.isValidDeadline(task.getDeadline().value) ? 1 : 0;
+            for (Tag tag : task.getTags()) {
+                validCount += Tag.isValidTagName(tag.tagName) ? 1 : 0;
+            }
+        }
+        return validCount;
+    }
+}
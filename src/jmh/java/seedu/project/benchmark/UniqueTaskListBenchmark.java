@@ -0,0 +1,76 @@
+package seedu.project.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.project.model.task.Task;
+import seedu.project.model.task.UniqueTaskList;
+
+/**
+ * Measures adding, finding and replacing the tasks of a {@code UniqueTaskList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniqueTaskListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int taskCount;
+
+    private List<Task> tasks;
+    private UniqueTaskList taskList;
+    private Task lastTask;
+    private Task absentTask;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.createTasks(taskCount);
+        taskList = new UniqueTaskList();
+        taskList.setTasks(tasks);
+        lastTask = tasks.get(taskCount - 1);
+        absentTask = BenchmarkData.createTask(taskCount);
+    }
+
+    /**
+     * Adds {@code taskCount} tasks to an empty list, one at a time, as loading or adding tasks one by one does.
+     */
+    @Benchmark
+    public UniqueTaskList add() {
+        UniqueTaskList list = new UniqueTaskList();
+        for (Task task : tasks) {
+            list.add(task);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsLast() {
+        return taskList.contains(lastTask);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return taskList.contains(absentTask);
+    }
+
+    @Benchmark
+    public UniqueTaskList setTasks() {
+        taskList.setTasks(tasks);
+        return taskList;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.project.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.project.model.project.VersionedProject;
+
+/**
+ * Measures saving and restoring the undo history of a project.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VersionedProjectBenchmark {
+
+    // the history is cleared after this many commits, so that it does not grow for as long as the benchmark runs
+    private static final int MAX_STATES = 100;
+
+    @Param({"100", "1000", "10000"})
+    private int taskCount;
+
+    private VersionedProject project;
+    private int commitCount;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        project = new VersionedProject(BenchmarkData.createProject("Benchmark", taskCount));
+        project.commit();
+        commitCount = 1;
+    }
+
+    /**
+     * Saves the current state to the history, clearing the history every {@code MAX_STATES} commits.
+     */
+    @Benchmark
+    public VersionedProject commit() {
+        if (commitCount == MAX_STATES) {
+            project.clear();
+            project.populate(project);
+            commitCount = 0;
+        }
+        project.commit();
+        commitCount++;
+        return project;
+    }
+
+    /**
+     * Undoes the last commit and redoes it, so that there is always a commit to undo.
+     */
+    @Benchmark
+    public VersionedProject undoAndRedo() {
+        project.undo();
+        project.redo();
+        return project;
+    }
+}
@@ -0,0 +1,212 @@
+package seedu.project;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Logger;
+
+import seedu.project.commons.core.Config;
+import seedu.project.commons.core.LogsCenter;
+import seedu.project.commons.exceptions.DataConversionException;
+import seedu.project.commons.metrics.MetricsRegistry;
+import seedu.project.commons.metrics.SlowCommandLog;
+import seedu.project.commons.util.StringUtil;
+import seedu.project.logic.Logic;
+import seedu.project.logic.LogicManager;
+import seedu.project.logic.WorkloadRecorder;
+import seedu.project.logic.commands.CommandResult;
+import seedu.project.logic.commands.ResultSource;
+import seedu.project.logic.commands.exceptions.CommandException;
+import seedu.project.logic.parser.exceptions.ParseException;
+import seedu.project.model.Model;
+import seedu.project.model.UserPrefs;
+import seedu.project.server.ApiServer;
+import seedu.project.storage.JsonProjectListStorage;
+import seedu.project.storage.JsonUserPrefsStorage;
+import seedu.project.storage.ProjectListStorage;
+import seedu.project.storage.Storage;
+import seedu.project.storage.StorageManager;
+import seedu.project.storage.UserPrefsStorage;
+
+/**
+ * An entry point that runs the app without a GUI.
+ * Commands are read line by line from a script file, or from standard input if no file is given, and their
+ * results are written to standard output. The JavaFX toolkit is never started, and no FXML or web content
+ * is loaded.
+ * <p>
+ * Usage: {@code java -cp NoteNote.jar seedu.project.HeadlessApp [--config=CONFIG_FILE] [SCRIPT_FILE]}
+ * <p>
+ * With {@code --port=PORT}, the app instead serves its data and accepts commands over HTTP on that local port,
+ * until the process is stopped. See {@link ApiServer}.
+ */
+public class HeadlessApp {
+
+    public static final String MESSAGE_ERROR = "Error: %1$s";
+    public static final String MESSAGE_HELP_UNAVAILABLE = "The help window is not available in headless mode.";
+    public static final String MESSAGE_SERVING = "Serving the API at http://localhost:%1$d/api/";
+    public static final String MESSAGE_INVALID_PORT = "Invalid port: %1$s";
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String PORT_PARAMETER = "port";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final Model model;
+    private final Storage storage;
+
+    public HeadlessApp(Logic logic, Model model, Storage storage) {
+        this.logic = logic;
+        this.model = model;
+        this.storage = storage;
+    }
+
+    /**
+     * Creates a {@code HeadlessApp} from the same config, user prefs and data files as the GUI would use.
+     */
+    public static HeadlessApp create(AppParameters appParameters) {
+        logger.info("=============================[ Initializing Project (headless) ]=============================");
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        ProjectListStorage projectListStorage = new JsonProjectListStorage(userPrefs.getProjectListFilePath());
+        Storage storage = new StorageManager(projectListStorage, userPrefsStorage);
+
+        LogsCenter.init(config);
+        MetricsRegistry.getDefault().exportToPlatformMBeanServer();
+        SlowCommandLog.init(config);
+
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        WorkloadRecorder.init(config, model.getProjectList());
+        return new HeadlessApp(new LogicManager(model, storage), model, storage);
+    }
+
+    /**
+     * Executes each command read from {@code in}, writing its result or error to {@code out}.
+     * Blank lines and lines starting with {@code #} are skipped. Stops at the end of the input, or after a
+     * command asks the app to exit.
+     *
+     * @return the number of commands that failed.
+     */
+    public int run(BufferedReader in, PrintStream out) throws IOException {
+        int failedCount = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                // printed a page at a time, so that long results are never built as one string
+                ResultSource feedbackSource = commandResult.getFeedbackSource();
+                for (int i = 0; i < feedbackSource.getPageCount(); i++) {
+                    out.print(feedbackSource.getPage(i));
+                }
+                out.println();
+                if (commandResult.isShowHelp()) {
+                    out.println(MESSAGE_HELP_UNAVAILABLE);
+                }
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException | DataConversionException | IOException e) {
+                logger.info("Invalid command: " + commandText);
+                out.println(String.format(MESSAGE_ERROR, e.getMessage()));
+                failedCount++;
+            }
+        }
+        out.flush();
+        return failedCount;
+    }
+
+    /**
+     * Saves the user prefs, as the GUI does when it is closed.
+     */
+    public void stop() {
+        logger.info("============================ [ Stopping Project (headless) ] =============================");
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        SlowCommandLog.getDefault().close();
+        WorkloadRecorder.getDefault().close();
+    }
+
+    /**
+     * Serves the model over HTTP on the local {@code port} until the process is stopped, after which the user
+     * prefs are saved.
+     */
+    public void serve(int port) throws IOException, InterruptedException, ExecutionException {
+        ApiServer server = new ApiServer(model, storage, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            stop();
+        }));
+        System.out.println(String.format(MESSAGE_SERVING, server.getPort()));
+    }
+
+    /**
+     * Splits {@code args} into named parameters of the form {@code --name=value}, and an optional script path.
+     * Returns the named parameters, and stores the script path (or null) under the empty name.
+     */
+    private static Map<String, String> parseArguments(String[] args) {
+        Map<String, String> parameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > 0) {
+                parameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else {
+                parameters.put("", arg);
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Runs the commands in the script file given in {@code args}, or from standard input, then exits with a
+     * non-zero status if any command failed. Serves the API instead if a port is given.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        Map<String, String> parameters = parseArguments(args);
+        String scriptPath = parameters.remove("");
+
+        HeadlessApp app = create(AppParameters.parse(parameters));
+        String port = parameters.get(PORT_PARAMETER);
+        if (port != null) {
+            try {
+                app.serve(Integer.parseInt(port));
+                return;
+            } catch (NumberFormatException e) {
+                System.out.println(String.format(MESSAGE_INVALID_PORT, port));
+                System.exit(1);
+            }
+        }
+
+        int failedCount;
+        try (BufferedReader in = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8)) {
+            failedCount = app.run(in, System.out);
+        } finally {
+            app.stop();
+        }
+        System.exit(failedCount == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.project;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.project.commons.exceptions.DataConversionException;
+import seedu.project.commons.metrics.LatencyHistogram;
+import seedu.project.commons.metrics.SlowCommandLog;
+import seedu.project.commons.util.JsonUtil;
+import seedu.project.logic.Logic;
+import seedu.project.logic.LogicManager;
+import seedu.project.logic.WorkloadEntry;
+import seedu.project.logic.WorkloadRecorder;
+import seedu.project.logic.commands.exceptions.CommandException;
+import seedu.project.logic.parser.exceptions.ParseException;
+import seedu.project.model.Model;
+import seedu.project.model.UserPrefs;
+import seedu.project.storage.JsonProjectListStorage;
+import seedu.project.storage.JsonUserPrefsStorage;
+import seedu.project.storage.Storage;
+import seedu.project.storage.StorageManager;
+
+/**
+ * Replays a workload recorded by {@link WorkloadRecorder} without a GUI, and reports its throughput and the
+ * latencies of its commands.
+ * The commands are executed on a copy of the project list that they were recorded from, so that the recorded
+ * files are never changed and the workload can be replayed any number of times. They are replayed either flat out,
+ * one after another, or at the pace they were recorded at.
+ * <p>
+ * Usage: {@code java -cp NoteNote.jar seedu.project.WorkloadReplayer [--pace=recorded] WORKLOAD_FILE}
+ */
+public class WorkloadReplayer {
+
+    public static final String MESSAGE_USAGE = "Usage: WorkloadReplayer [--pace=recorded] WORKLOAD_FILE";
+    public static final String RECORDED_PACE_PARAMETER = "--pace=recorded";
+
+    private final Path workloadFile;
+    private final List<WorkloadEntry> entries;
+
+    /**
+     * Reads the workload recorded in {@code workloadFile}.
+     * @throws IOException if the file cannot be read or holds anything but workload entries.
+     */
+    public WorkloadReplayer(Path workloadFile) throws IOException {
+        requireNonNull(workloadFile);
+        this.workloadFile = workloadFile;
+        entries = new ArrayList<>();
+        for (String line : Files.readAllLines(workloadFile, StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                entries.add(JsonUtil.fromJsonString(line, WorkloadEntry.class));
+            }
+        }
+    }
+
+    public List<WorkloadEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Executes every command of the workload on a fresh copy of its starting project list, waiting before each
+     * command until as much time has passed as when it was recorded if {@code isRecordedPace} is true.
+     * @throws IOException if the starting project list cannot be copied.
+     */
+    public ReplayResult replay(boolean isRecordedPace) throws IOException, InterruptedException {
+        Path dataFile = Files.createTempFile("replay", ".json");
+        Path userPrefsFile = Files.createTempFile("replayPrefs", ".json");
+        try {
+            Files.copy(WorkloadRecorder.getStartingDataFile(workloadFile), dataFile,
+                    StandardCopyOption.REPLACE_EXISTING);
+            Storage storage = new StorageManager(new JsonProjectListStorage(dataFile),
+                    new JsonUserPrefsStorage(userPrefsFile));
+            Model model = AppInitializer.initModelManager(storage, new UserPrefs());
+            // the replay must neither be traced nor recorded as a workload of its own
+            Logic logic = new LogicManager(model, storage, new SlowCommandLog(SlowCommandLog.LOG_FILE, -1),
+                    new WorkloadRecorder(null));
+            return replay(logic, model, isRecordedPace);
+        } finally {
+            Files.deleteIfExists(dataFile);
+            Files.deleteIfExists(userPrefsFile);
+        }
+    }
+
+    /**
+     * Executes every command of the workload with {@code logic}.
+     */
+    private ReplayResult replay(Logic logic, Model model, boolean isRecordedPace) throws InterruptedException {
+        LatencyHistogram latencies = new LatencyHistogram();
+        int failedCount = 0;
+        int divergedCount = 0;
+        long start = System.nanoTime();
+        for (WorkloadEntry entry : entries) {
+            if (isRecordedPace) {
+                long waitNanos = start + TimeUnit.MILLISECONDS.toNanos(entry.getOffsetMillis()) - System.nanoTime();
+                if (waitNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+            }
+            // a different version means the model was changed in a way the workload did not record, e.g. by the API
+            // server starting, so the commands from here on may not behave as they did when recorded
+            if (model.getSnapshot().getVersion() != entry.getModelVersion()) {
+                divergedCount++;
+            }
+
+            long commandStart = System.nanoTime();
+            try {
+                logic.execute(entry.getCommandText());
+            } catch (CommandException | ParseException | DataConversionException | IOException e) {
+                failedCount++;
+            }
+            latencies.record(System.nanoTime() - commandStart);
+        }
+        return new ReplayResult(entries.size(), failedCount, divergedCount, System.nanoTime() - start, latencies);
+    }
+
+    /**
+     * Replays the workload file given in {@code args}, and prints its throughput and latencies.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        boolean isRecordedPace = false;
+        String workloadPath = null;
+        for (String arg : args) {
+            if (arg.equals(RECORDED_PACE_PARAMETER)) {
+                isRecordedPace = true;
+            } else {
+                workloadPath = arg;
+            }
+        }
+        if (workloadPath == null) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        ReplayResult result = new WorkloadReplayer(Paths.get(workloadPath)).replay(isRecordedPace);
+        for (String line : result.report(isRecordedPace)) {
+            System.out.println(line);
+        }
+        // the async log drain and other daemon threads need not be waited for
+        System.exit(0);
+    }
+
+    /**
+     * The throughput and latencies of a replay.
+     */
+    public static class ReplayResult {
+        private final int commandCount;
+        private final int failedCount;
+        private final int divergedCount;
+        private final long elapsedNanos;
+        private final LatencyHistogram latencies;
+
+        ReplayResult(int commandCount, int failedCount, int divergedCount, long elapsedNanos,
+                LatencyHistogram latencies) {
+            this.commandCount = commandCount;
+            this.failedCount = failedCount;
+            this.divergedCount = divergedCount;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        /**
+         * Returns the number of commands that were replayed on another version of the model than recorded.
+         */
+        public int getDivergedCount() {
+            return divergedCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        /**
+         * Returns the number of commands replayed per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : commandCount / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * Returns a report of the replay, one line at a time.
+         */
+        public List<String> report(boolean isRecordedPace) {
+            List<String> lines = new ArrayList<>();
+            lines.add(String.format("Replayed %d commands %s in %.3f s: %.1f commands/s", commandCount,
+                    isRecordedPace ? "at the recorded pace" : "flat out", elapsedNanos / 1e9, getThroughput()));
+            lines.add(String.format("Failed: %d, replayed on another model version than recorded: %d", failedCount,
+                    divergedCount));
+            lines.add(String.format("%-14s %9s %9s %9s %9s %9s", "latency (ms)", "mean", "p50", "p90", "p99",
+                    "max"));
+            lines.add(String.format("%-14s %9.3f %9.3f %9.3f %9.3f %9.3f", "", latencies.getMean() / 1e6,
+                    latencies.getPercentile(50) / 1e6, latencies.getPercentile(90) / 1e6,
+                    latencies.getPercentile(99) / 1e6, latencies.getMax() / 1e6));
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package seedu.project.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records over to a background thread, which publishes them to the actual
+ * handlers, so that logging never waits for the console or a file.
+ * Records are queued in a bounded, lock-free ring buffer. When the buffer is nearly full, records below
+ * {@code INFO} are dropped first, leaving the rest of the buffer to the more important records; records are only
+ * dropped at {@code INFO} and above when it is completely full. The number of dropped records is logged once the
+ * background thread catches up.
+ * The message of a record is formatted with its parameters before it is queued, as the parameters may be objects
+ * that change, or are not safe to read from another thread.
+ */
+public class AsyncHandler extends Handler {
+
+    public static final String DRAIN_THREAD_NAME = "Log Drain";
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Handler[] targets;
+    private final AtomicReferenceArray<LogRecord> slots;
+    private final int mask;
+    // records below INFO are dropped once this many records are waiting
+    private final int debugCapacity;
+    // the next sequence number to be claimed by a producer
+    private final AtomicLong tail = new AtomicLong();
+    // the next sequence number to be published by the drain thread; only ever written by the drain thread
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder droppedCount = new LongAdder();
+    private final Thread drainThread;
+    private volatile boolean isDrainThreadParked;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that publishes to {@code targets} through a ring buffer of at least {@code capacity}
+     * records, and starts its background thread.
+     */
+    public AsyncHandler(int capacity, Handler... targets) {
+        if (capacity < 4) {
+            throw new IllegalArgumentException("Capacity must be at least 4: " + capacity);
+        }
+        requireNonNull(targets);
+        this.targets = targets.clone();
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        slots = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+        debugCapacity = size - size / 4;
+
+        drainThread = new Thread(this::drainUntilClosed, DRAIN_THREAD_NAME);
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Queues {@code record} for the background thread. Never blocks.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the caller is found by walking the stack of the thread that logs, which the background thread cannot
+        // do; the logger name, which is the simple name of the logging class, is used instead
+        record.setSourceClassName(record.getLoggerName());
+        record.setSourceMethodName(null);
+        formatParameters(record);
+
+        int capacity = record.getLevel().intValue() < Level.INFO.intValue() ? debugCapacity : slots.length();
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head.get() >= capacity) {
+                droppedCount.increment();
+                return;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        slots.set((int) sequence & mask, record);
+        if (isDrainThreadParked) {
+            isDrainThreadParked = false;
+            LockSupport.unpark(drainThread);
+        }
+    }
+
+    /**
+     * Replaces the message of {@code record} with the message formatted with its parameters, if it has any, in the
+     * same way as {@code Formatter#formatMessage} would later.
+     */
+    private static void formatParameters(LogRecord record) {
+        Object[] parameters = record.getParameters();
+        String message = record.getMessage();
+        if (parameters == null || parameters.length == 0 || message == null) {
+            return;
+        }
+        if (message.contains("{0") || message.contains("{1") || message.contains("{2")
+                || message.contains("{3")) {
+            try {
+                record.setMessage(MessageFormat.format(message, parameters));
+            } catch (IllegalArgumentException e) {
+                // an invalid pattern is written as it is, as the formatter would do
+            }
+        }
+        record.setParameters(null);
+    }
+
+    /**
+     * Waits until the records queued so far have been published, then flushes the actual handlers.
+     */
+    @Override
+    public void flush() {
+        long queued = tail.get();
+        while (head.get() < queued && drainThread.isAlive()) {
+            LockSupport.unpark(drainThread);
+            Thread.yield();
+        }
+        for (Handler target : targets) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Publishes the records queued so far, stops the background thread and closes the actual handlers.
+     * Closing the handler again has no effect, as it is closed once for every logger it was added to when the
+     * logging system shuts down.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Handler target : targets) {
+            target.close();
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the ring buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Publishes queued records until the handler is closed and every queued record has been published.
+     */
+    private void drainUntilClosed() {
+        long reportedDropCount = 0;
+        while (true) {
+            boolean isClosing = isClosed;
+            if (drainAvailable()) {
+                continue;
+            }
+
+            long dropped = droppedCount.sum();
+            if (dropped > reportedDropCount) {
+                LogRecord warning = new LogRecord(Level.WARNING, (dropped - reportedDropCount)
+                        + " log records were dropped as they were logged faster than they could be written");
+                warning.setSourceClassName(AsyncHandler.class.getSimpleName());
+                publishToTargets(warning);
+                reportedDropCount = dropped;
+            }
+            if (isClosing) {
+                return;
+            }
+
+            isDrainThreadParked = true;
+            // a record queued just before the flag was set would otherwise wait for the whole park
+            if (slots.get((int) head.get() & mask) == null) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            isDrainThreadParked = false;
+        }
+    }
+
+    /**
+     * Publishes the records that are ready, in order. Returns true if any record was published.
+     */
+    private boolean drainAvailable() {
+        boolean hasPublished = false;
+        long sequence = head.get();
+        while (true) {
+            int index = (int) sequence & mask;
+            LogRecord record = slots.get(index);
+            if (record == null) {
+                // either nothing is queued, or the producer that claimed this slot has not filled it yet
+                return hasPublished;
+            }
+            slots.set(index, null);
+            publishToTargets(record);
+            // a record only leaves the buffer once published, so that flush() can wait for it
+            head.set(++sequence);
+            hasPublished = true;
+        }
+    }
+
+    /**
+     * Publishes {@code record} to every actual handler.
+     */
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
@@ -15,6 +15,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    // commands that take longer are traced in the slow command log; a negative threshold turns tracing off
+    private long slowCommandThresholdMillis = -1;
+    // every command executed is recorded to this file, to be replayed later; no file turns recording off
+    private Path workloadFilePath = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +36,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getSlowCommandThresholdMillis() {
+        return slowCommandThresholdMillis;
+    }
+
+    public void setSlowCommandThresholdMillis(long slowCommandThresholdMillis) {
+        this.slowCommandThresholdMillis = slowCommandThresholdMillis;
+    }
+
+    public Path getWorkloadFilePath() {
+        return workloadFilePath;
+    }
+
+    public void setWorkloadFilePath(Path workloadFilePath) {
+        this.workloadFilePath = workloadFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +64,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && slowCommandThresholdMillis == o.slowCommandThresholdMillis
+                && Objects.equals(workloadFilePath, o.workloadFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, slowCommandThresholdMillis, workloadFilePath);
     }
 
     @Override
@@ -57,6 +79,8 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nSlow command threshold (ms) : " + slowCommandThresholdMillis);
+        sb.append("\nWorkload file : " + workloadFilePath);
         return sb.toString();
     }
 
@@ -1,10 +1,16 @@
 package seedu.project.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -14,39 +20,49 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread (see {@link AsyncHandler}), so logging does not slow down the thread
+ *   that logs. To keep the cost of a message that is not logged near zero, log with parameters, such as
+ *   {@code logger.log(Level.FINE, "Opened {0}", project)}, instead of building the message by concatenation.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int BUFFER_CAPACITY = 1024;
     private static final String LOG_FILE = "project.log";
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncHandler asyncHandler;
+    // the loggers handed out so far, which are kept alive so that their level can be changed later
+    private static final Set<Logger> loggers = ConcurrentHashMap.newKeySet();
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The logging level is changed for the loggers obtained both before and after this initialization.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        getAsyncHandler().setLevel(currentLogLevel);
+        for (Logger existingLogger : loggers) {
+            existingLogger.setLevel(currentLogLevel);
+        }
+        logger.log(Level.INFO, "currentLogLevel: {0}", currentLogLevel);
     }
 
     /**
      * Creates a logger with the given name.
+     * The handlers of a logger are only set up the first time it is requested.
      */
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        if (logger.getUseParentHandlers()) {
+            logger.setUseParentHandlers(false);
+            removeHandlers(logger);
+            logger.addHandler(getAsyncHandler());
+        }
+        logger.setLevel(currentLogLevel);
+        loggers.add(logger);
 
-        return Logger.getLogger(name);
+        return logger;
     }
 
     /**
@@ -59,17 +75,6 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
-    /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
-     */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
-    }
-
     /**
      * Remove all the handlers from {@code logger}.
      */
@@ -79,18 +84,30 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the handler shared by all loggers, which writes to the console and the log file.
+     * Creates the handler if it is null.
      */
-    private static void addFileHandler(Logger logger) {
+    private static synchronized AsyncHandler getAsyncHandler() {
+        if (asyncHandler != null) {
+            return asyncHandler;
+        }
+
+        List<Handler> targets = new ArrayList<>();
+        targets.add(createConsoleHandler());
+        IOException fileHandlerException = null;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            targets.add(createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            fileHandlerException = e;
         }
+        asyncHandler = new AsyncHandler(BUFFER_CAPACITY, targets.toArray(new Handler[0]));
+        asyncHandler.setLevel(currentLogLevel);
+        if (fileHandlerException != null) {
+            LogRecord warning = new LogRecord(Level.WARNING, "Error adding file handler for logger.");
+            warning.setLoggerName(LogsCenter.class.getSimpleName());
+            asyncHandler.publish(warning);
+        }
+        return asyncHandler;
     }
 
     /**
@@ -100,13 +117,16 @@ public class LogsCenter {
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
         return fileHandler;
     }
 
+    /**
+     * Creates a {@code ConsoleHandler} that writes every message it is given, as the level of the messages is
+     * checked before they are queued.
+     */
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 }
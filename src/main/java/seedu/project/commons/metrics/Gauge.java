@@ -0,0 +1,18 @@
+package seedu.project.commons.metrics;
+
+/**
+ * The last observed value of a quantity that can go up and down, e.g. the number of tasks.
+ * The value is set by whoever owns the quantity, so that readers on other threads never touch the quantity itself.
+ */
+public class Gauge {
+
+    private volatile long value;
+
+    public void set(long value) {
+        this.value = value;
+    }
+
+    public long get() {
+        return value;
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.project.commons.metrics;
+
+/**
+ * The view of a {@code LatencyHistogram} exposed through JMX, in milliseconds.
+ * It is registered explicitly as an MXBean, so its name need not end with {@code MXBean}.
+ */
+public interface LatencyHistogramBean {
+
+    long getCount();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP90Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+}
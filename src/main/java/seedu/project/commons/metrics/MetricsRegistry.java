@@ -0,0 +1,278 @@
+package seedu.project.commons.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import seedu.project.commons.core.LogsCenter;
+
+/**
+ * Holds the counters, gauges and latency histograms of the application, by name.
+ * Metrics are created on first use and live as long as the registry. Looking up and updating metrics is lock-free,
+ * so metrics can be updated from any thread.
+ *
+ * The metrics can be exported as platform MBeans, to be watched with JConsole: each histogram as
+ * {@code seedu.project:type=Latency,name=<name>}, and all counters and gauges as the attributes of
+ * {@code seedu.project:type=Metrics}.
+ */
+public class MetricsRegistry {
+
+    public static final String JMX_DOMAIN = "seedu.project";
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsRegistry.class);
+    private static final MetricsRegistry DEFAULT_REGISTRY = new MetricsRegistry();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private volatile MBeanServer mbeanServer;
+
+    /**
+     * Returns the registry shared by the whole application.
+     */
+    public static MetricsRegistry getDefault() {
+        return DEFAULT_REGISTRY;
+    }
+
+    /**
+     * Returns the counter called {@code name}, creating it on first use.
+     */
+    public Counter counter(String name) {
+        requireNonNull(name);
+        return counters.computeIfAbsent(name, unused -> new Counter());
+    }
+
+    /**
+     * Returns the gauge called {@code name}, creating it on first use.
+     */
+    public Gauge gauge(String name) {
+        requireNonNull(name);
+        return gauges.computeIfAbsent(name, unused -> new Gauge());
+    }
+
+    /**
+     * Returns the histogram called {@code name}, creating it, and exporting it if the registry has been exported,
+     * on first use.
+     */
+    public LatencyHistogram histogram(String name) {
+        requireNonNull(name);
+        LatencyHistogram histogram = histograms.get(name);
+        if (histogram != null) {
+            return histogram;
+        }
+
+        LatencyHistogram created = new LatencyHistogram();
+        histogram = histograms.putIfAbsent(name, created);
+        if (histogram != null) {
+            return histogram;
+        }
+        if (mbeanServer != null) {
+            exportHistogram(mbeanServer, name, created);
+        }
+        return created;
+    }
+
+    /**
+     * Returns the counters, by name, in the order of their names.
+     */
+    public SortedMap<String, Counter> getCounters() {
+        return new TreeMap<>(counters);
+    }
+
+    /**
+     * Returns the gauges, by name, in the order of their names.
+     */
+    public SortedMap<String, Gauge> getGauges() {
+        return new TreeMap<>(gauges);
+    }
+
+    /**
+     * Returns the histograms, by name, in the order of their names.
+     */
+    public SortedMap<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Returns a report of all metrics, one per line: histograms with their counts and latencies in milliseconds,
+     * followed by counters and gauges.
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-40s %7s %9s %9s %9s %9s %9s", "latency (ms)", "count", "mean", "p50", "p90",
+                "p99", "max"));
+        for (Map.Entry<String, LatencyHistogram> entry : getHistograms().entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            lines.add(String.format("%-40s %7d %9.3f %9.3f %9.3f %9.3f %9.3f", entry.getKey(), histogram.getCount(),
+                    toMillis(histogram.getMean()), toMillis(histogram.getPercentile(50)),
+                    toMillis(histogram.getPercentile(90)), toMillis(histogram.getPercentile(99)),
+                    toMillis(histogram.getMax())));
+        }
+        for (Map.Entry<String, Counter> entry : getCounters().entrySet()) {
+            lines.add(String.format("%-40s %d", entry.getKey(), entry.getValue().get()));
+        }
+        for (Map.Entry<String, Gauge> entry : getGauges().entrySet()) {
+            lines.add(String.format("%-40s %d", entry.getKey(), entry.getValue().get()));
+        }
+        return lines;
+    }
+
+    /**
+     * Exports the metrics as MBeans of the platform MBean server. Histograms created later are exported as they
+     * are created. Failures are logged, as metrics are not essential to the application.
+     */
+    public synchronized void exportToPlatformMBeanServer() {
+        if (mbeanServer != null) {
+            return;
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(new CountersAndGaugesMBean(), new ObjectName(JMX_DOMAIN + ":type=Metrics"));
+        } catch (JMException e) {
+            logger.warning("Could not export metrics: " + e);
+            return;
+        }
+        mbeanServer = server;
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            exportHistogram(server, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Exports {@code histogram} as an MBean of {@code server}.
+     */
+    private static void exportHistogram(MBeanServer server, String name, LatencyHistogram histogram) {
+        try {
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=Latency,name=" + ObjectName.quote(name));
+            server.registerMBean(new StandardMBean(new HistogramView(histogram), LatencyHistogramBean.class, true),
+                    objectName);
+        } catch (JMException e) {
+            logger.warning("Could not export latency histogram " + name + ": " + e);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * Exposes a {@code LatencyHistogram} through JMX.
+     */
+    private static class HistogramView implements LatencyHistogramBean {
+        private final LatencyHistogram histogram;
+
+        HistogramView(LatencyHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public long getCount() {
+            return histogram.getCount();
+        }
+
+        @Override
+        public double getMeanMillis() {
+            return toMillis(histogram.getMean());
+        }
+
+        @Override
+        public double getP50Millis() {
+            return toMillis(histogram.getPercentile(50));
+        }
+
+        @Override
+        public double getP90Millis() {
+            return toMillis(histogram.getPercentile(90));
+        }
+
+        @Override
+        public double getP99Millis() {
+            return toMillis(histogram.getPercentile(99));
+        }
+
+        @Override
+        public double getMaxMillis() {
+            return toMillis(histogram.getMax());
+        }
+    }
+
+    /**
+     * Exposes every counter and gauge as a read-only attribute of one MBean. The attributes follow the counters and
+     * gauges that exist at the time they are listed.
+     */
+    private class CountersAndGaugesMBean implements DynamicMBean {
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            Counter counter = counters.get(attribute);
+            if (counter != null) {
+                return counter.get();
+            }
+            Gauge gauge = gauges.get(attribute);
+            if (gauge != null) {
+                return gauge.get();
+            }
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                try {
+                    list.add(new Attribute(attribute, getAttribute(attribute)));
+                } catch (AttributeNotFoundException e) {
+                    // attributes that do not exist are left out, as the JMX specification allows
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            throw new UnsupportedOperationException(actionName);
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> attributes = new ArrayList<>();
+            for (String name : getCounters().keySet()) {
+                attributes.add(new MBeanAttributeInfo(name, "long", "Counter " + name, true, false, false));
+            }
+            for (String name : getGauges().keySet()) {
+                attributes.add(new MBeanAttributeInfo(name, "long", "Gauge " + name, true, false, false));
+            }
+            return new MBeanInfo(MetricsRegistry.class.getName(), "Counters and gauges of the application",
+                    attributes.toArray(new MBeanAttributeInfo[0]), null, null, null);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.project.commons.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The time spent, and the memory allocated, in each phase of the command being run on the current thread, and the
+ * number of list changes it fired.
+ * The phases that run nested inside others, such as the commits made while a command executes, are recorded with
+ * {@link #recordNested(Phase, long, long)} by the code that runs them, which need not know whether a command is
+ * being timed at all.
+ */
+public class PhaseTimes {
+
+    /**
+     * The phases of a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, COMMIT, SAVE;
+
+        /** The name of the phase as used in metric names. */
+        public String getMetricName() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final ThreadLocal<PhaseTimes> CURRENT = new ThreadLocal<>();
+    // only HotSpot-based JVMs can count the bytes allocated by a thread; elsewhere allocations are reported as 0
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+    private final long[] nanos = new long[Phase.values().length];
+    private final long[] allocatedBytes = new long[Phase.values().length];
+    private int listChangeCount;
+
+    private PhaseTimes() {}
+
+    /**
+     * Starts timing a command on the current thread.
+     */
+    public static PhaseTimes start() {
+        PhaseTimes phaseTimes = new PhaseTimes();
+        CURRENT.set(phaseTimes);
+        return phaseTimes;
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread, or 0 if the JVM cannot tell.
+     * Only the difference between two readings is meaningful.
+     */
+    public static long getThreadAllocatedBytes() {
+        return ALLOCATION_BEAN == null ? 0 : ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Adds {@code elapsedNanos} and {@code bytes} to the time spent and memory allocated in {@code phase} by the
+     * command being timed on the current thread, if any.
+     */
+    public static void recordNested(Phase phase, long elapsedNanos, long bytes) {
+        PhaseTimes current = CURRENT.get();
+        if (current != null) {
+            current.record(phase, elapsedNanos, bytes);
+        }
+    }
+
+    /**
+     * Counts a list change fired by the command being timed on the current thread, if any.
+     */
+    public static void recordListChange() {
+        PhaseTimes current = CURRENT.get();
+        if (current != null) {
+            current.listChangeCount++;
+        }
+    }
+
+    /**
+     * Adds {@code elapsedNanos} and {@code bytes} to the time spent and memory allocated in {@code phase}.
+     */
+    public void record(Phase phase, long elapsedNanos, long bytes) {
+        nanos[phase.ordinal()] += elapsedNanos;
+        allocatedBytes[phase.ordinal()] += bytes;
+    }
+
+    /**
+     * Stops timing the command on the current thread. Nested phases are no longer recorded afterwards.
+     */
+    public void stop() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public long getAllocatedBytes(Phase phase) {
+        return allocatedBytes[phase.ordinal()];
+    }
+
+    public int getListChangeCount() {
+        return listChangeCount;
+    }
+
+    /**
+     * Returns the platform thread bean if it can count allocated bytes, enabling the counting if needed.
+     */
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return allocationBean;
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.project.commons.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import seedu.project.commons.core.Config;
+import seedu.project.commons.core.LogsCenter;
+import seedu.project.commons.util.JsonUtil;
+
+/**
+ * Traces the commands that take longer than a threshold, one JSON object per line, to a file of its own.
+ * Like the log file of {@link LogsCenter}, the file rolls over to a new numbered file once it reaches
+ * {@code MAX_FILE_SIZE_IN_BYTES}, up to {@code MAX_FILE_COUNT} files. The file is only opened when the first slow
+ * command is traced.
+ */
+public class SlowCommandLog {
+
+    public static final String LOG_FILE = "slow-commands.%g.jsonl";
+
+    private static final int MAX_FILE_COUNT = 3;
+    private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final Logger logger = LogsCenter.getLogger(SlowCommandLog.class);
+    private static SlowCommandLog defaultLog = new SlowCommandLog(LOG_FILE, -1);
+
+    private final String filePattern;
+    private final long thresholdNanos;
+    private FileHandler fileHandler;
+    private boolean hasFailed;
+
+    /**
+     * Creates a log that writes to the files named by {@code filePattern}, in the format of {@link FileHandler},
+     * the commands that take longer than {@code thresholdMillis}. Nothing is traced if the threshold is negative.
+     */
+    public SlowCommandLog(String filePattern, long thresholdMillis) {
+        this.filePattern = filePattern;
+        this.thresholdNanos = thresholdMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    /**
+     * Sets up the log used by the whole application with the threshold specified in {@code config}.
+     */
+    public static synchronized void init(Config config) {
+        defaultLog.close();
+        defaultLog = new SlowCommandLog(LOG_FILE, config.getSlowCommandThresholdMillis());
+        logger.info("Slow command threshold (ms): " + config.getSlowCommandThresholdMillis());
+    }
+
+    /**
+     * Returns the log used by the whole application.
+     */
+    public static synchronized SlowCommandLog getDefault() {
+        return defaultLog;
+    }
+
+    /**
+     * Returns true if a command that took {@code totalNanos} should be traced.
+     */
+    public boolean isSlow(long totalNanos) {
+        return thresholdNanos >= 0 && totalNanos > thresholdNanos;
+    }
+
+    /**
+     * Appends {@code record} to the log as a line of JSON. Failures are logged once and the log is then turned off,
+     * as tracing is not essential to the application.
+     */
+    public synchronized void log(Map<String, Object> record) {
+        if (hasFailed) {
+            return;
+        }
+
+        try {
+            if (fileHandler == null) {
+                fileHandler = createFileHandler();
+            }
+            fileHandler.publish(new LogRecord(Level.INFO, JsonUtil.toJsonLine(record)));
+        } catch (IOException e) {
+            hasFailed = true;
+            logger.warning("Could not write to the slow command log, tracing stopped: " + e);
+        }
+    }
+
+    /**
+     * Closes the file of the log, if it was opened. Commands traced afterwards open it again.
+     */
+    public synchronized void close() {
+        if (fileHandler != null) {
+            fileHandler.close();
+            fileHandler = null;
+        }
+    }
+
+    /**
+     * Creates a {@code FileHandler} that writes each message as it is, on a line of its own.
+     * @throws IOException if there are problems opening the file.
+     */
+    private FileHandler createFileHandler() throws IOException {
+        FileHandler handler = new FileHandler(filePattern, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + "\n";
+            }
+        });
+        return handler;
+    }
+}
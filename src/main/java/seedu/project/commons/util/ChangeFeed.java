@@ -0,0 +1,26 @@
+package seedu.project.commons.util;
+
+/**
+ * A source of {@code ListChange}s, for code that needs to follow a list as it changes.
+ * Unlike JavaFX's observable lists, a change feed does not build any change objects while nobody listens.
+ */
+public interface ChangeFeed<T> {
+
+    /**
+     * Starts sending each subsequent change to {@code listener}.
+     */
+    void addListener(Listener<T> listener);
+
+    /**
+     * Stops sending changes to {@code listener}.
+     */
+    void removeListener(Listener<T> listener);
+
+    /**
+     * Receives the changes of a {@code ChangeFeed}, after they have been made.
+     */
+    @FunctionalInterface
+    interface Listener<T> {
+        void onChanged(ListChange<T> change);
+    }
+}
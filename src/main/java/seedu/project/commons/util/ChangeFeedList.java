@@ -0,0 +1,129 @@
+package seedu.project.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import seedu.project.commons.metrics.PhaseTimes;
+
+/**
+ * A plain array-backed list that reports each change to its {@code ChangeFeed} listeners.
+ * Change objects are only created while there are listeners.
+ * Listeners are kept in a copy-on-write list, so that notifying them never copies anything.
+ */
+public class ChangeFeedList<T> extends AbstractList<T> implements RandomAccess, ChangeFeed<T> {
+
+    private final ArrayList<T> elements = new ArrayList<>();
+    private List<Listener<T>> listeners = Collections.emptyList();
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public void add(int index, T element) {
+        elements.add(index, element);
+        modCount++;
+        if (!listeners.isEmpty()) {
+            fireChange(ListChange.added(index, element));
+        }
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T removed = elements.set(index, element);
+        if (!listeners.isEmpty()) {
+            fireChange(ListChange.replaced(index, removed, element));
+        }
+        return removed;
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = elements.remove(index);
+        modCount++;
+        if (!listeners.isEmpty()) {
+            fireChange(ListChange.removed(index, removed));
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces the whole contents of this list with {@code replacement}.
+     * If the size of the list stays the same and only one element is not the very same as before, this is reported
+     * as a single {@code REPLACED} change, otherwise as a single {@code RESET}, so that listeners never have to
+     * follow one change for each element, e.g. when the list is sorted.
+     */
+    public void setAll(Collection<? extends T> replacement) {
+        requireNonNull(replacement);
+        if (!listeners.isEmpty() && replacement.size() == elements.size()) {
+            int replacedCount = 0;
+            int replacedIndex = -1;
+            T replacingElement = null;
+            int index = 0;
+            for (T element : replacement) {
+                if (elements.get(index) != element && ++replacedCount == 1) {
+                    replacedIndex = index;
+                    replacingElement = element;
+                }
+                index++;
+            }
+            if (replacedCount == 0) {
+                return;
+            }
+            if (replacedCount == 1) {
+                set(replacedIndex, replacingElement);
+                return;
+            }
+        }
+
+        elements.clear();
+        elements.addAll(replacement);
+        modCount++;
+        if (!listeners.isEmpty()) {
+            fireChange(ListChange.reset());
+        }
+    }
+
+    @Override
+    public void clear() {
+        setAll(Collections.emptyList());
+    }
+
+    @Override
+    public void addListener(Listener<T> listener) {
+        requireNonNull(listener);
+        List<Listener<T>> updatedListeners = new ArrayList<>(listeners);
+        updatedListeners.add(listener);
+        listeners = Collections.unmodifiableList(updatedListeners);
+    }
+
+    @Override
+    public void removeListener(Listener<T> listener) {
+        requireNonNull(listener);
+        List<Listener<T>> updatedListeners = new ArrayList<>(listeners);
+        updatedListeners.remove(listener);
+        listeners = Collections.unmodifiableList(updatedListeners);
+    }
+
+    /**
+     * Sends {@code change} to every listener, counting it as a list change of the command being run, if any.
+     */
+    private void fireChange(ListChange<T> change) {
+        PhaseTimes.recordListChange();
+        for (Listener<T> listener : listeners) {
+            listener.onChanged(change);
+        }
+    }
+}
@@ -6,12 +6,17 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import seedu.project.commons.metrics.Counter;
+import seedu.project.commons.metrics.MetricsRegistry;
+
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final Counter BYTES_READ = MetricsRegistry.getDefault().counter("storage.bytesRead");
+    private static final Counter BYTES_WRITTEN = MetricsRegistry.getDefault().counter("storage.bytesWritten");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -69,7 +74,9 @@ public class FileUtil {
      * Assumes file exists
      */
     public static String readFromFile(Path file) throws IOException {
-        return new String(Files.readAllBytes(file), CHARSET);
+        byte[] bytes = Files.readAllBytes(file);
+        BYTES_READ.add(bytes.length);
+        return new String(bytes, CHARSET);
     }
 
     /**
@@ -77,7 +84,9 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes);
+        BYTES_WRITTEN.add(bytes.length);
     }
 
 }
@@ -0,0 +1,134 @@
+package seedu.project.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable view of the elements of a source list that match a predicate.
+ * The view follows the source through its {@code ChangeFeed}, updating itself element by element, or filtering the
+ * whole source once when it is reset, and reports its own changes through a {@code ChangeFeed} in turn.
+ */
+public class FilteredView<T> extends AbstractList<T> implements RandomAccess, ChangeFeed<T> {
+
+    private final List<T> source;
+    private final ChangeFeedList<T> filtered = new ChangeFeedList<>();
+    private Predicate<? super T> predicate;
+
+    /**
+     * Creates a view of all elements of {@code source}, which reports its changes through {@code sourceFeed}.
+     */
+    public FilteredView(List<T> source, ChangeFeed<T> sourceFeed) {
+        requireNonNull(source);
+        requireNonNull(sourceFeed);
+        this.source = source;
+        refilter();
+        sourceFeed.addListener(this::onSourceChanged);
+    }
+
+    @Override
+    public T get(int index) {
+        return filtered.get(index);
+    }
+
+    @Override
+    public int size() {
+        return filtered.size();
+    }
+
+    /**
+     * Returns the predicate elements must match to be in this view, or null if all elements are.
+     */
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows only the elements of the source that match {@code predicate}, or all elements if it is null.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        this.predicate = predicate;
+        refilter();
+    }
+
+    @Override
+    public void addListener(Listener<T> listener) {
+        filtered.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(Listener<T> listener) {
+        filtered.removeListener(listener);
+    }
+
+    private boolean matches(T element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    /**
+     * Rebuilds this view from the whole source.
+     */
+    private void refilter() {
+        List<T> matching = new ArrayList<>();
+        for (T element : source) {
+            if (matches(element)) {
+                matching.add(element);
+            }
+        }
+        filtered.setAll(matching);
+    }
+
+    /**
+     * Returns the index in this view of the element at {@code sourceIndex} in the source, that is, the number of
+     * matching elements before it.
+     */
+    private int toViewIndex(int sourceIndex) {
+        if (predicate == null) {
+            return sourceIndex;
+        }
+
+        int viewIndex = 0;
+        for (int i = 0; i < sourceIndex; i++) {
+            if (predicate.test(source.get(i))) {
+                viewIndex++;
+            }
+        }
+        return viewIndex;
+    }
+
+    /**
+     * Applies {@code change} of the source to this view.
+     */
+    private void onSourceChanged(ListChange<T> change) {
+        switch (change.getType()) {
+        case ADDED:
+            if (matches(change.getAdded())) {
+                filtered.add(toViewIndex(change.getIndex()), change.getAdded());
+            }
+            break;
+        case REMOVED:
+            if (matches(change.getRemoved())) {
+                filtered.remove(toViewIndex(change.getIndex()));
+            }
+            break;
+        case REPLACED:
+            int viewIndex = toViewIndex(change.getIndex());
+            boolean wasMatching = matches(change.getRemoved());
+            boolean isMatching = matches(change.getAdded());
+            if (wasMatching && isMatching) {
+                filtered.set(viewIndex, change.getAdded());
+            } else if (wasMatching) {
+                filtered.remove(viewIndex);
+            } else if (isMatching) {
+                filtered.add(viewIndex, change.getAdded());
+            }
+            break;
+        default:
+            refilter();
+        }
+    }
+}
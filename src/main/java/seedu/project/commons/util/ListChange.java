@@ -0,0 +1,80 @@
+package seedu.project.commons.util;
+
+/**
+ * Describes a single change to a list that reports its changes through a {@code ChangeFeed}.
+ * Guarantees: immutable.
+ */
+public class ListChange<T> {
+
+    /**
+     * The kinds of changes a list can go through.
+     */
+    public enum Type {
+        /** {@code getAdded()} was inserted at {@code getIndex()}. */
+        ADDED,
+        /** {@code getRemoved()} was removed from {@code getIndex()}. */
+        REMOVED,
+        /** {@code getRemoved()} at {@code getIndex()} was replaced by {@code getAdded()}. */
+        REPLACED,
+        /** The whole contents of the list were replaced. */
+        RESET
+    }
+
+    private final Type type;
+    private final int index;
+    private final T removed;
+    private final T added;
+
+    private ListChange(Type type, int index, T removed, T added) {
+        this.type = type;
+        this.index = index;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    public static <T> ListChange<T> added(int index, T added) {
+        return new ListChange<>(Type.ADDED, index, null, added);
+    }
+
+    public static <T> ListChange<T> removed(int index, T removed) {
+        return new ListChange<>(Type.REMOVED, index, removed, null);
+    }
+
+    public static <T> ListChange<T> replaced(int index, T removed, T added) {
+        return new ListChange<>(Type.REPLACED, index, removed, added);
+    }
+
+    public static <T> ListChange<T> reset() {
+        return new ListChange<>(Type.RESET, -1, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index the change happened at, or -1 for a {@code RESET}.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the element that was removed or replaced, or null if there is none.
+     */
+    public T getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the element that was added or that replaced another, or null if there is none.
+     */
+    public T getAdded() {
+        return added;
+    }
+
+    @Override
+    public String toString() {
+        return type + "@" + index + " " + removed + " -> " + added;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.project.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Manages a list of listeners of type {@code L}.
+ * The listeners are kept in a copy-on-write array: adding or removing a listener copies the array, so that calling
+ * the listeners, which happens far more often, never does.
+ */
+public class ListenerManager<L> {
+    private Object[] listeners = new Object[0];
+
+    /**
+     * Calls {@code call} on all added listeners.
+     * Any modifications to the listeners list during the invocation of this method
+     * will only take effect on the next invocation of this method.
+     */
+    @SuppressWarnings("unchecked")
+    public void callListeners(Consumer<? super L> call) {
+        // the array is never modified in place, so changes made by the listeners do not affect this loop
+        Object[] currentListeners = listeners;
+
+        for (Object listener : currentListeners) {
+            call.accept((L) listener);
+        }
+    }
+
+    /**
+     * Returns true if no listener has been added.
+     * Lets callers skip building an event that nobody would receive.
+     */
+    public boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    /**
+     * Adds {@code listener} to the list of listeners.
+     * If the same listener is added more that once, then it will be notified more than once.
+     */
+    public void addListener(L listener) {
+        requireNonNull(listener);
+        Object[] updatedListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        updatedListeners[listeners.length] = listener;
+        listeners = updatedListeners;
+    }
+
+    /**
+     * Removes {@code listener} from the list of listeners.
+     * If the given listener was not previously added, then this method call is a no-op.
+     * If the given listener was added more than once, then only the first occurrence in the list will be removed.
+     */
+    public void removeListener(L listener) {
+        requireNonNull(listener);
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                Object[] updatedListeners = new Object[listeners.length - 1];
+                System.arraycopy(listeners, 0, updatedListeners, 0, i);
+                System.arraycopy(listeners, i + 1, updatedListeners, i, listeners.length - i - 1);
+                listeners = updatedListeners;
+                return;
+            }
+        }
+    }
+
+}
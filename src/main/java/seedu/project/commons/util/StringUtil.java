@@ -5,7 +5,6 @@ import static seedu.project.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -29,13 +28,48 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(indexOfWhitespace(preppedWord, 0, true) == preppedWord.length(),
+                "Word parameter should be a single word");
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        // the words of the sentence are compared where they are, as this runs for every task on every find
+        int wordLength = preppedWord.length();
+        int wordStart = indexOfWhitespace(sentence, 0, false);
+        while (wordStart < sentence.length()) {
+            int wordEnd = indexOfWhitespace(sentence, wordStart, true);
+            if (wordEnd - wordStart == wordLength
+                    && sentence.regionMatches(true, wordStart, preppedWord, 0, wordLength)) {
+                return true;
+            }
+            wordStart = indexOfWhitespace(sentence, wordEnd, false);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first character of {@code s}, from {@code fromIndex}, that is whitespace if
+     * {@code isWhitespace} is true, or that is not whitespace otherwise, or the length of {@code s} if there is none.
+     * Whitespace is as matched by {@code \s} in regular expressions.
+     */
+    private static int indexOfWhitespace(String s, int fromIndex, boolean isWhitespace) {
+        int index = fromIndex;
+        while (index < s.length() && isWhitespace(s.charAt(index)) != isWhitespace) {
+            index++;
+        }
+        return index;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in regular expressions.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} in regular expressions.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 
     /**
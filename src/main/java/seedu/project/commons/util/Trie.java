@@ -0,0 +1,200 @@
+package seedu.project.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maps strings to values, and finds all keys that start with a given prefix in time proportional to the length of
+ * the prefix plus the number of keys returned, rather than to the number of keys stored.
+ * Keys are kept in lexicographic order. Null values are not allowed.
+ */
+public class Trie<V> {
+
+    private final Node<V> root = new Node<>();
+    private int size;
+
+    /**
+     * Associates {@code value} with {@code key}, replacing any value previously associated with it.
+     *
+     * @return the previous value associated with {@code key}, or null if there was none
+     */
+    public V put(String key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node.descendantCount++;
+            node = node.getOrCreateChild(key.charAt(i));
+        }
+        node.descendantCount++;
+
+        V previous = node.value;
+        node.value = value;
+        if (previous != null) {
+            undoCount(key);
+        } else {
+            size++;
+        }
+        return previous;
+    }
+
+    /**
+     * Returns the value associated with {@code key}, or null if there is none.
+     */
+    public V get(String key) {
+        Node<V> node = find(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Removes the value associated with {@code key}, if any.
+     *
+     * @return the removed value, or null if there was none
+     */
+    public V remove(String key) {
+        Node<V> node = find(key);
+        if (node == null || node.value == null) {
+            return null;
+        }
+
+        V removed = node.value;
+        node.value = null;
+        undoCount(key);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns the number of keys in this trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of keys in this trie that start with {@code prefix}.
+     */
+    public int countWithPrefix(String prefix) {
+        Node<V> node = find(prefix);
+        return node == null ? 0 : node.descendantCount;
+    }
+
+    /**
+     * Returns the keys that start with {@code prefix}, in lexicographic order, stopping after {@code limit} keys.
+     */
+    public List<String> keysWithPrefix(String prefix, int limit) {
+        List<String> keys = new ArrayList<>();
+        Node<V> node = find(prefix);
+        if (node != null && limit > 0) {
+            collectKeys(node, new StringBuilder(prefix), keys, limit);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the values of the keys that start with {@code prefix}, in the lexicographic order of their keys,
+     * stopping after {@code limit} values.
+     */
+    public List<V> valuesWithPrefix(String prefix, int limit) {
+        List<V> values = new ArrayList<>();
+        Node<V> node = find(prefix);
+        if (node != null && limit > 0) {
+            collectValues(node, values, limit);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the node reached by following {@code key} from the root, or null if there is none.
+     */
+    private Node<V> find(String key) {
+        requireNonNull(key);
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.getChild(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Decrements the key counts along {@code key}, pruning the nodes that no longer lead to any key.
+     */
+    private void undoCount(String key) {
+        Node<V> node = root;
+        node.descendantCount--;
+        for (int i = 0; i < key.length(); i++) {
+            Node<V> child = node.getChild(key.charAt(i));
+            child.descendantCount--;
+            if (child.descendantCount == 0) {
+                node.children.remove(key.charAt(i));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Adds the keys at and below {@code node}, which is reached by {@code key}, to {@code keys}, until there are
+     * {@code limit} keys.
+     */
+    private static <V> void collectKeys(Node<V> node, StringBuilder key, List<String> keys, int limit) {
+        if (node.value != null) {
+            keys.add(key.toString());
+        }
+        if (node.children == null) {
+            return;
+        }
+        for (Map.Entry<Character, Node<V>> child : node.children.entrySet()) {
+            if (keys.size() >= limit) {
+                return;
+            }
+            key.append(child.getKey());
+            collectKeys(child.getValue(), key, keys, limit);
+            key.setLength(key.length() - 1);
+        }
+    }
+
+    /**
+     * Adds the values at and below {@code node} to {@code values}, until there are {@code limit} values.
+     */
+    private static <V> void collectValues(Node<V> node, List<V> values, int limit) {
+        if (node.value != null) {
+            values.add(node.value);
+        }
+        if (node.children == null) {
+            return;
+        }
+        for (Node<V> child : node.children.values()) {
+            if (values.size() >= limit) {
+                return;
+            }
+            collectValues(child, values, limit);
+        }
+    }
+
+    /**
+     * A node of the trie, holding the value of the key that ends at it, if any.
+     */
+    private static class Node<V> {
+        private TreeMap<Character, Node<V>> children;
+        private V value;
+        // the number of keys that end at this node or below it
+        private int descendantCount;
+
+        Node<V> getChild(char c) {
+            return children == null ? null : children.get(c);
+        }
+
+        Node<V> getOrCreateChild(char c) {
+            if (children == null) {
+                children = new TreeMap<>();
+            }
+            return children.computeIfAbsent(c, unused -> new Node<>());
+        }
+    }
+}
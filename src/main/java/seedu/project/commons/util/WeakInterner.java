@@ -0,0 +1,45 @@
+package seedu.project.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Hands out one canonical value for each key, so that equal values created from the same key are shared rather
+ * than each held separately, and can be compared by identity.
+ * Neither keys nor values are kept alive by the interner: once a value is no longer used elsewhere, it and its
+ * entry are garbage collected. Values should hold on to the key they were created from, as otherwise their entry
+ * may be dropped while they are still in use, and an equal value handed out for the key afterwards.
+ * Safe to use from several threads.
+ */
+public class WeakInterner<K, V> {
+
+    private final Map<K, WeakReference<V>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical value for {@code key}, creating it with {@code factory} if there is none.
+     */
+    public synchronized V intern(K key, Function<? super K, ? extends V> factory) {
+        requireNonNull(key);
+        WeakReference<V> reference = pool.get(key);
+        V value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = requireNonNull(factory.apply(key));
+            // an entry whose value was collected keeps its old key on put, which the new value does not hold on to
+            pool.remove(key);
+            pool.put(key, new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of keys that may still have a canonical value. Values that have been garbage collected
+     * are only counted until their entry is dropped.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
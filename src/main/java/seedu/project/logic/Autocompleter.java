@@ -0,0 +1,390 @@
+package seedu.project.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.project.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.project.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.project.logic.parser.CliSyntax.PREFIX_GROUPTAG;
+import static seedu.project.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.project.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.project.logic.parser.CliSyntax.PREFIX_OUTPUT;
+import static seedu.project.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import seedu.project.commons.util.Trie;
+import seedu.project.logic.parser.CommandRegistry;
+import seedu.project.logic.parser.Prefix;
+import seedu.project.model.ModelChange;
+import seedu.project.model.ModelChangeListener;
+import seedu.project.model.Name;
+import seedu.project.model.ReadOnlyProjectList;
+import seedu.project.model.project.Project;
+import seedu.project.model.tag.GroupTag;
+import seedu.project.model.tag.TagSet;
+import seedu.project.model.task.Task;
+
+/**
+ * Suggests completions of partially typed commands: command words, prefixes, project and task names after
+ * {@code n/}, and tag names after {@code t/} and {@code gt/}.
+ *
+ * The names are kept in tries, so that looking up the completions of a word costs time proportional to the length
+ * of the word rather than to the size of the model. The tries are kept up to date from the {@code ModelChange}s of
+ * the project list and its projects, and are only ever touched by a thread of their own, which also computes the
+ * suggestions. Model changes are therefore turned into lists of names on the thread that made them, and applied to
+ * the tries later.
+ */
+public class Autocompleter {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final List<Prefix> PREFIXES = Arrays.asList(PREFIX_NAME, PREFIX_DESCRIPTION, PREFIX_DEADLINE,
+            PREFIX_GROUPTAG, PREFIX_TAG, PREFIX_INDEX, PREFIX_OUTPUT);
+
+    private final CommandRegistry registry;
+    private final ReadOnlyProjectList projectList;
+
+    // Only accessed by the executor. Each name is mapped to the number of times it occurs in the model.
+    private final Trie<Integer> names = new Trie<>();
+    private final Trie<Integer> tags = new Trie<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autocompleter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only accessed by the thread that changes the model. Holds what has been indexed of each project, by name.
+    private final Map<String, IndexedProject> indexedProjects = new HashMap<>();
+    private final ModelChangeListener projectListener = this::handleProjectChange;
+    private List<String> indexedGroupTagNames = Collections.emptyList();
+
+    /**
+     * Creates an {@code Autocompleter} that follows {@code projectList}.
+     * Must be called on the thread that changes the project list, or while nothing changes it.
+     */
+    public Autocompleter(ReadOnlyProjectList projectList, CommandRegistry registry) {
+        requireNonNull(projectList);
+        requireNonNull(registry);
+        this.projectList = projectList;
+        this.registry = registry;
+        reconcileProjects();
+        reindexGroupTags();
+        projectList.addListener(this::handleProjectListChange);
+    }
+
+    /**
+     * Computes, off the calling thread, up to {@code MAX_SUGGESTIONS} completions of {@code input}.
+     * Each completion is the whole input as it would be once completed.
+     */
+    public CompletableFuture<List<String>> complete(String input) {
+        requireNonNull(input);
+        return CompletableFuture.supplyAsync(() -> computeSuggestions(input), executor);
+    }
+
+    /**
+     * Returns the completions of {@code input}. Must only be called by the executor.
+     */
+    private List<String> computeSuggestions(String input) {
+        Set<String> suggestions = new LinkedHashSet<>();
+        int commandWordEnd = indexOfWhitespace(input);
+        if (commandWordEnd == -1) {
+            for (String word : registry.wordsWithPrefix(input, MAX_SUGGESTIONS)) {
+                suggestions.add(word + " ");
+            }
+            return new ArrayList<>(suggestions);
+        }
+
+        // the value of the last prefix, which may contain spaces, is completed from the names that prefix refers to
+        int valueStart = -1;
+        Trie<Integer> valueSource = null;
+        for (int i = input.indexOf(' ', commandWordEnd); i != -1; i = input.indexOf(' ', i + 1)) {
+            for (Prefix prefix : PREFIXES) {
+                if (input.startsWith(prefix.getPrefix(), i + 1)) {
+                    valueStart = i + 1 + prefix.getPrefix().length();
+                    valueSource = getValueSource(prefix);
+                }
+            }
+        }
+        if (valueSource != null) {
+            String value = input.substring(valueStart);
+            String beforeValue = input.substring(0, valueStart);
+            for (String name : valueSource.keysWithPrefix(value, MAX_SUGGESTIONS)) {
+                suggestions.add(beforeValue + name);
+            }
+        }
+
+        // the last word may also be the beginning of a prefix
+        int wordStart = input.lastIndexOf(' ') + 1;
+        String word = input.substring(wordStart);
+        for (Prefix prefix : PREFIXES) {
+            if (prefix.getPrefix().startsWith(word) && !prefix.getPrefix().equals(word)) {
+                suggestions.add(input.substring(0, wordStart) + prefix.getPrefix());
+            }
+        }
+
+        List<String> suggestionList = new ArrayList<>(suggestions);
+        return suggestionList.size() <= MAX_SUGGESTIONS ? suggestionList : suggestionList.subList(0, MAX_SUGGESTIONS);
+    }
+
+    /**
+     * Returns the trie holding the values of {@code prefix}, or null if its values cannot be completed.
+     */
+    private Trie<Integer> getValueSource(Prefix prefix) {
+        if (prefix.equals(PREFIX_NAME)) {
+            return names;
+        } else if (prefix.equals(PREFIX_TAG) || prefix.equals(PREFIX_GROUPTAG)) {
+            return tags;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the index of the first whitespace in {@code input}, or -1 if there is none.
+     */
+    private static int indexOfWhitespace(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (Character.isWhitespace(input.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    //// keeping the tries in sync with the model, on the thread that changes the model
+
+    /**
+     * Updates the index for {@code change} of the project list.
+     * Projects are few, so the projects in the list are simply compared with the indexed ones. Only projects that
+     * were added or removed have their tasks indexed or unindexed.
+     */
+    private void handleProjectListChange(ModelChange change) {
+        if (change.getType() == ModelChange.Type.GROUP_TAGS_CHANGED) {
+            reindexGroupTags();
+        } else {
+            reconcileProjects();
+        }
+    }
+
+    /**
+     * Updates the index for {@code change} of one of the projects in the project list.
+     */
+    private void handleProjectChange(ModelChange change) {
+        Name indexedName = change.getType() == ModelChange.Type.PROJECT_RENAMED
+                ? change.getOldName() : change.getProject().getName();
+        IndexedProject indexed = indexedProjects.get(indexedName.fullName);
+        if (indexed == null || indexed.project != change.getProject()) {
+            return;
+        }
+
+        NameDelta delta = new NameDelta();
+        switch (change.getType()) {
+        case TASK_ADDED:
+            indexed.tasks.add(change.getNewTask());
+            delta.addTask(change.getNewTask(), 1);
+            break;
+        case TASK_REMOVED:
+            indexed.tasks.remove(change.getOldTask());
+            delta.addTask(change.getOldTask(), -1);
+            break;
+        case TASK_REPLACED:
+            indexed.tasks.remove(change.getOldTask());
+            indexed.tasks.add(change.getNewTask());
+            delta.addTask(change.getOldTask(), -1);
+            delta.addTask(change.getNewTask(), 1);
+            break;
+        case TASKS_RESET:
+            indexed.updateTasks(change.getProject().getTaskList(), delta);
+            break;
+        case PROJECT_RENAMED:
+            delta.addName(indexed.name, -1);
+            indexedProjects.remove(indexed.name);
+            indexed.name = change.getProject().getName().fullName;
+            indexedProjects.put(indexed.name, indexed);
+            delta.addName(indexed.name, 1);
+            break;
+        default:
+            return;
+        }
+        submit(delta);
+    }
+
+    /**
+     * Indexes the projects in the list that are not indexed yet, and unindexes those no longer in the list.
+     * A project replaced by another version of itself, as happens whenever the opened project is saved, keeps its
+     * entry, and only the tasks that differ between the two versions are reindexed.
+     */
+    private void reconcileProjects() {
+        NameDelta delta = new NameDelta();
+        Map<String, IndexedProject> removedProjects = new HashMap<>(indexedProjects);
+        for (Project project : projectList.getProjectList()) {
+            IndexedProject indexed = removedProjects.remove(project.getName().fullName);
+            if (indexed == null) {
+                indexed = new IndexedProject(project);
+                indexedProjects.put(indexed.name, indexed);
+                project.addListener(projectListener);
+                delta.addName(indexed.name, 1);
+                delta.addTasks(indexed.tasks, 1);
+            } else if (indexed.project != project) {
+                indexed.project.removeListener(projectListener);
+                indexed.project = project;
+                project.addListener(projectListener);
+                indexed.updateTasks(project.getTaskList(), delta);
+            }
+        }
+        for (IndexedProject removed : removedProjects.values()) {
+            indexedProjects.remove(removed.name);
+            removed.project.removeListener(projectListener);
+            delta.addName(removed.name, -1);
+            delta.addTasks(removed.tasks, -1);
+        }
+        submit(delta);
+    }
+
+    /**
+     * Replaces the indexed group tag names with those of the group tags now in the list.
+     */
+    private void reindexGroupTags() {
+        NameDelta delta = new NameDelta();
+        for (String groupTagName : indexedGroupTagNames) {
+            delta.addTag(groupTagName, -1);
+        }
+        List<String> groupTagNames = new ArrayList<>();
+        for (GroupTag groupTag : projectList.getGroupTagList()) {
+            groupTagNames.add(groupTag.getName().fullName);
+        }
+        for (String groupTagName : groupTagNames) {
+            delta.addTag(groupTagName, 1);
+        }
+        indexedGroupTagNames = groupTagNames;
+        submit(delta);
+    }
+
+    private void submit(NameDelta delta) {
+        if (!delta.isEmpty()) {
+            executor.execute(delta::apply);
+        }
+    }
+
+    /**
+     * Adds {@code count} occurrences of {@code key} to {@code trie}, removing the key once none are left.
+     */
+    private static void updateCount(Trie<Integer> trie, String key, int count) {
+        Integer current = trie.get(key);
+        int updated = (current == null ? 0 : current) + count;
+        if (updated > 0) {
+            trie.put(key, updated);
+        } else {
+            trie.remove(key);
+        }
+    }
+
+    /**
+     * What has been indexed of a project, and the version of the project it was indexed from.
+     */
+    private static class IndexedProject {
+        private Project project;
+        private String name;
+        private final List<Task> tasks;
+
+        IndexedProject(Project project) {
+            this.project = project;
+            name = project.getName().fullName;
+            tasks = new ArrayList<>(project.getTaskList());
+        }
+
+        /**
+         * Makes the indexed tasks those of {@code updated}, adding to {@code delta} only the tasks between the
+         * longest common prefix and suffix of the two lists.
+         * Tasks are replaced rather than changed in place, so an identity check is enough.
+         */
+        void updateTasks(List<Task> updated, NameDelta delta) {
+            int prefixLength = 0;
+            int maxPrefixLength = Math.min(tasks.size(), updated.size());
+            while (prefixLength < maxPrefixLength && tasks.get(prefixLength) == updated.get(prefixLength)) {
+                prefixLength++;
+            }
+
+            int suffixLength = 0;
+            int maxSuffixLength = maxPrefixLength - prefixLength;
+            while (suffixLength < maxSuffixLength && tasks.get(tasks.size() - 1 - suffixLength)
+                    == updated.get(updated.size() - 1 - suffixLength)) {
+                suffixLength++;
+            }
+
+            List<Task> removedTasks = tasks.subList(prefixLength, tasks.size() - suffixLength);
+            List<Task> addedTasks = updated.subList(prefixLength, updated.size() - suffixLength);
+            delta.addTasks(removedTasks, -1);
+            delta.addTasks(addedTasks, 1);
+            removedTasks.clear();
+            tasks.addAll(prefixLength, addedTasks);
+        }
+    }
+
+    /**
+     * Changes to the number of occurrences of names and tags, to be applied to the tries by the executor.
+     */
+    private class NameDelta {
+        private final List<String> nameKeys = new ArrayList<>();
+        private final List<Integer> nameCounts = new ArrayList<>();
+        private final List<String> tagKeys = new ArrayList<>();
+        private final List<Integer> tagCounts = new ArrayList<>();
+
+        /**
+         * Adds {@code count} occurrences of {@code name}, unless it is empty.
+         */
+        void addName(String name, int count) {
+            if (!name.isEmpty()) {
+                nameKeys.add(name);
+                nameCounts.add(count);
+            }
+        }
+
+        void addTag(String tag, int count) {
+            tagKeys.add(tag);
+            tagCounts.add(count);
+        }
+
+        /**
+         * Adds {@code count} occurrences of the name and tags of {@code task}.
+         */
+        void addTask(Task task, int count) {
+            addName(task.getName().fullName, count);
+            TagSet tags = task.getTags();
+            for (int i = 0; i < tags.size(); i++) {
+                addTag(tags.get(i).tagName, count);
+            }
+        }
+
+        void addTasks(Collection<Task> tasks, int count) {
+            for (Task task : tasks) {
+                addTask(task, count);
+            }
+        }
+
+        boolean isEmpty() {
+            return nameKeys.isEmpty() && tagKeys.isEmpty();
+        }
+
+        /**
+         * Applies these changes to the tries. Must only be called by the executor.
+         */
+        void apply() {
+            for (int i = 0; i < nameKeys.size(); i++) {
+                updateCount(names, nameKeys.get(i), nameCounts.get(i));
+            }
+            for (int i = 0; i < tagKeys.size(); i++) {
+                updateCount(tags, tagKeys.get(i), tagCounts.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.project.logic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.project.logic.commands.Command;
+import seedu.project.logic.parser.ProjectParser;
+import seedu.project.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses commands ahead of time, while the user is still typing them, on a thread of its own.
+ * The commands parsed that way are kept, so that the command entered in the end does not need to be parsed again.
+ * Some commands parse differently at project level than at task level (see {@link LogicManager#getState()}), so a
+ * command parsed ahead of time is kept for the level it was parsed at, and only handed out at that level.
+ */
+public class BackgroundParser {
+
+    // only the most recently typed commands are worth keeping
+    private static final int MAX_PARSED_COMMANDS = 8;
+
+    private final ProjectParser parser = new ProjectParser();
+    private final Map<String, Command> parsedProjectLevelCommands = createParsedCommands();
+    private final Map<String, Command> parsedTaskLevelCommands = createParsedCommands();
+    private final AtomicLong latestRequest = new AtomicLong();
+    private ExecutorService executor;
+
+    /**
+     * Parses {@code commandText} off the calling thread, and keeps the command for {@link #parse(String)}.
+     * A request is cancelled if a newer one is made before it starts.
+     *
+     * @return a future holding the message of the parse error, or null if {@code commandText} is valid
+     */
+    public CompletableFuture<String> validate(String commandText) {
+        long request = latestRequest.incrementAndGet();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        getExecutor().execute(() -> {
+            if (request != latestRequest.get()) {
+                result.cancel(false);
+                return;
+            }
+
+            try {
+                boolean isTaskLevel = LogicManager.getState();
+                Command command = parser.parseCommand(commandText);
+                // a command parsed while the level changed may have been parsed partly at each level
+                if (isTaskLevel == LogicManager.getState()) {
+                    Map<String, Command> parsedCommands = getParsedCommands(isTaskLevel);
+                    synchronized (parsedCommands) {
+                        parsedCommands.put(commandText, command);
+                    }
+                }
+                result.complete(null);
+            } catch (ParseException pe) {
+                result.complete(pe.getMessage());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the command parsed ahead of time from {@code commandText} at the current level, or parses it now if
+     * there is none.
+     * A command parsed ahead of time is only ever returned once, as commands are not meant to be executed twice.
+     *
+     * @throws ParseException if {@code commandText} does not conform the expected format
+     */
+    public Command parse(String commandText) throws ParseException {
+        Map<String, Command> parsedCommands = getParsedCommands(LogicManager.getState());
+        Command command;
+        synchronized (parsedCommands) {
+            command = parsedCommands.remove(commandText);
+        }
+        return command != null ? command : parser.parseCommand(commandText);
+    }
+
+    private Map<String, Command> getParsedCommands(boolean isTaskLevel) {
+        return isTaskLevel ? parsedTaskLevelCommands : parsedProjectLevelCommands;
+    }
+
+    /**
+     * Returns a map for the commands parsed ahead of time at one level, which keeps only the most recent ones.
+     */
+    private static Map<String, Command> createParsedCommands() {
+        return new LinkedHashMap<String, Command>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Command> eldest) {
+                return size() > MAX_PARSED_COMMANDS;
+            }
+        };
+    }
+
+    /**
+     * Returns the executor that parses commands ahead of time, creating it on first use.
+     */
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "background-parser");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+}
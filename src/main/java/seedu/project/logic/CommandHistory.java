@@ -2,10 +2,11 @@ package seedu.project.logic;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.project.commons.core.LogsCenter;
 
 
@@ -16,12 +17,11 @@ public class CommandHistory {
 
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
-    private final ObservableList<String> userInputHistory = FXCollections.observableArrayList();
-    private final ObservableList<String> unmodifiableUserInputHistory =
-            FXCollections.unmodifiableObservableList(userInputHistory);
-    private final ObservableList<String> userInputHistoryTaskId = FXCollections.observableArrayList();
-    private final ObservableList<String> unmodifiableUserInputHistoryTaskId =
-            FXCollections.unmodifiableObservableList(userInputHistoryTaskId);
+    private final List<String> userInputHistory = new ArrayList<>();
+    private final List<String> unmodifiableUserInputHistory = Collections.unmodifiableList(userInputHistory);
+    private final List<String> userInputHistoryTaskId = new ArrayList<>();
+    private final List<String> unmodifiableUserInputHistoryTaskId =
+            Collections.unmodifiableList(userInputHistoryTaskId);
 
     public CommandHistory() {}
 
@@ -63,21 +63,19 @@ public class CommandHistory {
         logger.info("INFO: History cleared");
         userInputHistoryTaskId.clear();
         userInputHistory.clear();
-        unmodifiableUserInputHistory.clear();
-        unmodifiableUserInputHistoryTaskId.clear();
     }
 
     /**
      * Returns an unmodifiable view of {@code userInputHistory}.
      */
-    public ObservableList<String> getHistory() {
+    public List<String> getHistory() {
         return unmodifiableUserInputHistory;
     }
 
     /**
      * Returns an unmodifiable view of {@code userInputHistoryTaskId}.
      */
-    public ObservableList<String> getHistoryTaskId() {
+    public List<String> getHistoryTaskId() {
         return unmodifiableUserInputHistoryTaskId;
     }
 
@@ -2,14 +2,16 @@ package seedu.project.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.beans.property.ReadOnlyProperty;
-import javafx.collections.ObservableList;
 import seedu.project.commons.core.GuiSettings;
 import seedu.project.commons.exceptions.DataConversionException;
 import seedu.project.logic.commands.CommandResult;
 import seedu.project.logic.commands.exceptions.CommandException;
 import seedu.project.logic.parser.exceptions.ParseException;
+import seedu.project.model.ModelChangeListener;
 import seedu.project.model.ReadOnlyProjectList;
 import seedu.project.model.project.Project;
 import seedu.project.model.project.ReadOnlyProject;
@@ -29,6 +31,14 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException,
             DataConversionException, IOException;
 
+    /**
+     * Parses the command off the calling thread, without executing it.
+     * The parsed command is kept, so that executing the same command text afterwards does not parse it again.
+     * @param commandText The command as typed so far by the user.
+     * @return a future holding the message of the parse error, or null if the command is valid.
+     */
+    CompletableFuture<String> validate(String commandText);
+
     /**
      * Returns the ProjectList.
      *
@@ -37,7 +47,7 @@ public interface Logic {
     ReadOnlyProjectList getProjectList();
 
     /** Returns an unmodifiable view of the filtered list of project */
-    ObservableList<Project> getFilteredProjectList();
+    List<Project> getFilteredProjectList();
 
     /**
      * Returns the Project.
@@ -46,14 +56,21 @@ public interface Logic {
      */
     ReadOnlyProject getProject();
 
+    /**
+     * Adds a listener that is notified of the changes to the opened project, whichever project is opened.
+     *
+     * @see seedu.project.model.Model#addOpenedProjectListener(ModelChangeListener)
+     */
+    void addOpenedProjectListener(ModelChangeListener listener);
+
     /** Returns an unmodifiable view of the filtered list of tasks */
-    ObservableList<Task> getFilteredTaskList();
+    List<Task> getFilteredTaskList();
 
     /**
      * Returns an unmodifiable view of the list of commands entered by the user.
      * The list is ordered from the least recent command to the most recent command.
      */
-    ObservableList<String> getHistory();
+    List<String> getHistory();
 
     /**
      * Returns the user prefs' project list file path.
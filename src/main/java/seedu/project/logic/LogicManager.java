@@ -2,21 +2,29 @@ package seedu.project.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
-import javafx.collections.ObservableList;
 import seedu.project.commons.core.GuiSettings;
 import seedu.project.commons.core.LogsCenter;
 import seedu.project.commons.exceptions.DataConversionException;
+import seedu.project.commons.metrics.MetricsRegistry;
+import seedu.project.commons.metrics.PhaseTimes;
+import seedu.project.commons.metrics.PhaseTimes.Phase;
+import seedu.project.commons.metrics.SlowCommandLog;
 import seedu.project.logic.commands.Command;
+import seedu.project.logic.commands.CommandEffect;
 import seedu.project.logic.commands.CommandResult;
-import seedu.project.logic.commands.DeleteCommand;
-import seedu.project.logic.commands.ListProjectCommand;
 import seedu.project.logic.commands.exceptions.CommandException;
-import seedu.project.logic.parser.ProjectParser;
 import seedu.project.logic.parser.exceptions.ParseException;
 import seedu.project.model.Model;
+import seedu.project.model.ModelChangeListener;
 import seedu.project.model.ReadOnlyProjectList;
 import seedu.project.model.project.Project;
 import seedu.project.model.project.ReadOnlyProject;
@@ -28,76 +36,178 @@ import seedu.project.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
-    private static boolean state; // 0 == projectlistview 1 == projectview
+    /** The prefix of the names of the latency histograms of each command, e.g. {@code command.AddCommand.parse}. */
+    public static final String COMMAND_METRIC_PREFIX = "command.";
+    // 0 == projectlistview 1 == projectview; read by the thread that parses commands ahead of time too
+    private static volatile boolean state;
 
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private final Model model;
     private final Storage storage;
     private final CommandHistory history;
-    private final ProjectParser projectParser;
-    private boolean projectModified;
-    private boolean projectListModified;
+    private final BackgroundParser parser;
+    private final MetricsRegistry metrics = MetricsRegistry.getDefault();
+    private final SlowCommandLog slowCommandLog;
+    private final WorkloadRecorder workloadRecorder;
 
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, SlowCommandLog.getDefault(), WorkloadRecorder.getDefault());
+    }
+
+    public LogicManager(Model model, Storage storage, SlowCommandLog slowCommandLog,
+            WorkloadRecorder workloadRecorder) {
         this.model = model;
+        this.slowCommandLog = slowCommandLog;
+        this.workloadRecorder = workloadRecorder;
         this.storage = storage;
         history = new CommandHistory();
-        projectParser = new ProjectParser();
+        parser = new BackgroundParser();
         state = false;
-
-        // Set projectListModified to true whenever the models' project list is modified.
-        model.getProjectList().addListener(observable -> projectListModified = true);
-        // Set projectModified to true whenever the models' project is modified.
-        model.getProject().addListener(observable -> projectModified = true);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException,
             DataConversionException, IOException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
-        projectModified = false;
-        projectListModified = false;
+        logger.log(Level.INFO, "----------------[USER COMMAND][{0}]", commandText);
+        workloadRecorder.record(commandText, model.getSnapshot().getVersion());
 
-        CommandResult commandResult = null;
+        PhaseTimes phaseTimes = PhaseTimes.start();
+        long start = System.nanoTime();
+        long allocatedAtStart = PhaseTimes.getThreadAllocatedBytes();
+        Command command = null;
+        boolean isSuccessful = false;
         try {
-            Command command = projectParser.parseCommand(commandText);
-            commandResult = command.execute(model, history);
-        } finally {
-            history.add(commandText);
-        }
+            CommandResult commandResult;
+            CommandEffect effect;
+            try {
+                command = parser.parse(commandText);
+                long parsed = System.nanoTime();
+                long allocatedWhenParsed = PhaseTimes.getThreadAllocatedBytes();
+                phaseTimes.record(Phase.PARSE, parsed - start, allocatedWhenParsed - allocatedAtStart);
+                commandResult = command.execute(model, history);
+                // the commits made by the command are timed as a phase of their own
+                phaseTimes.record(Phase.EXECUTE, System.nanoTime() - parsed - phaseTimes.getNanos(Phase.COMMIT),
+                        PhaseTimes.getThreadAllocatedBytes() - allocatedWhenParsed
+                                - phaseTimes.getAllocatedBytes(Phase.COMMIT));
+                effect = command.getEffect();
+            } finally {
+                history.add(commandText);
+            }
 
-        if (projectListModified) {
-            logger.info("Project list modified, saving to file.");
+            long saveStart = System.nanoTime();
+            long allocatedBeforeSave = PhaseTimes.getThreadAllocatedBytes();
             try {
-                if (model.getSelectedProject() != null
-                        && !(commandText.equals(ListProjectCommand.COMMAND_WORD)
-                        || commandText.equals(ListProjectCommand.COMMAND_ALIAS))
-                        && !(commandText.contains(DeleteCommand.COMMAND_WORD)
-                        || commandText.contains(DeleteCommand.COMMAND_ALIAS))) {
-                    Project editedProject = new Project(model.getProject().getName(), model.getProject().getTaskList());
-                    model.setProject(model.getSelectedProject(), editedProject);
-                }
-                storage.saveProjectList(model.getProjectList());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+                saveChanges(effect);
+            } finally {
+                phaseTimes.record(Phase.SAVE, System.nanoTime() - saveStart,
+                        PhaseTimes.getThreadAllocatedBytes() - allocatedBeforeSave);
+                model.publishSnapshot();
+            }
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            phaseTimes.stop();
+            long totalNanos = System.nanoTime() - start;
+            recordMetrics(command, phaseTimes, totalNanos, isSuccessful);
+            if (slowCommandLog.isSlow(totalNanos)) {
+                slowCommandLog.log(createTraceRecord(commandText, command, phaseTimes, totalNanos, isSuccessful));
             }
         }
+    }
 
-        if (projectModified) {
-            logger.info("Project modified, saving to file.");
-            try {
-                if (model.getSelectedProject() != null && !(commandText.equals(ListProjectCommand.COMMAND_WORD)
-                        || commandText.equals(ListProjectCommand.COMMAND_ALIAS))) {
-                    Project editedProject = new Project(model.getProject().getName(), model.getProject().getTaskList());
-                    model.setProject(model.getSelectedProject(), editedProject);
+    /**
+     * Returns the slow command log record of a command, which is null if it could not be parsed.
+     */
+    private Map<String, Object> createTraceRecord(String commandText, Command command, PhaseTimes phaseTimes,
+            long totalNanos, boolean isSuccessful) {
+        Map<String, Object> phases = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            Map<String, Object> phaseRecord = new LinkedHashMap<>();
+            phaseRecord.put("millis", toMillis(phaseTimes.getNanos(phase)));
+            phaseRecord.put("allocatedBytes", phaseTimes.getAllocatedBytes(phase));
+            phases.put(phase.getMetricName(), phaseRecord);
+        }
+
+        Map<String, Object> modelSizes = new LinkedHashMap<>();
+        modelSizes.put("projects", model.getProjectList().getProjectList().size());
+        modelSizes.put("openedProjectTasks", model.getProject().getTaskList().size());
+        modelSizes.put("undoHistorySize", model.getUndoHistorySize());
+
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("time", Instant.now().toString());
+        record.put("command", command == null ? null : command.getClass().getSimpleName());
+        record.put("commandText", commandText);
+        record.put("successful", isSuccessful);
+        record.put("totalMillis", toMillis(totalNanos));
+        record.put("phases", phases);
+        record.put("model", modelSizes);
+        record.put("listChangeEvents", phaseTimes.getListChangeCount());
+        return record;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * Records the phase times of {@code command}, which is null if it could not be parsed, and the sizes of the
+     * model after it.
+     */
+    private void recordMetrics(Command command, PhaseTimes phaseTimes, long totalNanos, boolean isSuccessful) {
+        metrics.counter(isSuccessful ? "commands.succeeded" : "commands.failed").increment();
+        if (command == null) {
+            metrics.counter("commands.unparsable").increment();
+        } else {
+            String metricPrefix = COMMAND_METRIC_PREFIX + command.getClass().getSimpleName() + ".";
+            for (Phase phase : Phase.values()) {
+                long nanos = phaseTimes.getNanos(phase);
+                // commands that do not commit or save would only drown the times of those that do
+                if (nanos > 0 || phase == Phase.PARSE || phase == Phase.EXECUTE) {
+                    metrics.histogram(metricPrefix + phase.getMetricName()).record(nanos);
                 }
-                storage.saveProjectList(model.getProjectList());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
             }
+            metrics.histogram(metricPrefix + "total").record(totalNanos);
         }
 
-        return commandResult;
+        metrics.gauge("model.projects").set(model.getProjectList().getProjectList().size());
+        metrics.gauge("model.openedProjectTasks").set(model.getProject().getTaskList().size());
+        metrics.gauge("model.undoHistorySize").set(model.getUndoHistorySize());
+    }
+
+    @Override
+    public CompletableFuture<String> validate(String commandText) {
+        return parser.validate(commandText);
+    }
+
+    /**
+     * Persists the changes described by {@code effect}. Read-only commands do not touch the storage, and every
+     * other command results in exactly one save of the project list.
+     */
+    private void saveChanges(CommandEffect effect) throws CommandException {
+        if (effect == CommandEffect.READ_ONLY) {
+            return;
+        }
+
+        // a batch of commands may change both the opened project and the project list
+        syncProjectWithProjectList();
+
+        logger.log(Level.INFO, "Command effect {0}, saving project list to file.", effect);
+        try {
+            storage.saveProjectList(model.getProjectList());
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+    }
+
+    /**
+     * Writes the currently opened project back into the project list.
+     */
+    private void syncProjectWithProjectList() {
+        Project selectedProject = model.getSelectedProject();
+        if (!state || selectedProject == null) {
+            return;
+        }
+        model.setProject(selectedProject, (Project) model.getProject());
     }
 
     public static boolean getState() {
@@ -119,17 +229,22 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Project> getFilteredProjectList() {
+    public void addOpenedProjectListener(ModelChangeListener listener) {
+        model.addOpenedProjectListener(listener);
+    }
+
+    @Override
+    public List<Project> getFilteredProjectList() {
         return model.getFilteredProjectList();
     }
 
     @Override
-    public ObservableList<Task> getFilteredTaskList() {
+    public List<Task> getFilteredTaskList() {
         return model.getFilteredTaskList();
     }
 
     @Override
-    public ObservableList<String> getHistory() {
+    public List<String> getHistory() {
         return history.getHistory();
     }
 
@@ -0,0 +1,68 @@
+package seedu.project.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * A command recorded in a workload file: its text, when it was executed and the version of the model it was
+ * executed on.
+ */
+public class WorkloadEntry {
+
+    private final String commandText;
+    // milliseconds since recording started
+    private final long offsetMillis;
+    private final long modelVersion;
+
+    /**
+     * Used by Jackson, which sets the fields itself.
+     */
+    private WorkloadEntry() {
+        this("", 0, 0);
+    }
+
+    public WorkloadEntry(String commandText, long offsetMillis, long modelVersion) {
+        requireNonNull(commandText);
+        this.commandText = commandText;
+        this.offsetMillis = offsetMillis;
+        this.modelVersion = modelVersion;
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    public long getOffsetMillis() {
+        return offsetMillis;
+    }
+
+    public long getModelVersion() {
+        return modelVersion;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof WorkloadEntry)) {
+            return false;
+        }
+
+        WorkloadEntry otherEntry = (WorkloadEntry) other;
+        return commandText.equals(otherEntry.commandText)
+                && offsetMillis == otherEntry.offsetMillis
+                && modelVersion == otherEntry.modelVersion;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(commandText, offsetMillis, modelVersion);
+    }
+
+    @Override
+    public String toString() {
+        return "+" + offsetMillis + "ms v" + modelVersion + " " + commandText;
+    }
+}
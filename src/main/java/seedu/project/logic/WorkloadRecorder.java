@@ -0,0 +1,130 @@
+package seedu.project.logic;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.project.commons.core.Config;
+import seedu.project.commons.core.LogsCenter;
+import seedu.project.commons.util.FileUtil;
+import seedu.project.commons.util.JsonUtil;
+import seedu.project.model.ReadOnlyProjectList;
+import seedu.project.storage.JsonProjectListStorage;
+
+/**
+ * Records every command executed, one {@link WorkloadEntry} in JSON per line, to a workload file, so that a session
+ * can be replayed later by {@code WorkloadReplayer}.
+ * When recording starts, the project list that the commands start from is written next to the workload file, see
+ * {@link #getStartingDataFile(Path)}, and the workload file is started afresh.
+ */
+public class WorkloadRecorder {
+
+    public static final String STARTING_DATA_FILE_SUFFIX = ".start.json";
+
+    private static final Logger logger = LogsCenter.getLogger(WorkloadRecorder.class);
+    private static WorkloadRecorder defaultRecorder = new WorkloadRecorder(null);
+
+    private final Path workloadFile;
+    private BufferedWriter writer;
+    private long startNanos;
+    private boolean hasFailed;
+
+    /**
+     * Creates a recorder that records to {@code workloadFile} once started. Nothing is recorded if the file is null.
+     */
+    public WorkloadRecorder(Path workloadFile) {
+        this.workloadFile = workloadFile;
+    }
+
+    /**
+     * Sets up the recorder used by the whole application with the workload file specified in {@code config}, and
+     * starts recording from {@code startingData} if there is one.
+     */
+    public static synchronized void init(Config config, ReadOnlyProjectList startingData) {
+        defaultRecorder.close();
+        defaultRecorder = new WorkloadRecorder(config.getWorkloadFilePath());
+        if (defaultRecorder.isEnabled()) {
+            defaultRecorder.start(startingData);
+        }
+    }
+
+    /**
+     * Returns the recorder used by the whole application.
+     */
+    public static synchronized WorkloadRecorder getDefault() {
+        return defaultRecorder;
+    }
+
+    /**
+     * Returns the file that holds the project list that the commands of {@code workloadFile} start from.
+     */
+    public static Path getStartingDataFile(Path workloadFile) {
+        return workloadFile.resolveSibling(workloadFile.getFileName() + STARTING_DATA_FILE_SUFFIX);
+    }
+
+    public boolean isEnabled() {
+        return workloadFile != null;
+    }
+
+    /**
+     * Writes {@code startingData} to the starting data file and starts the workload file afresh. Failures are
+     * logged and recording is then turned off, as recording is not essential to the application.
+     */
+    public synchronized void start(ReadOnlyProjectList startingData) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        close();
+        try {
+            FileUtil.createParentDirsOfFile(workloadFile);
+            new JsonProjectListStorage(getStartingDataFile(workloadFile)).saveProjectList(startingData);
+            writer = Files.newBufferedWriter(workloadFile, StandardCharsets.UTF_8);
+            startNanos = System.nanoTime();
+            hasFailed = false;
+            logger.info("Recording workload to " + workloadFile);
+        } catch (IOException e) {
+            hasFailed = true;
+            logger.warning("Could not start recording the workload, recording stopped: " + e);
+        }
+    }
+
+    /**
+     * Appends {@code commandText}, about to be executed on version {@code modelVersion} of the model, to the
+     * workload file. Each command is written out at once, so that a session that ends abruptly is still recorded.
+     */
+    public synchronized void record(String commandText, long modelVersion) {
+        if (writer == null || hasFailed) {
+            return;
+        }
+
+        long offsetMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        try {
+            writer.write(JsonUtil.toJsonLine(new WorkloadEntry(commandText, offsetMillis, modelVersion)));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            hasFailed = true;
+            logger.warning("Could not write to the workload file, recording stopped: " + e);
+        }
+    }
+
+    /**
+     * Closes the workload file, if it was opened. Nothing is recorded afterwards until recording is started again.
+     */
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warning("Could not close the workload file: " + e);
+        }
+        writer = null;
+    }
+}
@@ -81,6 +81,11 @@ public class AddCommand extends Command {
         }
     }
 
+    @Override
+    public CommandEffect getEffect() {
+        return toAdd instanceof Project ? CommandEffect.MUTATES_PROJECT_LIST : CommandEffect.MUTATES_PROJECT;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
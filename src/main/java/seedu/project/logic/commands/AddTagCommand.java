@@ -16,6 +16,8 @@ import seedu.project.model.Model;
 import seedu.project.model.project.Project;
 
 import seedu.project.model.project.VersionedProject;
+import seedu.project.model.tag.GroupTag;
+import seedu.project.model.tag.Tag;
 import seedu.project.model.task.Task;
 
 /**
@@ -63,17 +65,17 @@ public class AddTagCommand extends Command {
 
         history.addHistoryTaskId(Integer.toString(taskId));
 
-        Boolean[] groupExists = { false };
-        model.getGroupTagList().forEach(groupTag -> {
+        boolean groupExists = false;
+        for (GroupTag groupTag : model.getGroupTagList()) {
             if (groupTag.getName().toString().equals(this.groupTag)) {
-                groupTag.getTags().forEach(tag -> {
-                    taskToAdd.addTag(tag);
-                    groupExists[0] = true;
-                });
+                for (Tag tag : groupTag.getTags()) {
+                    taskToAdd = taskToAdd.withTag(tag);
+                    groupExists = true;
+                }
             }
-        });
+        }
 
-        if (!groupExists[0]) {
+        if (!groupExists) {
             throw new CommandException(String.format(MESSAGE_GROUPTAG_NOT_FOUND, this.groupTag));
         }
         model.setTask(targetTask, taskToAdd);
@@ -90,6 +92,11 @@ public class AddTagCommand extends Command {
         return new CommandResult(String.format(MESSAGE_COMPLETED_SUCCESS, this.groupTag));
     }
 
+    @Override
+    public CommandEffect getEffect() {
+        return LogicManager.getState() ? CommandEffect.MUTATES_PROJECT : CommandEffect.READ_ONLY;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
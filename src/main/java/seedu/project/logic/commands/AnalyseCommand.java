@@ -2,7 +2,9 @@ package seedu.project.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.ObservableList;
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.project.commons.core.Messages;
 import seedu.project.logic.CommandHistory;
 import seedu.project.logic.LogicManager;
@@ -23,39 +25,59 @@ public class AnalyseCommand extends Command {
             + ": Finds all completed tasks of a project and displays them as a list with index numbers.\n"
             + "Example: " + COMMAND_WORD;
 
+    private static final Tag COMPLETED_TAG = Tag.of("completed");
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        ObservableList<Project> filteredProjects = model.getFilteredProjectList();
-        String toPrint = "";
+        List<Project> filteredProjects = model.getFilteredProjectList();
 
         if (!LogicManager.getState()) {
+            // only the counts are taken here, the lines are built as they are shown
+            List<ProjectProgress> progresses = new ArrayList<>();
             for (Project project: filteredProjects) {
                 int countCompleted = 0;
-                int numTasksPerProject = 0;
-                float percentageCompleted;
-                toPrint += project.getName().toString() + ": ";
-                ObservableList<Task> filteredTasks = project.getTaskList();
+                List<Task> filteredTasks = project.getTaskList();
 
                 for (Task task : filteredTasks) {
-                    if (task.getTags().contains(new Tag("completed"))) {
+                    if (task.hasTag(COMPLETED_TAG)) {
                         countCompleted += 1;
                     }
-                    numTasksPerProject += 1;
-                }
-                toPrint += countCompleted + " tasks completed. ";
-
-                if (numTasksPerProject == 0) {
-                    percentageCompleted = 0;
-                } else {
-                    percentageCompleted = ((float) countCompleted / (float) numTasksPerProject) * 100;
                 }
-
-                toPrint += "(Percentage of project completed: " + String.format("%.1f", percentageCompleted) + "%)\n";
+                progresses.add(new ProjectProgress(project.getName().toString(), countCompleted,
+                        filteredTasks.size()));
             }
-            return new CommandResult(toPrint);
+            return new CommandResult(ResultSource.ofLines("", progresses, ProjectProgress::toString, true));
         } else {
             throw new CommandException(String.format(Messages.MESSAGE_RETURN_TO_PROJECT_LEVEL, COMMAND_WORD));
         }
     }
+
+    /**
+     * The number of completed tasks of a project.
+     */
+    private static class ProjectProgress {
+        private final String projectName;
+        private final int countCompleted;
+        private final int numTasksPerProject;
+
+        ProjectProgress(String projectName, int countCompleted, int numTasksPerProject) {
+            this.projectName = projectName;
+            this.countCompleted = countCompleted;
+            this.numTasksPerProject = numTasksPerProject;
+        }
+
+        @Override
+        public String toString() {
+            float percentageCompleted;
+            if (numTasksPerProject == 0) {
+                percentageCompleted = 0;
+            } else {
+                percentageCompleted = ((float) countCompleted / (float) numTasksPerProject) * 100;
+            }
+
+            return projectName + ": " + countCompleted + " tasks completed. "
+                    + "(Percentage of project completed: " + String.format("%.1f", percentageCompleted) + "%)";
+        }
+    }
 }
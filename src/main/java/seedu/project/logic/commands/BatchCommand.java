@@ -0,0 +1,169 @@
+package seedu.project.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.project.commons.exceptions.DataConversionException;
+import seedu.project.logic.CommandHistory;
+import seedu.project.logic.LogicManager;
+import seedu.project.logic.commands.exceptions.CommandException;
+import seedu.project.logic.parser.exceptions.ParseException;
+import seedu.project.model.Model;
+
+/**
+ * Executes a sequence of commands as one atomic unit.
+ * The whole sequence is committed as a single undo/redo step and saved once. If any command fails, all changes
+ * made by the earlier commands of the sequence are discarded.
+ * Each command is parsed just before it is executed, as how a command is parsed depends on whether the earlier
+ * commands of the sequence have opened a project.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_SEPARATOR = ";";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d command(s).\n%2$s";
+    public static final String MESSAGE_FAILURE = "Command %1$d of %2$d failed, no changes were made.\n%3$s";
+    public static final String MESSAGE_NOT_BATCHABLE = "undo, redo and run cannot be part of a batch of commands.";
+
+    private final List<PendingCommand> commands;
+    private CommandEffect effect = CommandEffect.READ_ONLY;
+
+    /**
+     * Creates a BatchCommand that executes the already parsed {@code commands} in order.
+     * Every command must satisfy {@link #canBeBatched(Command)}.
+     */
+    public BatchCommand(List<Command> commands) {
+        requireNonNull(commands);
+        for (Command command : commands) {
+            if (!canBeBatched(command)) {
+                throw new IllegalArgumentException(MESSAGE_NOT_BATCHABLE);
+            }
+        }
+        this.commands = commands.stream().map(ParsedCommand::new).collect(Collectors.toList());
+    }
+
+    private BatchCommand(PendingCommand[] commands) {
+        this.commands = Arrays.asList(commands);
+    }
+
+    /**
+     * Returns a BatchCommand that parses and executes {@code commands} in order.
+     */
+    public static BatchCommand ofPendingCommands(List<? extends PendingCommand> commands) {
+        requireNonNull(commands);
+        return new BatchCommand(commands.toArray(new PendingCommand[0]));
+    }
+
+    /**
+     * Returns true if {@code command} can be executed as part of a batch.
+     * Commands that move through the undo history, or that are batches themselves, cannot.
+     */
+    public static boolean canBeBatched(Command command) {
+        return !(command instanceof UndoCommand || command instanceof RedoCommand
+                || command instanceof BatchCommand || command instanceof RunCommand);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException,
+            DataConversionException, IOException {
+        requireNonNull(model);
+        boolean stateBeforeBatch = LogicManager.getState();
+        CommandEffect batchEffect = CommandEffect.READ_ONLY;
+        CommandResult lastResult = null;
+        boolean isShowHelp = false;
+        boolean isExit = false;
+
+        model.startBatch();
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                Command command;
+                try {
+                    command = commands.get(i).parse();
+                    if (!canBeBatched(command)) {
+                        throw new CommandException(MESSAGE_NOT_BATCHABLE);
+                    }
+                    lastResult = command.execute(model, history);
+                } catch (ParseException | CommandException | DataConversionException | IOException e) {
+                    throw new CommandException(String.format(MESSAGE_FAILURE, i + 1, commands.size(),
+                            e.getMessage()), e);
+                }
+                batchEffect = strongerEffect(batchEffect, command.getEffect());
+                isShowHelp |= lastResult.isShowHelp();
+                isExit |= lastResult.isExit();
+            }
+        } catch (CommandException | RuntimeException e) {
+            model.rollBackBatch();
+            LogicManager.setState(stateBeforeBatch);
+            throw e;
+        }
+        model.endBatch();
+
+        effect = batchEffect;
+        String lastFeedback = lastResult == null ? "" : lastResult.getFeedbackToUser();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), lastFeedback), isShowHelp, isExit);
+    }
+
+    private static CommandEffect strongerEffect(CommandEffect first, CommandEffect second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    /**
+     * Returns the strongest effect of the commands executed by the last successful {@code execute} call.
+     */
+    @Override
+    public CommandEffect getEffect() {
+        return effect;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commands.equals(((BatchCommand) other).commands));
+    }
+
+    /**
+     * A command of a batch that is parsed only when it is about to be executed.
+     */
+    @FunctionalInterface
+    public interface PendingCommand {
+        /**
+         * Parses the command against the current state of the application.
+         *
+         * @throws ParseException if the command does not conform the expected format.
+         */
+        Command parse() throws ParseException;
+    }
+
+    /**
+     * A command of a batch that was parsed before the batch was created.
+     */
+    private static class ParsedCommand implements PendingCommand {
+        private final Command command;
+
+        ParsedCommand(Command command) {
+            this.command = command;
+        }
+
+        @Override
+        public Command parse() {
+            return command;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ParsedCommand // instanceof handles nulls
+                    && command.equals(((ParsedCommand) other).command));
+        }
+
+        @Override
+        public int hashCode() {
+            return command.hashCode();
+        }
+    }
+}
@@ -33,4 +33,9 @@ public class ClearCommand extends Command {
             return new CommandResult(String.format(Messages.MESSAGE_GO_TO_TASK_LEVEL, COMMAND_WORD));
         }
     }
+
+    @Override
+    public CommandEffect getEffect() {
+        return LogicManager.getState() ? CommandEffect.MUTATES_PROJECT : CommandEffect.READ_ONLY;
+    }
 }
@@ -23,4 +23,12 @@ public abstract class Command {
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException,
             DataConversionException, IOException;
 
+    /**
+     * Returns the part of the model that this command changes, so that only the necessary data is saved.
+     * Commands that do not modify the model need not override this.
+     */
+    public CommandEffect getEffect() {
+        return CommandEffect.READ_ONLY;
+    }
+
 }
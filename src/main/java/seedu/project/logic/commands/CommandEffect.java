@@ -0,0 +1,17 @@
+package seedu.project.logic.commands;
+
+/**
+ * Describes which part of the model a {@code Command} changes when it executes successfully.
+ * {@code LogicManager} uses this to decide what has to be persisted after the command.
+ * Effects are declared from weakest to strongest.
+ */
+public enum CommandEffect {
+    /** The command only reads the model, nothing has to be saved. */
+    READ_ONLY,
+
+    /** The command changes the tasks of the currently opened project. */
+    MUTATES_PROJECT,
+
+    /** The command changes the project list itself (projects or group tags). */
+    MUTATES_PROJECT_LIST
+}
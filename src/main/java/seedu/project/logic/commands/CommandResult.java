@@ -6,10 +6,11 @@ import java.util.Objects;
 
 /**
  * Represents the result of a command execution.
+ * The feedback to the user is held by a {@code ResultSource}, so that long feedback is only built as it is shown.
  */
 public class CommandResult {
 
-    private final String feedbackToUser;
+    private final ResultSource feedbackSource;
 
     /** Help information should be shown to the user. */
     private final boolean showHelp;
@@ -21,7 +22,14 @@ public class CommandResult {
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
-        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this(ResultSource.of(feedbackToUser), showHelp, exit);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} whose feedback is built from {@code feedbackSource}.
+     */
+    public CommandResult(ResultSource feedbackSource, boolean showHelp, boolean exit) {
+        this.feedbackSource = requireNonNull(feedbackSource);
         this.showHelp = showHelp;
         this.exit = exit;
     }
@@ -34,8 +42,24 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} whose feedback is built from {@code feedbackSource},
+     * and other fields set to their default value.
+     */
+    public CommandResult(ResultSource feedbackSource) {
+        this(feedbackSource, false, false);
+    }
+
+    /**
+     * Returns the whole feedback, building all of it if it has not been built yet.
+     * Prefer {@link #getFeedbackSource()} to show feedback that may be long.
+     */
     public String getFeedbackToUser() {
-        return feedbackToUser;
+        return feedbackSource.getText();
+    }
+
+    public ResultSource getFeedbackSource() {
+        return feedbackSource;
     }
 
     public boolean isShowHelp() {
@@ -58,14 +82,14 @@ public class CommandResult {
         }
 
         CommandResult otherCommandResult = (CommandResult) other;
-        return feedbackToUser.equals(otherCommandResult.feedbackToUser)
+        return getFeedbackToUser().equals(otherCommandResult.getFeedbackToUser())
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(getFeedbackToUser(), showHelp, exit);
     }
 
 }
@@ -28,6 +28,8 @@ public class CompletedCommand extends Command {
     public static final String MESSAGE_TASK_ALREADY_COMPLETED = "Task is already completed.";
     public static final String MESSAGE_COMPLETED_SUCCESS = "%1$s completed.";
 
+    private static final Tag COMPLETED_TAG = Tag.of("completed");
+
     private final Index index;
     /**
      * @param index of the task in the filtered task list to be completed
@@ -61,12 +63,10 @@ public class CompletedCommand extends Command {
             taskToComplete.updateTaskId(taskId);
             history.addHistoryTaskId(Integer.toString(taskId));
 
-            if (taskToComplete.getTags().contains(new Tag("completed"))) {
+            if (taskToComplete.hasTag(COMPLETED_TAG)) {
                 throw new CommandException(MESSAGE_TASK_ALREADY_COMPLETED);
             } else {
-                taskToComplete.addTag(new Tag("completed"));
-
-                model.setTask(targetTask, taskToComplete);
+                model.setTask(targetTask, taskToComplete.withTag(COMPLETED_TAG));
 
                 model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
 
@@ -83,6 +83,11 @@ public class CompletedCommand extends Command {
         }
     }
 
+    @Override
+    public CommandEffect getEffect() {
+        return LogicManager.getState() ? CommandEffect.MUTATES_PROJECT : CommandEffect.READ_ONLY;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
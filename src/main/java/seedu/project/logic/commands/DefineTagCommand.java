@@ -40,4 +40,9 @@ public class DefineTagCommand extends Command {
         model.commitProjectList();
         return new CommandResult(String.format(SUCCESS_MESSAGE, toAdd.getName().toString()));
     }
+
+    @Override
+    public CommandEffect getEffect() {
+        return CommandEffect.MUTATES_PROJECT_LIST;
+    }
 }
@@ -73,6 +73,11 @@ public class DeleteCommand extends Command {
         }
     }
 
+    @Override
+    public CommandEffect getEffect() {
+        return LogicManager.getState() ? CommandEffect.MUTATES_PROJECT : CommandEffect.MUTATES_PROJECT_LIST;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -134,6 +134,11 @@ public class EditCommand extends Command {
         }
     }
 
+    @Override
+    public CommandEffect getEffect() {
+        return editProjectDescriptor != null ? CommandEffect.MUTATES_PROJECT_LIST : CommandEffect.MUTATES_PROJECT;
+    }
+
     /**
      * Creates and returns a {@code Project} with the details of {@code taskToEdit}
      * edited with {@code editTaskDescriptor}.
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.function.Function;
 
 import seedu.project.logic.CommandHistory;
 import seedu.project.model.Model;
@@ -27,8 +28,10 @@ public class HistoryCommand extends Command {
             return new CommandResult(MESSAGE_NO_HISTORY);
         }
 
+        // the history can be long, so its lines are only joined as they are shown
         Collections.reverse(previousCommands);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
+        return new CommandResult(ResultSource.ofLines(String.format(MESSAGE_SUCCESS, ""), previousCommands,
+                Function.identity(), false));
     }
 
 }
@@ -61,6 +61,11 @@ public class ImportCommand extends Command {
         }
     }
 
+    @Override
+    public CommandEffect getEffect() {
+        return CommandEffect.MUTATES_PROJECT_LIST;
+    }
+
     /**
      * Read JSON project list
      */
@@ -2,11 +2,17 @@ package seedu.project.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import seedu.project.commons.core.Messages;
 import seedu.project.logic.CommandHistory;
 import seedu.project.logic.LogicManager;
 import seedu.project.logic.commands.exceptions.CommandException;
 import seedu.project.model.Model;
+import seedu.project.model.tag.Tag;
+import seedu.project.model.task.Task;
 
 /**
  * Lists all unique tags and their tasks to the user.
@@ -24,8 +30,20 @@ public class ListTagCommand extends Command {
             throw new CommandException(String.format(Messages.MESSAGE_GO_TO_TASK_LEVEL, COMMAND_WORD));
         }
 
-        String filteredTags = model.getTagWithTaskList();
-        return new CommandResult(filteredTags);
+        // tasks are only grouped here, the lines are built as they are shown
+        List<Map.Entry<Tag, List<Task>>> tagsWithTasks = new ArrayList<>(model.getTasksByTag().entrySet());
+        return new CommandResult(ResultSource.ofLines("", tagsWithTasks, ListTagCommand::toLine, true));
+    }
+
+    /**
+     * Returns the line listing the tasks with the tag of {@code tagWithTasks}.
+     */
+    private static String toLine(Map.Entry<Tag, List<Task>> tagWithTasks) {
+        StringBuilder line = new StringBuilder(tagWithTasks.getKey().toStringWithoutBrackets()).append(": ");
+        for (Task task : tagWithTasks.getValue()) {
+            line.append('[').append(task.getName().toString()).append(']');
+        }
+        return line.toString();
     }
 
 }
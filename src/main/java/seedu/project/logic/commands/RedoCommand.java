@@ -37,4 +37,9 @@ public class RedoCommand extends Command {
             return new CommandResult(MESSAGE_SUCCESS);
         }
     }
+
+    @Override
+    public CommandEffect getEffect() {
+        return LogicManager.getState() ? CommandEffect.MUTATES_PROJECT : CommandEffect.READ_ONLY;
+    }
 }
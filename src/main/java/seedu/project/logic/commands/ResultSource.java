@@ -0,0 +1,144 @@
+package seedu.project.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The text of a {@code CommandResult}, which is split into pages that are only built when they are asked for.
+ * Commands with long outputs capture what they need to show while they run, and leave building the text to
+ * whoever shows it, which need only build the pages it actually shows. The pages, concatenated, are the whole text.
+ *
+ * A {@code ResultSource} may be read from any thread, so it must only refer to data that does not change.
+ */
+public abstract class ResultSource {
+
+    /** The number of lines on each page of a result with many lines. */
+    public static final int LINES_PER_PAGE = 50;
+
+    private volatile String text;
+
+    /**
+     * Returns a source with {@code text} as its only page.
+     */
+    public static ResultSource of(String text) {
+        requireNonNull(text);
+        return new TextSource(text);
+    }
+
+    /**
+     * Returns a source of {@code header} followed by one line for each of {@code items}, rendered by
+     * {@code toLine} when its page is built. Lines are separated by newlines; the last line is only followed by
+     * one if {@code isLastLineTerminated}.
+     * {@code items} is copied, but the items themselves must not change.
+     */
+    public static <T> ResultSource ofLines(String header, List<? extends T> items, Function<? super T, String> toLine,
+            boolean isLastLineTerminated) {
+        requireNonNull(header);
+        requireNonNull(toLine);
+        return new LineSource<T>(header, new ArrayList<>(items), toLine, isLastLineTerminated);
+    }
+
+    /**
+     * Returns the number of pages, which is at least one.
+     */
+    public abstract int getPageCount();
+
+    /**
+     * Builds the page at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if there is no such page
+     */
+    public abstract String getPage(int index);
+
+    /**
+     * Returns the whole text, building all pages the first time it is called.
+     */
+    public String getText() {
+        String builtText = text;
+        if (builtText == null) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < getPageCount(); i++) {
+                builder.append(getPage(i));
+            }
+            builtText = builder.toString();
+            text = builtText;
+        }
+        return builtText;
+    }
+
+    /**
+     * A source whose text has already been built.
+     */
+    private static class TextSource extends ResultSource {
+        private final String text;
+
+        TextSource(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int getPageCount() {
+            return 1;
+        }
+
+        @Override
+        public String getPage(int index) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException("Page " + index + " of 1");
+            }
+            return text;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+    }
+
+    /**
+     * A source of a header and a line for each item, with {@code LINES_PER_PAGE} items on each page.
+     */
+    private static class LineSource<T> extends ResultSource {
+        private final String header;
+        private final List<T> items;
+        private final Function<? super T, String> toLine;
+        private final boolean isLastLineTerminated;
+
+        LineSource(String header, List<T> items, Function<? super T, String> toLine, boolean isLastLineTerminated) {
+            this.header = header;
+            this.items = Collections.unmodifiableList(items);
+            this.toLine = toLine;
+            this.isLastLineTerminated = isLastLineTerminated;
+        }
+
+        @Override
+        public int getPageCount() {
+            return Math.max(1, (items.size() + LINES_PER_PAGE - 1) / LINES_PER_PAGE);
+        }
+
+        @Override
+        public String getPage(int index) {
+            if (index < 0 || index >= getPageCount()) {
+                throw new IndexOutOfBoundsException("Page " + index + " of " + getPageCount());
+            }
+
+            StringBuilder page = new StringBuilder();
+            if (index == 0) {
+                page.append(header);
+            }
+            int end = Math.min(items.size(), (index + 1) * LINES_PER_PAGE);
+            for (int i = index * LINES_PER_PAGE; i < end; i++) {
+                page.append(toLine.apply(items.get(i)));
+                // the newline between two lines belongs to the page of the first
+                if (i < items.size() - 1 || isLastLineTerminated) {
+                    page.append('\n');
+                }
+            }
+            return page.toString();
+        }
+    }
+}
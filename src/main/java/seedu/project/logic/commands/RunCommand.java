@@ -0,0 +1,110 @@
+package seedu.project.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.project.commons.exceptions.DataConversionException;
+import seedu.project.commons.util.FileUtil;
+import seedu.project.logic.CommandHistory;
+import seedu.project.logic.commands.exceptions.CommandException;
+import seedu.project.logic.parser.ProjectParser;
+import seedu.project.logic.parser.exceptions.ParseException;
+import seedu.project.model.Model;
+
+/**
+ * Runs the commands in a script file as a single batch.
+ * The script contains one command per line. Blank lines and lines starting with {@code #} are ignored.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMAND_ALIAS = "rn";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one command "
+            + "per line, as a single undoable change. If any command fails, no changes are made.\n"
+            + "Parameters: PATH\n"
+            + "Example: " + COMMAND_WORD + " ./data/onboarding.txt";
+
+    public static final String MESSAGE_PATH_INVALID = "Path is invalid!";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d of the script is invalid: %2$s";
+
+    private final Path script;
+    private BatchCommand batch;
+
+    /**
+     * Creates a RunCommand to run the commands in {@code script}.
+     */
+    public RunCommand(Path script) {
+        requireNonNull(script);
+        this.script = script;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException,
+            DataConversionException, IOException {
+        requireNonNull(model);
+        if (!FileUtil.isFileExists(script)) {
+            throw new CommandException(MESSAGE_PATH_INVALID);
+        }
+
+        batch = BatchCommand.ofPendingCommands(parseScript(FileUtil.readFromFile(script)));
+        return batch.execute(model, history);
+    }
+
+    /**
+     * Prepares every command in {@code scriptContent} to be parsed just before it runs.
+     *
+     * @throws CommandException if any line is not a known command that can be batched.
+     */
+    private static List<BatchCommand.PendingCommand> parseScript(String scriptContent) throws CommandException {
+        ProjectParser parser = new ProjectParser();
+        List<BatchCommand.PendingCommand> commands = new ArrayList<>();
+        String[] lines = scriptContent.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            BatchCommand.PendingCommand command;
+            try {
+                command = parser.parsePendingCommand(line);
+            } catch (ParseException pe) {
+                throw new CommandException(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()), pe);
+            }
+            commands.add(() -> parseLine(command, lineNumber));
+        }
+        return commands;
+    }
+
+    /**
+     * Parses {@code command} from line {@code lineNumber} of the script.
+     *
+     * @throws ParseException if the command is invalid, with the line number in its message.
+     */
+    private static Command parseLine(BatchCommand.PendingCommand command, int lineNumber) throws ParseException {
+        try {
+            return command.parse();
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()), pe);
+        }
+    }
+
+    @Override
+    public CommandEffect getEffect() {
+        return batch == null ? CommandEffect.READ_ONLY : batch.getEffect();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && script.equals(((RunCommand) other).script));
+    }
+}
@@ -5,9 +5,8 @@ import static seedu.project.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import seedu.project.commons.core.Messages;
 import seedu.project.logic.CommandHistory;
 import seedu.project.logic.LogicManager;
@@ -33,8 +32,8 @@ public class SortByDeadlineCommand extends Command {
         if (!LogicManager.getState()) {
             return new CommandResult(Messages.MESSAGE_GO_TO_TASK_LEVEL);
         } else {
-            //ObservableList of all filteredTasks
-            ObservableList<Task> filteredTasks = model.getFilteredTaskList();
+            //List of all filteredTasks
+            List<Task> filteredTasks = model.getFilteredTaskList();
 
             Comparator<Task> taskComparator = new Comparator<Task>() {
                 @Override
@@ -62,24 +61,12 @@ public class SortByDeadlineCommand extends Command {
 
             int size = filteredTasks.size();
 
-            //filteredTasks.sorted(taskComparator);
-
-            SortedList<Task> sortedList = filteredTasks.sorted(taskComparator);
-
-            ArrayList<Task> properList = new ArrayList<Task>();
-
-            for (int i = 0; i < size; i++) {
-                properList.add(sortedList.get(i));
-            }
-
-            //System.out.println(size);
-
-            System.out.println("SortedList:");
+            ArrayList<Task> properList = new ArrayList<Task>(filteredTasks);
+            properList.sort(taskComparator);
 
             model.clearTasks();
 
             for (int i = 0; i < size; i++) {
-                System.out.println(((properList.get(i)).getName()).toString());
                 model.addTask(properList.get(i));
             }
 
@@ -96,13 +83,12 @@ public class SortByDeadlineCommand extends Command {
 
             model.commitProjectList();
 
-            //System.out.println("FilteredTasks:");
-
-            //for(int i = 0; i < size; i++) {
-            //    System.out.println(((filteredTasks.get(i)).getName()).toString());
-            //}
-
             return new CommandResult(MESSAGE_SUCCESS_TASK);
         }
     }
+
+    @Override
+    public CommandEffect getEffect() {
+        return LogicManager.getState() ? CommandEffect.MUTATES_PROJECT : CommandEffect.READ_ONLY;
+    }
 }
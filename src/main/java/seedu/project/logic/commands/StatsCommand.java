@@ -0,0 +1,27 @@
+package seedu.project.logic.commands;
+
+import java.util.function.Function;
+
+import seedu.project.commons.metrics.MetricsRegistry;
+import seedu.project.logic.CommandHistory;
+import seedu.project.model.Model;
+
+/**
+ * Shows the latencies of the commands run so far, broken down by phase, and the other metrics of the application.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String COMMAND_ALIAS = "st";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each kind of command took to parse, execute, commit and save, "
+            + "and how much data was read and written.\n"
+            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_SUCCESS = "Metrics since the app was started:\n";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        return new CommandResult(ResultSource.ofLines(MESSAGE_SUCCESS, MetricsRegistry.getDefault().report(),
+                Function.identity(), false));
+    }
+}
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import seedu.project.commons.core.Messages;
 import seedu.project.commons.core.index.Index;
@@ -75,8 +76,9 @@ public class TaskHistoryCommand extends Command {
             }
 
             Collections.reverse(commandList);
-            return new CommandResult(String.format(MESSAGE_SUCCESS, targetIndex.getOneBased(),
-                    String.join("\n", commandList)));
+            return new CommandResult(ResultSource.ofLines(
+                    String.format(MESSAGE_SUCCESS, targetIndex.getOneBased(), ""), commandList, Function.identity(),
+                    false));
         }
     }
 
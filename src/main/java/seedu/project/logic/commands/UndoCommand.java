@@ -44,4 +44,9 @@ public class UndoCommand extends Command {
             return new CommandResult(MESSAGE_SUCCESS);
         }
     }
+
+    @Override
+    public CommandEffect getEffect() {
+        return LogicManager.getState() ? CommandEffect.MUTATES_PROJECT : CommandEffect.MUTATES_PROJECT_LIST;
+    }
 }
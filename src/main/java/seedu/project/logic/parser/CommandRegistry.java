@@ -0,0 +1,183 @@
+package seedu.project.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.project.commons.util.Trie;
+import seedu.project.logic.commands.AddCommand;
+import seedu.project.logic.commands.AddTagCommand;
+import seedu.project.logic.commands.AnalyseCommand;
+import seedu.project.logic.commands.ClearCommand;
+import seedu.project.logic.commands.Command;
+import seedu.project.logic.commands.CompareCommand;
+import seedu.project.logic.commands.CompletedCommand;
+import seedu.project.logic.commands.DefineTagCommand;
+import seedu.project.logic.commands.DeleteCommand;
+import seedu.project.logic.commands.EditCommand;
+import seedu.project.logic.commands.ExitCommand;
+import seedu.project.logic.commands.ExportCommand;
+import seedu.project.logic.commands.FindCommand;
+import seedu.project.logic.commands.HelpCommand;
+import seedu.project.logic.commands.HistoryCommand;
+import seedu.project.logic.commands.ImportCommand;
+import seedu.project.logic.commands.ListCommand;
+import seedu.project.logic.commands.ListProjectCommand;
+import seedu.project.logic.commands.ListTagCommand;
+import seedu.project.logic.commands.RedoCommand;
+import seedu.project.logic.commands.RunCommand;
+import seedu.project.logic.commands.SelectCommand;
+import seedu.project.logic.commands.SortByDeadlineCommand;
+import seedu.project.logic.commands.StatsCommand;
+import seedu.project.logic.commands.TaskHistoryCommand;
+import seedu.project.logic.commands.UndoCommand;
+
+/**
+ * Maps command words and aliases to the parsers of their commands.
+ * A command word can also be given by any prefix of it that no other command word or alias starts with,
+ * e.g. {@code sortD} for {@code sortDeadline}.
+ */
+public class CommandRegistry {
+
+    private static final CommandRegistry DEFAULT_REGISTRY = createDefaultRegistry();
+
+    private final Trie<Entry> entries = new Trie<>();
+
+    /**
+     * Returns the registry of all commands of the application, which is built once.
+     */
+    public static CommandRegistry getDefault() {
+        return DEFAULT_REGISTRY;
+    }
+
+    /**
+     * Registers a command under {@code commandWord} and {@code alias}, which are parsed by {@code parser}.
+     * {@code parser} is shared by all parses of the command, so it must not keep any state between them.
+     */
+    public void register(String commandWord, String alias, Parser<? extends Command> parser) {
+        register(commandWord, alias, parser, true);
+    }
+
+    /**
+     * Registers a command as {@link #register(String, String, Parser)} does, where {@code isBatchable} tells whether
+     * the command can be part of a batch of commands.
+     */
+    public void register(String commandWord, String alias, Parser<? extends Command> parser,
+            boolean isBatchable) {
+        requireNonNull(parser);
+        Entry entry = new Entry(commandWord, parser, isBatchable);
+        entries.put(commandWord, entry);
+        if (alias != null) {
+            entries.put(alias, entry);
+        }
+    }
+
+    /**
+     * Returns the parser registered under {@code commandWord}, or, if there is none, the parser of the only command
+     * with a word or alias starting with {@code commandWord}. Returns null if there is no such command.
+     */
+    public Parser<? extends Command> find(String commandWord) {
+        Entry entry = findEntry(commandWord);
+        return entry == null ? null : entry.parser;
+    }
+
+    /**
+     * Returns true if the command found by {@link #find(String)} for {@code commandWord} can be part of a batch of
+     * commands. Returns false if there is no such command.
+     */
+    public boolean canBeBatched(String commandWord) {
+        Entry entry = findEntry(commandWord);
+        return entry != null && entry.isBatchable;
+    }
+
+    /**
+     * Returns the entry of the command found by {@link #find(String)} for {@code commandWord}, or null if there is
+     * none.
+     */
+    private Entry findEntry(String commandWord) {
+        Entry entry = entries.get(commandWord);
+        if (entry != null) {
+            return entry;
+        }
+        if (commandWord.isEmpty()) {
+            return null;
+        }
+
+        // a command has at most two keys, so three keys are enough to tell whether they all belong to one command
+        List<Entry> candidates = entries.valuesWithPrefix(commandWord, 3);
+        Entry match = null;
+        for (Entry candidate : candidates) {
+            if (match != null && match != candidate) {
+                return null;
+            }
+            match = candidate;
+        }
+        return match;
+    }
+
+    /**
+     * Returns the registered command words and aliases that start with {@code prefix}, in lexicographic order,
+     * stopping after {@code limit} words.
+     */
+    public List<String> wordsWithPrefix(String prefix, int limit) {
+        return entries.keysWithPrefix(prefix, limit);
+    }
+
+    /**
+     * Creates a registry with all commands of the application.
+     */
+    private static CommandRegistry createDefaultRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, AddCommand.COMMAND_ALIAS, new AddCommandParser());
+        registry.register(CompareCommand.COMMAND_WORD, CompareCommand.COMMAND_ALIAS, new CompareCommandParser());
+        registry.register(CompletedCommand.COMMAND_WORD, CompletedCommand.COMMAND_ALIAS,
+                new CompletedCommandParser());
+        registry.register(AnalyseCommand.COMMAND_WORD, AnalyseCommand.COMMAND_ALIAS, args -> new AnalyseCommand());
+        registry.register(DefineTagCommand.COMMAND_WORD, DefineTagCommand.COMMAND_ALIAS,
+                new DefineTagCommandParser());
+        registry.register(AddTagCommand.COMMAND_WORD, AddTagCommand.COMMAND_ALIAS, new AddTagCommandParser());
+        registry.register(TaskHistoryCommand.COMMAND_WORD, TaskHistoryCommand.COMMAND_ALIAS,
+                new TaskHistoryCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, EditCommand.COMMAND_ALIAS, new EditCommandParser());
+        registry.register(SelectCommand.COMMAND_WORD, SelectCommand.COMMAND_ALIAS, new SelectCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, DeleteCommand.COMMAND_ALIAS, new DeleteCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, ClearCommand.COMMAND_ALIAS, args -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, FindCommand.COMMAND_ALIAS, new FindCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, ListCommand.COMMAND_ALIAS, args -> new ListCommand());
+        registry.register(ListTagCommand.COMMAND_WORD, ListTagCommand.COMMAND_ALIAS, args -> new ListTagCommand());
+        registry.register(ListProjectCommand.COMMAND_WORD, ListProjectCommand.COMMAND_ALIAS, args ->
+                new ListProjectCommand());
+        registry.register(HistoryCommand.COMMAND_WORD, HistoryCommand.COMMAND_ALIAS, args -> new HistoryCommand());
+        registry.register(ExitCommand.COMMAND_WORD, null, args -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, null, args -> new HelpCommand());
+        registry.register(UndoCommand.COMMAND_WORD, UndoCommand.COMMAND_ALIAS, args -> new UndoCommand(), false);
+        registry.register(RedoCommand.COMMAND_WORD, RedoCommand.COMMAND_ALIAS, args -> new RedoCommand(), false);
+        registry.register(ImportCommand.COMMAND_WORD, ImportCommand.COMMAND_ALIAS, new ImportCommandParser());
+        registry.register(ExportCommand.COMMAND_WORD, ExportCommand.COMMAND_ALIAS, new ExportCommandParser());
+        registry.register(SortByDeadlineCommand.COMMAND_WORD, SortByDeadlineCommand.COMMAND_ALIAS, args ->
+                new SortByDeadlineCommand());
+        registry.register(RunCommand.COMMAND_WORD, RunCommand.COMMAND_ALIAS, new RunCommandParser(), false);
+        registry.register(StatsCommand.COMMAND_WORD, StatsCommand.COMMAND_ALIAS, args -> new StatsCommand());
+        return registry;
+    }
+
+    /**
+     * A registered command.
+     */
+    private static class Entry {
+        private final String commandWord;
+        private final Parser<? extends Command> parser;
+        private final boolean isBatchable;
+
+        Entry(String commandWord, Parser<? extends Command> parser, boolean isBatchable) {
+            this.commandWord = commandWord;
+            this.parser = parser;
+            this.isBatchable = isBatchable;
+        }
+
+        @Override
+        public String toString() {
+            return commandWord;
+        }
+    }
+}
@@ -3,33 +3,13 @@ package seedu.project.logic.parser;
 import static seedu.project.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.project.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
-import seedu.project.logic.commands.AddCommand;
-import seedu.project.logic.commands.AddTagCommand;
-import seedu.project.logic.commands.AnalyseCommand;
-import seedu.project.logic.commands.ClearCommand;
+import seedu.project.logic.commands.BatchCommand;
 import seedu.project.logic.commands.Command;
-import seedu.project.logic.commands.CompareCommand;
-import seedu.project.logic.commands.CompletedCommand;
-import seedu.project.logic.commands.DefineTagCommand;
-import seedu.project.logic.commands.DeleteCommand;
-import seedu.project.logic.commands.EditCommand;
-import seedu.project.logic.commands.ExitCommand;
-import seedu.project.logic.commands.ExportCommand;
-import seedu.project.logic.commands.FindCommand;
 import seedu.project.logic.commands.HelpCommand;
-import seedu.project.logic.commands.HistoryCommand;
-import seedu.project.logic.commands.ImportCommand;
-import seedu.project.logic.commands.ListCommand;
-import seedu.project.logic.commands.ListProjectCommand;
-import seedu.project.logic.commands.ListTagCommand;
-import seedu.project.logic.commands.RedoCommand;
-import seedu.project.logic.commands.SelectCommand;
-import seedu.project.logic.commands.SortByDeadlineCommand;
-import seedu.project.logic.commands.TaskHistoryCommand;
-import seedu.project.logic.commands.UndoCommand;
 import seedu.project.logic.parser.exceptions.ParseException;
 
 /**
@@ -38,9 +18,13 @@ import seedu.project.logic.parser.exceptions.ParseException;
 public class ProjectParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * Matches the separator between commands, which must stand alone, with whitespace or the end of the input on
+     * both sides, so that values such as descriptions may contain semicolons.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Pattern COMMAND_SEPARATOR_PATTERN =
+            Pattern.compile("(?:^|\\s)" + Pattern.quote(BatchCommand.COMMAND_SEPARATOR) + "(?=\\s|$)");
+
+    private final CommandRegistry registry = CommandRegistry.getDefault();
 
     /**
      * Parses user input into command for execution.
@@ -50,149 +34,116 @@ public class ProjectParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        if (userInput.contains(BatchCommand.COMMAND_SEPARATOR)
+                && COMMAND_SEPARATOR_PATTERN.matcher(userInput).find()) {
+            return parseBatchCommand(userInput);
         }
+        return parseSingleCommand(userInput);
+    }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case AddCommand.COMMAND_ALIAS:
-            return new AddCommandParser().parse(arguments);
-
-        case CompareCommand.COMMAND_WORD:
-            return new CompareCommandParser().parse(arguments);
-
-        case CompareCommand.COMMAND_ALIAS:
-            return new CompareCommandParser().parse(arguments);
-
-        case CompletedCommand.COMMAND_WORD:
-            return new CompletedCommandParser().parse(arguments);
-
-        case CompletedCommand.COMMAND_ALIAS:
-            return new CompletedCommandParser().parse(arguments);
-
-        case AnalyseCommand.COMMAND_WORD:
-            return new AnalyseCommand();
-
-        case AnalyseCommand.COMMAND_ALIAS:
-            return new AnalyseCommand();
-
-        case DefineTagCommand.COMMAND_WORD:
-            return new DefineTagCommandParser().parse(arguments);
-
-        case DefineTagCommand.COMMAND_ALIAS:
-            return new DefineTagCommandParser().parse(arguments);
-
-        case AddTagCommand.COMMAND_WORD:
-            return new AddTagCommandParser().parse(arguments);
-
-        case AddTagCommand.COMMAND_ALIAS:
-            return new AddTagCommandParser().parse(arguments);
-
-        case TaskHistoryCommand.COMMAND_WORD:
-            return new TaskHistoryCommandParser().parse(arguments);
-
-        case TaskHistoryCommand.COMMAND_ALIAS:
-            return new TaskHistoryCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_ALIAS:
-            return new EditCommandParser().parse(arguments);
-
-        case SelectCommand.COMMAND_WORD:
-            return new SelectCommandParser().parse(arguments);
-
-        case SelectCommand.COMMAND_ALIAS:
-            return new SelectCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_ALIAS:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case ClearCommand.COMMAND_ALIAS:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_ALIAS:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ListCommand.COMMAND_ALIAS:
-            return new ListCommand();
-
-        case ListTagCommand.COMMAND_ALIAS:
-            return new ListTagCommand();
-
-        case ListTagCommand.COMMAND_WORD:
-            return new ListTagCommand();
-
-        case ListProjectCommand.COMMAND_WORD:
-            return new ListProjectCommand();
-
-        case ListProjectCommand.COMMAND_ALIAS:
-            return new ListProjectCommand();
-
-        case HistoryCommand.COMMAND_WORD:
-            return new HistoryCommand();
-
-        case HistoryCommand.COMMAND_ALIAS:
-            return new HistoryCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    /**
+     * Parses user input into a single command, without treating {@code BatchCommand.COMMAND_SEPARATOR} as the end
+     * of a command, e.g. for the lines of a script.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseSingleCommand(String userInput) throws ParseException {
+        final String trimmedInput = userInput.trim();
+        final String commandWord = getCommandWord(trimmedInput);
+        final String arguments = trimmedInput.substring(commandWord.length());
 
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
+        Parser<? extends Command> parser = registry.find(commandWord);
+        if (parser == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case UndoCommand.COMMAND_ALIAS:
-            return new UndoCommand();
+    /**
+     * Prepares user input as a command of a batch, without treating {@code BatchCommand.COMMAND_SEPARATOR} as the
+     * end of a command. Only the command word is checked here. The arguments are parsed when the returned command
+     * is about to run, as how they are parsed depends on the commands run before it.
+     *
+     * @throws ParseException if the command is unknown or cannot be batched
+     */
+    public BatchCommand.PendingCommand parsePendingCommand(String userInput) throws ParseException {
+        final String trimmedInput = userInput.trim();
+        final String commandWord = getCommandWord(trimmedInput);
+        if (registry.find(commandWord) == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        if (!registry.canBeBatched(commandWord)) {
+            throw new ParseException(BatchCommand.MESSAGE_NOT_BATCHABLE);
+        }
+        return new PendingCommand(this, trimmedInput);
+    }
 
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
+    /**
+     * Returns the command word that {@code trimmedInput} starts with.
+     *
+     * @throws ParseException if {@code trimmedInput} is empty
+     */
+    private static String getCommandWord(String trimmedInput) throws ParseException {
+        if (trimmedInput.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
 
-        case RedoCommand.COMMAND_ALIAS:
-            return new RedoCommand();
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        return trimmedInput.substring(0, commandWordEnd);
+    }
 
-        case ImportCommand.COMMAND_WORD:
-            return new ImportCommandParser().parse(arguments);
+    /**
+     * Parses user input made up of several commands separated by a standalone
+     * {@code BatchCommand.COMMAND_SEPARATOR} into a single {@code BatchCommand}. Empty commands are ignored.
+     *
+     * @throws ParseException if any of the commands is unknown or cannot be batched
+     */
+    private Command parseBatchCommand(String userInput) throws ParseException {
+        List<BatchCommand.PendingCommand> commands = new ArrayList<>();
+        for (String commandText : COMMAND_SEPARATOR_PATTERN.split(userInput)) {
+            if (commandText.trim().isEmpty()) {
+                continue;
+            }
+            commands.add(parsePendingCommand(commandText));
+        }
 
-        case ImportCommand.COMMAND_ALIAS:
-            return new ImportCommandParser().parse(arguments);
+        if (commands.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+        return BatchCommand.ofPendingCommands(commands);
+    }
 
-        case ExportCommand.COMMAND_WORD:
-            return new ExportCommandParser().parse(arguments);
+    /**
+     * A command of a batch, which is parsed from its text when it is about to run.
+     */
+    private static class PendingCommand implements BatchCommand.PendingCommand {
+        private final ProjectParser parser;
+        private final String commandText;
 
-        case ExportCommand.COMMAND_ALIAS:
-            return new ExportCommandParser().parse(arguments);
+        PendingCommand(ProjectParser parser, String commandText) {
+            this.parser = parser;
+            this.commandText = commandText;
+        }
 
-        case SortByDeadlineCommand.COMMAND_WORD:
-            return new SortByDeadlineCommand();
+        @Override
+        public Command parse() throws ParseException {
+            return parser.parseSingleCommand(commandText);
+        }
 
-        case SortByDeadlineCommand.COMMAND_ALIAS:
-            return new SortByDeadlineCommand();
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PendingCommand // instanceof handles nulls
+                    && commandText.equals(((PendingCommand) other).commandText));
+        }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        @Override
+        public int hashCode() {
+            return commandText.hashCode();
         }
     }
 
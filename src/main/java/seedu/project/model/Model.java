@@ -2,10 +2,10 @@ package seedu.project.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
-import javafx.collections.ObservableList;
 import seedu.project.commons.core.GuiSettings;
 import seedu.project.model.project.Project;
 import seedu.project.model.project.ReadOnlyProject;
@@ -71,7 +71,7 @@ public interface Model {
     boolean hasProject(Project project);
 
     /** Returns the ProjectList */
-    ObservableList<GroupTag> getGroupTagList();
+    List<GroupTag> getGroupTagList();
 
     /**
      * Returns true if a GroupTag with the same identity as {@code GroupTag} exists in the
@@ -112,6 +112,11 @@ public interface Model {
     /** Returns the Project */
     ReadOnlyProject getProject();
 
+    /**
+     * Adds a listener that is notified of the changes to the opened project, whichever project is opened.
+     */
+    void addOpenedProjectListener(ModelChangeListener listener);
+
     /**
      * Returns true if a task with the same identity as {@code task} exists in the
      * project.
@@ -146,7 +151,7 @@ public interface Model {
     void clearTasks();
 
     /** Returns an unmodifiable view of the filtered project list */
-    ObservableList<Project> getFilteredProjectList();
+    List<Project> getFilteredProjectList();
 
     /**
      * Updates the filter of the filtered project list to filter by the given
@@ -156,12 +161,21 @@ public interface Model {
      */
     void updateFilteredProjectList(Predicate<Project> predicate);
 
+    /** Returns the predicate the filtered project list is filtered by. */
+    Predicate<Project> getFilteredProjectListPredicate();
+
     /** Returns an unmodifiable view of the filtered task list */
-    ObservableList<Task> getFilteredTaskList();
+    List<Task> getFilteredTaskList();
 
     /** Returns an String tags and their associated task list */
     String getTagWithTaskList();
 
+    /**
+     * Returns the tags of the filtered tasks, each mapped to the filtered tasks that have it, in the order of the
+     * filtered task list. The returned map is a new copy.
+     */
+    Map<Tag, List<Task>> getTasksByTag();
+
     /**
      * Updates the filter of the filtered task list to filter by the given
      * {@code predicate}.
@@ -170,6 +184,9 @@ public interface Model {
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
+    /** Returns the predicate the filtered task list is filtered by. */
+    Predicate<Task> getFilteredTaskListPredicate();
+
     /**
      * Returns true if the model has previous project list states to restore.
      */
@@ -210,6 +227,45 @@ public interface Model {
      */
     void commitProject();
 
+    /**
+     * Returns the number of project list and project states kept for undo/redo.
+     */
+    int getUndoHistorySize();
+
+    /**
+     * Starts a batch of changes that is committed as a single undo/redo step.
+     * Until {@link #endBatch()} or {@link #rollBackBatch()} is called, {@link #commitProject()} and
+     * {@link #commitProjectList()} only record that a commit is needed.
+     */
+    void startBatch();
+
+    /**
+     * Ends the current batch, committing each modified project and the project list at most once.
+     */
+    void endBatch();
+
+    /**
+     * Ends the current batch, discarding all changes made since {@link #startBatch()}.
+     */
+    void rollBackBatch();
+
+    /**
+     * Returns true if a batch has been started and not yet ended.
+     */
+    boolean isInBatch();
+
+    /**
+     * Publishes an immutable snapshot of the current project list and opened project, which replaces the one
+     * returned by {@link #getSnapshot()}. Called once each command has been committed.
+     */
+    void publishSnapshot();
+
+    /**
+     * Returns the last published snapshot.
+     * Unlike the rest of the model, this may be called from any thread.
+     */
+    ModelSnapshot getSnapshot();
+
     /**
      * Selected project in the filtered project list. null if no project is selected.
      */
@@ -0,0 +1,160 @@
+package seedu.project.model;
+
+import seedu.project.model.project.Project;
+import seedu.project.model.task.Task;
+
+/**
+ * Describes a single change to a {@code ProjectList} or a {@code Project}, so that listeners can apply only the part
+ * of the change they care about instead of rereading everything.
+ * Guarantees: immutable.
+ */
+public class ModelChange {
+
+    /**
+     * The kinds of changes the model can go through.
+     */
+    public enum Type {
+        /** {@code getNewTask()} was added to {@code getProject()}. */
+        TASK_ADDED,
+        /** {@code getOldTask()} was removed from {@code getProject()}. */
+        TASK_REMOVED,
+        /** {@code getOldTask()} in {@code getProject()} was replaced by {@code getNewTask()}. */
+        TASK_REPLACED,
+        /** All tasks of {@code getProject()} were replaced. */
+        TASKS_RESET,
+        /** {@code getProject()} was renamed from {@code getOldName()}. */
+        PROJECT_RENAMED,
+        /** {@code getProject()} was added to the project list. */
+        PROJECT_ADDED,
+        /** {@code getOldProject()} was removed from the project list. */
+        PROJECT_REMOVED,
+        /** {@code getOldProject()} in the project list was replaced by {@code getProject()}. */
+        PROJECT_REPLACED,
+        /** All projects of the project list were replaced. */
+        PROJECTS_RESET,
+        /** The group tags of the project list changed. */
+        GROUP_TAGS_CHANGED
+    }
+
+    private final Type type;
+    private final long version;
+    private final Project project;
+    private final Project oldProject;
+    private final Task oldTask;
+    private final Task newTask;
+    private final Name oldName;
+
+    private ModelChange(Type type, long version, Project project, Project oldProject, Task oldTask, Task newTask,
+            Name oldName) {
+        this.type = type;
+        this.version = version;
+        this.project = project;
+        this.oldProject = oldProject;
+        this.oldTask = oldTask;
+        this.newTask = newTask;
+        this.oldName = oldName;
+    }
+
+    public static ModelChange taskAdded(long version, Project project, Task task) {
+        return new ModelChange(Type.TASK_ADDED, version, project, null, null, task, null);
+    }
+
+    public static ModelChange taskRemoved(long version, Project project, Task task) {
+        return new ModelChange(Type.TASK_REMOVED, version, project, null, task, null, null);
+    }
+
+    public static ModelChange taskReplaced(long version, Project project, Task oldTask, Task newTask) {
+        return new ModelChange(Type.TASK_REPLACED, version, project, null, oldTask, newTask, null);
+    }
+
+    public static ModelChange tasksReset(long version, Project project) {
+        return new ModelChange(Type.TASKS_RESET, version, project, null, null, null, null);
+    }
+
+    public static ModelChange projectRenamed(long version, Project project, Name oldName) {
+        return new ModelChange(Type.PROJECT_RENAMED, version, project, null, null, null, oldName);
+    }
+
+    public static ModelChange projectAdded(long version, Project project) {
+        return new ModelChange(Type.PROJECT_ADDED, version, project, null, null, null, null);
+    }
+
+    public static ModelChange projectRemoved(long version, Project project) {
+        return new ModelChange(Type.PROJECT_REMOVED, version, null, project, null, null, null);
+    }
+
+    public static ModelChange projectReplaced(long version, Project oldProject, Project newProject) {
+        return new ModelChange(Type.PROJECT_REPLACED, version, newProject, oldProject, null, null, null);
+    }
+
+    public static ModelChange projectsReset(long version) {
+        return new ModelChange(Type.PROJECTS_RESET, version, null, null, null, null, null);
+    }
+
+    public static ModelChange groupTagsChanged(long version) {
+        return new ModelChange(Type.GROUP_TAGS_CHANGED, version, null, null, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the version of the changed {@code ProjectList} or {@code Project} right after this change.
+     * Versions only ever increase, so a listener that remembers the last version it applied can tell whether it has
+     * missed a change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the project that was changed, added, or that replaced another, or null if there is none.
+     */
+    public Project getProject() {
+        return project;
+    }
+
+    /**
+     * Returns the project that was removed or replaced, or null if there is none.
+     */
+    public Project getOldProject() {
+        return oldProject;
+    }
+
+    /**
+     * Returns the task that was removed or replaced, or null if there is none.
+     */
+    public Task getOldTask() {
+        return oldTask;
+    }
+
+    /**
+     * Returns the task that was added or that replaced another, or null if there is none.
+     */
+    public Task getNewTask() {
+        return newTask;
+    }
+
+    /**
+     * Returns the ID of the task that was added, removed or replaced, or -1 if this is not a change to a single task.
+     */
+    public int getTaskId() {
+        if (newTask != null) {
+            return newTask.getTaskId();
+        }
+        return oldTask != null ? oldTask.getTaskId() : -1;
+    }
+
+    /**
+     * Returns the name the project had before it was renamed, or null if it was not renamed.
+     */
+    public Name getOldName() {
+        return oldName;
+    }
+
+    @Override
+    public String toString() {
+        return type + " v" + version;
+    }
+}
@@ -0,0 +1,9 @@
+package seedu.project.model;
+
+/**
+ * Receives the {@code ModelChange}s of a {@code ProjectList} or a {@code Project}, after they have been made.
+ */
+@FunctionalInterface
+public interface ModelChangeListener {
+    void onChange(ModelChange change);
+}
@@ -5,26 +5,33 @@ import static seedu.project.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.ListChangeListener;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.project.commons.core.GuiSettings;
 import seedu.project.commons.core.LogsCenter;
+import seedu.project.commons.metrics.PhaseTimes;
+import seedu.project.commons.util.FilteredView;
+import seedu.project.commons.util.ListChange;
+import seedu.project.commons.util.ListenerManager;
 import seedu.project.model.project.Project;
 import seedu.project.model.project.ReadOnlyProject;
 import seedu.project.model.project.VersionedProject;
 import seedu.project.model.project.exceptions.ProjectNotFoundException;
 import seedu.project.model.tag.GroupTag;
 import seedu.project.model.tag.Tag;
+import seedu.project.model.tag.TagSet;
 import seedu.project.model.task.Task;
 import seedu.project.model.task.exceptions.TaskNotFoundException;
 
@@ -38,12 +45,18 @@ public class ModelManager implements Model {
 
     private final VersionedProjectList versionedProjectList;
     private final UserPrefs userPrefs;
-    private final FilteredList<Project> filteredProjects;
+    private final FilteredView<Project> filteredProjects;
     private final SimpleObjectProperty<Project> selectedProject = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Task> selectedTask = new SimpleObjectProperty<>();
+    private final VersionedProjectCache projectCache = new VersionedProjectCache();
+    private final ListenerManager<ModelChangeListener> openedProjectListeners = new ListenerManager<>();
+    private final ModelChangeListener openedProjectForwarder = change ->
+            openedProjectListeners.callListeners(listener -> listener.onChange(change));
 
     private VersionedProject versionedProject;
-    private FilteredList<Task> filteredTasks;
+    private FilteredView<Task> filteredTasks;
+    private Batch batch;
+    private volatile ModelSnapshot snapshot;
 
     /**
      * Initializes a ModelManager with the given project and userPrefs.
@@ -52,15 +65,19 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(projectList, project, userPrefs);
 
-        logger.fine("Initializing with project list: " + projectList + " and user prefs " + userPrefs);
+        logger.log(Level.FINE, "Initializing with project list: {0} and user prefs {1}",
+                new Object[] {projectList, userPrefs});
 
         versionedProjectList = new VersionedProjectList(projectList);
         versionedProject = new VersionedProject(project);
+        versionedProject.addListener(openedProjectForwarder);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredProjects = new FilteredList<>(versionedProjectList.getProjectList());
+        filteredProjects = new FilteredView<>(versionedProjectList.getProjectList(),
+                versionedProjectList.getProjectChangeFeed());
         filteredProjects.addListener(this::ensureSelectedProjectIsValid);
-        filteredTasks = new FilteredList<>(versionedProject.getTaskList());
+        filteredTasks = new FilteredView<>(versionedProject.getTaskList(), versionedProject.getTaskChangeFeed());
         filteredTasks.addListener(this::ensureSelectedTaskIsValid);
+        publishSnapshot();
     }
 
     public ModelManager() {
@@ -108,6 +125,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setProjectList(ReadOnlyProjectList projectList) {
+        projectCache.clear();
         versionedProjectList.clear();
         versionedProjectList.resetData(projectList);
         versionedProjectList.populate(projectList);
@@ -125,7 +143,7 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ObservableList<GroupTag> getGroupTagList() {
+    public List<GroupTag> getGroupTagList() {
         return versionedProjectList.getGroupTagList();
     }
 
@@ -137,6 +155,7 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteProject(Project target) {
+        projectCache.remove(target);
         versionedProjectList.removeProject(target);
     }
 
@@ -155,30 +174,64 @@ public class ModelManager implements Model {
     public void setProject(Project target, Project editedProject) {
         requireAllNonNull(target, editedProject);
 
-        versionedProjectList.setProject(target, editedProject);
-        setSelectedProject(editedProject);
-        //this.setSelectedProject( (Project) this.getProject());
+        if (!target.isSameProject(editedProject)) {
+            projectCache.remove(target);
+        }
+        // the opened project is stored as its last saved state, which is never modified, so that later changes to it
+        // reach the project list, and the undo history of the list, only when it is written back again
+        Project storedProject = editedProject instanceof VersionedProject
+                ? ((VersionedProject) editedProject).toProject() : editedProject;
+        if (storedProject != target) {
+            versionedProjectList.setProject(target, storedProject);
+        }
+        setSelectedProject(storedProject);
     }
 
     // =========== Project
     // ================================================================================
 
+    /**
+     * Switches the current project to {@code project}.
+     * A recently used project is restored from {@code projectCache} together with its undo/redo history and
+     * filtered task list, instead of being copied again.
+     */
     @Override
     public void setProject(ReadOnlyProject project) {
-        if (versionedProjectList.getProjectList().get(getFilteredProjectList().indexOf(project)) instanceof Project) {
-            versionedProject = new VersionedProject(project);
-            versionedProject.resetName(project);
-            versionedProject.resetData(project);
+        requireNonNull(project);
+        projectCache.put(versionedProject, filteredTasks);
+
+        VersionedProjectCache.CachedProject cached = projectCache.get(project);
+        if (cached != null) {
+            openProject(cached.project);
+            filteredTasks = cached.filteredTasks;
+            if (filteredTasks.getPredicate() != null) {
+                filteredTasks.setPredicate(null);
+            }
         } else {
-            versionedProject = (VersionedProject) versionedProjectList.getProjectList().get(getFilteredProjectList()
-                    .indexOf(project));
+            logger.log(Level.FINE, "Project {0} not cached, creating a new versioned copy", project.getName());
+            openProject(new VersionedProject(project));
+            filteredTasks = new FilteredView<>(versionedProject.getTaskList(), versionedProject.getTaskChangeFeed());
+            filteredTasks.addListener(this::ensureSelectedTaskIsValid);
+            projectCache.put(versionedProject, filteredTasks);
         }
-        filteredTasks = new FilteredList<>(versionedProject.getTaskList());
-        filteredTasks.addListener(this::ensureSelectedTaskIsValid);
-        /*versionedProject.clear();
-        versionedProject.resetName(project);
-        versionedProject.resetData(project);
-        versionedProject.populate(project);*/
+
+        if (batch != null) {
+            batch.recordProjectData(versionedProject);
+        }
+    }
+
+    /**
+     * Makes {@code project} the opened project, moving the listeners of the opened project over to it.
+     */
+    private void openProject(VersionedProject project) {
+        versionedProject.removeListener(openedProjectForwarder);
+        versionedProject = project;
+        versionedProject.addListener(openedProjectForwarder);
+    }
+
+    @Override
+    public void addOpenedProjectListener(ModelChangeListener listener) {
+        openedProjectListeners.addListener(listener);
     }
 
     @Override
@@ -223,7 +276,7 @@ public class ModelManager implements Model {
      * internal list of {@code versionedProjectList}
      */
     @Override
-    public ObservableList<Project> getFilteredProjectList() {
+    public List<Project> getFilteredProjectList() {
         return filteredProjects;
     }
 
@@ -233,6 +286,13 @@ public class ModelManager implements Model {
         filteredProjects.setPredicate(predicate);
     }
 
+    @Override
+    @SuppressWarnings("unchecked") // a predicate of a supertype of Project can test any Project
+    public Predicate<Project> getFilteredProjectListPredicate() {
+        Predicate<? super Project> predicate = filteredProjects.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_PROJECTS : (Predicate<Project>) predicate;
+    }
+
     // =========== Filtered Task List Accessors
     // =============================================================
 
@@ -241,7 +301,7 @@ public class ModelManager implements Model {
      * internal list of {@code versionedProject}
      */
     @Override
-    public ObservableList<Task> getFilteredTaskList() {
+    public List<Task> getFilteredTaskList() {
         return filteredTasks;
     }
 
@@ -249,20 +309,34 @@ public class ModelManager implements Model {
      * Returns string of tags and their associated task name {@code String}
      */
     public String getTagWithTaskList() {
-        List<Tag> uniqueTagList = getUniqueTagList();
-
         // arrange print string
-        String stringToPrint = "";
-        for (Tag tag : uniqueTagList) {
-            stringToPrint += tag.toStringWithoutBrackets() + ": ";
-            for (Task task : filteredTasks) {
-                if (task.getTags().contains(tag)) {
-                    stringToPrint += "[" + task.getName().toString() + "]";
-                }
+        StringBuilder stringToPrint = new StringBuilder();
+        for (Map.Entry<Tag, List<Task>> tagWithTasks : getTasksByTag().entrySet()) {
+            stringToPrint.append(tagWithTasks.getKey().toStringWithoutBrackets()).append(": ");
+            for (Task task : tagWithTasks.getValue()) {
+                stringToPrint.append('[').append(task.getName().toString()).append(']');
+            }
+            stringToPrint.append('\n');
+        }
+        return stringToPrint.toString();
+    }
+
+    /**
+     * Groups the filtered tasks by tag in one pass over the tasks, rather than one pass for each tag.
+     */
+    @Override
+    public Map<Tag, List<Task>> getTasksByTag() {
+        Map<Tag, List<Task>> tasksByTag = new LinkedHashMap<>();
+        for (Tag tag : getUniqueTagList()) {
+            tasksByTag.put(tag, new ArrayList<>());
+        }
+        for (Task task : filteredTasks) {
+            TagSet tags = task.getTags();
+            for (int i = 0; i < tags.size(); i++) {
+                tasksByTag.get(tags.get(i)).add(task);
             }
-            stringToPrint += "\n";
         }
-        return stringToPrint;
+        return tasksByTag;
     }
 
     /**
@@ -271,9 +345,12 @@ public class ModelManager implements Model {
     public List<Tag> getUniqueTagList() {
         // get set of unique tags
         List<Tag> allTags = new ArrayList<>();
-        filteredTasks.forEach(entry -> {
-            entry.getTags().forEach(tag -> allTags.add(tag));
-        });
+        for (Task task : filteredTasks) {
+            TagSet tags = task.getTags();
+            for (int i = 0; i < tags.size(); i++) {
+                allTags.add(tags.get(i));
+            }
+        }
         Set<Tag> uniqueTagSet = new HashSet<>(allTags);
 
         // convert uniqueTag set to list
@@ -289,6 +366,13 @@ public class ModelManager implements Model {
         filteredTasks.setPredicate(predicate);
     }
 
+    @Override
+    @SuppressWarnings("unchecked") // a predicate of a supertype of Task can test any Task
+    public Predicate<Task> getFilteredTaskListPredicate() {
+        Predicate<? super Task> predicate = filteredTasks.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_TASKS : (Predicate<Task>) predicate;
+    }
+
     // =========== Undo/Redo/Compare
     // =================================================================================
 
@@ -324,12 +408,97 @@ public class ModelManager implements Model {
 
     @Override
     public void commitProjectList() {
-        versionedProjectList.commit();
+        if (batch != null) {
+            batch.isProjectListCommitPending = true;
+            return;
+        }
+        timeCommit(versionedProjectList::commit);
     }
 
     @Override
     public void commitProject() {
-        versionedProject.commit();
+        if (batch != null) {
+            batch.projectsToCommit.add(versionedProject);
+            return;
+        }
+        timeCommit(versionedProject::commit);
+    }
+
+    @Override
+    public int getUndoHistorySize() {
+        return versionedProjectList.getStateCount() + versionedProject.getStateCount();
+    }
+
+    /**
+     * Runs {@code commit}, recording its duration and allocations as the commit phase of the command being run,
+     * if any.
+     */
+    private static void timeCommit(Runnable commit) {
+        long start = System.nanoTime();
+        long allocatedBefore = PhaseTimes.getThreadAllocatedBytes();
+        commit.run();
+        PhaseTimes.recordNested(PhaseTimes.Phase.COMMIT, System.nanoTime() - start,
+                PhaseTimes.getThreadAllocatedBytes() - allocatedBefore);
+    }
+
+    // =========== Batch
+    // =================================================================================
+
+    @Override
+    public void startBatch() {
+        if (batch != null) {
+            throw new IllegalStateException("A batch is already in progress.");
+        }
+        batch = new Batch();
+    }
+
+    @Override
+    public void endBatch() {
+        requireBatch();
+        Batch finishedBatch = batch;
+        batch = null;
+
+        timeCommit(() -> {
+            finishedBatch.projectsToCommit.forEach(VersionedProject::commit);
+            if (finishedBatch.isProjectListCommitPending) {
+                versionedProjectList.commit();
+            }
+        });
+    }
+
+    @Override
+    public void rollBackBatch() {
+        requireBatch();
+        Batch abortedBatch = batch;
+        batch = null;
+
+        // every project opened during the batch may hold uncommitted changes, which are discarded so that the
+        // cached projects can still be reused together with their undo/redo history
+        abortedBatch.projectDataBeforeBatch.forEach(VersionedProject::resetData);
+        versionedProjectList.resetData(abortedBatch.projectListBeforeBatch);
+        versionedProjectList.setGroupTags(abortedBatch.groupTagsBeforeBatch);
+        filteredProjects.setPredicate(abortedBatch.projectPredicateBeforeBatch);
+
+        openProject(abortedBatch.projectBeforeBatch);
+        filteredTasks = abortedBatch.filteredTasksBeforeBatch;
+        filteredTasks.setPredicate(abortedBatch.taskPredicateBeforeBatch);
+
+        Project projectToSelect = abortedBatch.selectedProjectBeforeBatch;
+        selectedProject.setValue(projectToSelect == null ? null : filteredProjects.stream()
+                .filter(projectToSelect::isSameProject).findFirst().orElse(null));
+        Task taskToSelect = abortedBatch.selectedTaskBeforeBatch;
+        selectedTask.setValue(filteredTasks.contains(taskToSelect) ? taskToSelect : null);
+    }
+
+    @Override
+    public boolean isInBatch() {
+        return batch != null;
+    }
+
+    private void requireBatch() {
+        if (batch == null) {
+            throw new IllegalStateException("No batch is in progress.");
+        }
     }
 
     @Override
@@ -337,6 +506,21 @@ public class ModelManager implements Model {
         return versionedProject.compareTask(target);
     }
 
+    // =========== Snapshots
+    // ===========================================================================
+
+    @Override
+    public void publishSnapshot() {
+        ModelSnapshot previous = snapshot;
+        long version = previous == null ? 1 : previous.getVersion() + 1;
+        snapshot = ModelSnapshot.of(version, versionedProjectList, versionedProject, previous);
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return snapshot;
+    }
+
     // =========== Selected project
     // ===========================================================================
 
@@ -361,31 +545,32 @@ public class ModelManager implements Model {
     /**
      * Ensures {@code selectedProject} is a valid project in {@code filteredProjects}.
      */
-    private void ensureSelectedProjectIsValid(ListChangeListener.Change<? extends Project> change) {
-        while (change.next()) {
-            if (selectedProject.getValue() == null) {
-                // null is always a valid selected task, so we do not need to check that it is
-                // valid anymore.
-                return;
-            }
+    private void ensureSelectedProjectIsValid(ListChange<Project> change) {
+        Project selected = selectedProject.getValue();
+        if (selected == null) {
+            // null is always a valid selected project, so we do not need to check that it is
+            // valid anymore.
+            return;
+        }
 
-            boolean wasSelectedProjectReplaced = change.wasReplaced()
-                    && change.getAddedSize() == change.getRemovedSize()
-                    && change.getRemoved().contains(selectedProject.getValue());
-            if (wasSelectedProjectReplaced) {
-                // Update selectedTask to its new value.
-                int index = change.getRemoved().indexOf(selectedProject.getValue());
-                selectedProject.setValue(change.getAddedSubList().get(index));
-                continue;
-            }
+        if (change.getType() == ListChange.Type.RESET) {
+            // Keep the selection only if the new contents still hold it.
+            selectedProject.setValue(filteredProjects.stream().filter(selected::equals).findFirst().orElse(null));
+            return;
+        }
 
-            boolean wasSelectedProjectRemoved = change.getRemoved().stream()
-                    .anyMatch(removedProject -> selectedProject.getValue().isSameProject(removedProject));
-            if (wasSelectedProjectRemoved) {
-                // Select the task that came before it in the list,
-                // or clear the selection if there is no such task.
-                selectedProject.setValue(change.getFrom() > 0 ? change.getList().get(change.getFrom() - 1) : null);
-            }
+        if (change.getType() == ListChange.Type.REPLACED && selected.equals(change.getRemoved())) {
+            // Update selectedProject to its new value.
+            selectedProject.setValue(change.getAdded());
+            return;
+        }
+
+        boolean wasSelectedProjectRemoved = change.getType() != ListChange.Type.ADDED
+                && selected.isSameProject(change.getRemoved());
+        if (wasSelectedProjectRemoved) {
+            // Select the project that came before it in the list,
+            // or clear the selection if there is no such project.
+            selectedProject.setValue(change.getIndex() > 0 ? filteredProjects.get(change.getIndex() - 1) : null);
         }
     }
 
@@ -413,30 +598,32 @@ public class ModelManager implements Model {
     /**
      * Ensures {@code selectedTask} is a valid task in {@code filteredTasks}.
      */
-    private void ensureSelectedTaskIsValid(ListChangeListener.Change<? extends Task> change) {
-        while (change.next()) {
-            if (selectedTask.getValue() == null) {
-                // null is always a valid selected task, so we do not need to check that it is
-                // valid anymore.
-                return;
-            }
+    private void ensureSelectedTaskIsValid(ListChange<Task> change) {
+        Task selected = selectedTask.getValue();
+        if (selected == null) {
+            // null is always a valid selected task, so we do not need to check that it is
+            // valid anymore.
+            return;
+        }
 
-            boolean wasSelectedTaskReplaced = change.wasReplaced() && change.getAddedSize() == change.getRemovedSize()
-                    && change.getRemoved().contains(selectedTask.getValue());
-            if (wasSelectedTaskReplaced) {
-                // Update selectedTask to its new value.
-                int index = change.getRemoved().indexOf(selectedTask.getValue());
-                selectedTask.setValue(change.getAddedSubList().get(index));
-                continue;
-            }
+        if (change.getType() == ListChange.Type.RESET) {
+            // Keep the selection only if the new contents still hold it.
+            selectedTask.setValue(filteredTasks.stream().filter(selected::equals).findFirst().orElse(null));
+            return;
+        }
 
-            boolean wasSelectedTaskRemoved = change.getRemoved().stream()
-                    .anyMatch(removedTask -> selectedTask.getValue().isSameTask(removedTask));
-            if (wasSelectedTaskRemoved) {
-                // Select the task that came before it in the list,
-                // or clear the selection if there is no such task.
-                selectedTask.setValue(change.getFrom() > 0 ? change.getList().get(change.getFrom() - 1) : null);
-            }
+        if (change.getType() == ListChange.Type.REPLACED && selected.equals(change.getRemoved())) {
+            // Update selectedTask to its new value.
+            selectedTask.setValue(change.getAdded());
+            return;
+        }
+
+        boolean wasSelectedTaskRemoved = change.getType() != ListChange.Type.ADDED
+                && selected.isSameTask(change.getRemoved());
+        if (wasSelectedTaskRemoved) {
+            // Select the task that came before it in the list,
+            // or clear the selection if there is no such task.
+            selectedTask.setValue(change.getIndex() > 0 ? filteredTasks.get(change.getIndex() - 1) : null);
         }
     }
 
@@ -445,6 +632,35 @@ public class ModelManager implements Model {
         versionedProject.removeTag(tag);
     }
 
+    /**
+     * The state needed to commit or roll back a batch of changes.
+     */
+    private class Batch {
+        private final ProjectList projectListBeforeBatch = new ProjectList(versionedProjectList);
+        private final List<GroupTag> groupTagsBeforeBatch = new ArrayList<>(versionedProjectList.getGroupTagList());
+        private final Predicate<? super Project> projectPredicateBeforeBatch = filteredProjects.getPredicate();
+        private final Project selectedProjectBeforeBatch = selectedProject.getValue();
+        private final VersionedProject projectBeforeBatch = versionedProject;
+        private final Map<VersionedProject, Project> projectDataBeforeBatch = new IdentityHashMap<>();
+        private final FilteredView<Task> filteredTasksBeforeBatch = filteredTasks;
+        private final Predicate<? super Task> taskPredicateBeforeBatch = filteredTasks.getPredicate();
+        private final Task selectedTaskBeforeBatch = selectedTask.getValue();
+        private final Set<VersionedProject> projectsToCommit = Collections.newSetFromMap(new IdentityHashMap<>());
+        private boolean isProjectListCommitPending;
+
+        private Batch() {
+            recordProjectData(versionedProject);
+        }
+
+        /**
+         * Keeps a copy of the data of {@code project}, unless the batch already has one from when the project was
+         * first opened in the batch.
+         */
+        private void recordProjectData(VersionedProject project) {
+            projectDataBeforeBatch.computeIfAbsent(project, Project::new);
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
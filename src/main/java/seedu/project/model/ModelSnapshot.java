@@ -0,0 +1,102 @@
+package seedu.project.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.project.model.project.Project;
+import seedu.project.model.project.VersionedProject;
+
+/**
+ * An immutable, consistent view of the model, published after each command.
+ * Snapshots can be read from any thread without locking. Projects that did not change between two snapshots are
+ * shared between them rather than copied again.
+ */
+public class ModelSnapshot {
+
+    private final long version;
+    private final List<ProjectSnapshot> projects;
+    private final ProjectSnapshot openedProject;
+
+    private ModelSnapshot(long version, List<ProjectSnapshot> projects, ProjectSnapshot openedProject) {
+        this.version = version;
+        this.projects = Collections.unmodifiableList(projects);
+        this.openedProject = openedProject;
+    }
+
+    /**
+     * Returns a snapshot of {@code projectList} and {@code openedProject}, reusing the unchanged projects of
+     * {@code previous}, which may be null.
+     * Must be called on the thread that modifies the model.
+     */
+    static ModelSnapshot of(long version, ReadOnlyProjectList projectList, VersionedProject openedProject,
+            ModelSnapshot previous) {
+        requireNonNull(projectList);
+        requireNonNull(openedProject);
+
+        Map<Project, ProjectSnapshot> previousProjects = new IdentityHashMap<>();
+        if (previous != null) {
+            for (ProjectSnapshot project : previous.projects) {
+                previousProjects.put(project.getSource(), project);
+            }
+            previousProjects.put(previous.openedProject.getSource(), previous.openedProject);
+        }
+
+        List<ProjectSnapshot> projects = new ArrayList<>(projectList.getProjectList().size());
+        for (Project project : projectList.getProjectList()) {
+            ProjectSnapshot copy = ProjectSnapshot.of(project, previousProjects.get(project));
+            projects.add(copy);
+            previousProjects.put(project, copy);
+        }
+        ProjectSnapshot openedCopy = previousProjects.get(openedProject);
+        if (openedCopy == null || !openedCopy.isCopyOf(openedProject)) {
+            openedCopy = findCopy(projects, openedProject);
+        }
+        return new ModelSnapshot(version, projects, openedCopy);
+    }
+
+    /**
+     * Returns the copy in {@code projects} of the project in the list that the opened {@code project} was written
+     * back to, if it holds the same tasks, or else a new copy of {@code project}.
+     */
+    private static ProjectSnapshot findCopy(List<ProjectSnapshot> projects, VersionedProject project) {
+        // the opened project is normally written back as its saved state, which is recognised by identity
+        for (ProjectSnapshot copy : projects) {
+            if (project.isCurrentState(copy.getSource())) {
+                return copy;
+            }
+        }
+        for (ProjectSnapshot copy : projects) {
+            // tasks are shared between the opened project and the list, so comparing them is mostly by identity
+            if (copy.getName().equals(project.getName()) && copy.getTasks().equals(project.getTaskList())) {
+                return copy;
+            }
+        }
+        return ProjectSnapshot.of(project, null);
+    }
+
+    /**
+     * Returns a number that increases with every published snapshot.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns all projects in the project list, ignoring any filter.
+     */
+    public List<ProjectSnapshot> getProjects() {
+        return projects;
+    }
+
+    /**
+     * Returns the project that the user has opened, which has an empty name if no project has been opened yet.
+     */
+    public ProjectSnapshot getOpenedProject() {
+        return openedProject;
+    }
+}
@@ -5,9 +5,8 @@ import static seedu.project.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
 
-import javafx.beans.InvalidationListener;
-import javafx.collections.ObservableList;
-import seedu.project.commons.util.InvalidationListenerManager;
+import seedu.project.commons.util.ChangeFeed;
+import seedu.project.commons.util.ListenerManager;
 import seedu.project.model.project.Project;
 import seedu.project.model.project.UniqueGroupTagList;
 import seedu.project.model.project.UniqueProjectList;
@@ -21,7 +20,8 @@ public class ProjectList implements ReadOnlyProjectList {
 
     private final UniqueGroupTagList tags;
     private final UniqueProjectList projects;
-    private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private final ListenerManager<ModelChangeListener> listenerManager = new ListenerManager<>();
+    private long version;
 
     /*
      * The 'unusual' code block below is an non-static initialization block,
@@ -61,7 +61,22 @@ public class ProjectList implements ReadOnlyProjectList {
      */
     public void setProjects(List<Project> target) {
         projects.setProjects(target);
-        indicateModified();
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.projectsReset(version));
+        }
+    }
+
+    /**
+     * Replaces the contents of the group tag list with {@code groupTags}.
+     * {@code groupTags} must not contain duplicate group tags.
+     */
+    public void setGroupTags(List<GroupTag> groupTags) {
+        tags.setGroupTags(groupTags);
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.groupTagsChanged(version));
+        }
     }
 
     /**
@@ -99,7 +114,10 @@ public class ProjectList implements ReadOnlyProjectList {
      */
     public void addProject(Project p) {
         projects.add(p);
-        indicateModified();
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.projectAdded(version, p));
+        }
     }
 
     /**
@@ -108,7 +126,10 @@ public class ProjectList implements ReadOnlyProjectList {
      */
     public void addGroupTag(GroupTag g) {
         tags.add(g);
-        indicateModified();
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.groupTagsChanged(version));
+        }
     }
 
     /**
@@ -121,8 +142,10 @@ public class ProjectList implements ReadOnlyProjectList {
         requireNonNull(editedProject);
 
         projects.setProject(target, editedProject);
-        indicateModified();
-
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.projectReplaced(version, target, editedProject));
+        }
     }
 
     /**
@@ -131,42 +154,57 @@ public class ProjectList implements ReadOnlyProjectList {
      */
     public void removeProject(Project key) {
         projects.remove(key);
-        indicateModified();
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.projectRemoved(version, key));
+        }
     }
 
     @Override
-    public void addListener(InvalidationListener listener) {
-        invalidationListenerManager.addListener(listener);
+    public void addListener(ModelChangeListener listener) {
+        listenerManager.addListener(listener);
     }
 
     @Override
-    public void removeListener(InvalidationListener listener) {
-        invalidationListenerManager.removeListener(listener);
+    public void removeListener(ModelChangeListener listener) {
+        listenerManager.removeListener(listener);
     }
 
     /**
-     * Notifies listeners that the project has been modified.
+     * Notifies listeners of {@code change}, which has just been made to this project list.
      */
-    protected void indicateModified() {
-        invalidationListenerManager.callListeners(this);
+    private void fireChange(ModelChange change) {
+        listenerManager.callListeners(listener -> listener.onChange(change));
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
 
     @Override
     public String toString() {
-        return projects.asUnmodifiableObservableList().size() + " projects";
+        return projects.asUnmodifiableList().size() + " projects";
         // TODO: refine later
     }
 
     @Override
-    public ObservableList<Project> getProjectList() {
-        return projects.asUnmodifiableObservableList();
+    public List<Project> getProjectList() {
+        return projects.asUnmodifiableList();
+    }
+
+    /**
+     * Returns the feed through which changes to {@link #getProjectList()} are reported.
+     */
+    public ChangeFeed<Project> getProjectChangeFeed() {
+        return projects.getChangeFeed();
     }
 
     @Override
-    public ObservableList<GroupTag> getGroupTagList() {
-        return tags.asUnmodifiableObservableList();
+    public List<GroupTag> getGroupTagList() {
+        return tags.asUnmodifiableList();
     }
 
     @Override
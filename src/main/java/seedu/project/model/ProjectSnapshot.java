@@ -0,0 +1,69 @@
+package seedu.project.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.project.model.project.Project;
+import seedu.project.model.task.Task;
+
+/**
+ * An immutable copy of a {@code Project}, taken when a {@code ModelSnapshot} was published.
+ * The tasks of a frozen project, such as a saved state of the opened project, are shared rather than copied.
+ * Can be read from any thread.
+ */
+public class ProjectSnapshot {
+
+    private final Name name;
+    private final List<Task> tasks;
+
+    // The project this was copied from, used to share unchanged copies between snapshots.
+    private final Project source;
+    private final long sourceVersion;
+
+    private ProjectSnapshot(Project source) {
+        this.name = source.getName();
+        this.tasks = source.isFrozen() ? source.getTaskList()
+                : Collections.unmodifiableList(new ArrayList<>(source.getTaskList()));
+        this.source = source;
+        this.sourceVersion = source.getVersion();
+    }
+
+    /**
+     * Returns a copy of {@code project}, reusing {@code previous} if it was copied from the very same project and
+     * the project has not changed since.
+     */
+    static ProjectSnapshot of(Project project, ProjectSnapshot previous) {
+        if (previous != null && previous.isCopyOf(project)) {
+            return previous;
+        }
+        return new ProjectSnapshot(project);
+    }
+
+    /**
+     * Returns true if this was copied from the very same {@code project}, which has not changed since.
+     */
+    boolean isCopyOf(Project project) {
+        return source == project && sourceVersion == project.getVersion();
+    }
+
+    Project getSource() {
+        return source;
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    /**
+     * Returns the tasks of the project, in the same order as in the project.
+     */
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    @Override
+    public String toString() {
+        return name.toString();
+    }
+}
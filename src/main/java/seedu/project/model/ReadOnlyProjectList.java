@@ -1,19 +1,35 @@
 package seedu.project.model;
 
-import javafx.beans.Observable;
-import javafx.collections.ObservableList;
+import java.util.List;
+
 import seedu.project.model.project.Project;
 import seedu.project.model.tag.GroupTag;
 
 /**
  * Unmodifiable view of all projects
  */
-public interface ReadOnlyProjectList extends Observable {
+public interface ReadOnlyProjectList {
 
     /**
      * Returns an unmodifiable view of the tasks list. This list will not contain
      * any duplicate tasks.
      */
-    ObservableList<Project> getProjectList();
-    ObservableList<GroupTag> getGroupTagList();
+    List<Project> getProjectList();
+    List<GroupTag> getGroupTagList();
+
+    /**
+     * Returns a number that increases whenever the projects or group tags of this list change.
+     * Changes made inside a project in the list are reported by that project, not by the list.
+     */
+    long getVersion();
+
+    /**
+     * Starts sending each subsequent change of this list to {@code listener}.
+     */
+    void addListener(ModelChangeListener listener);
+
+    /**
+     * Stops sending changes of this list to {@code listener}.
+     */
+    void removeListener(ModelChangeListener listener);
 }
@@ -0,0 +1,109 @@
+package seedu.project.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.project.commons.util.FilteredView;
+import seedu.project.model.project.ReadOnlyProject;
+import seedu.project.model.project.VersionedProject;
+import seedu.project.model.task.Task;
+
+/**
+ * A bounded, least-recently-used cache of live {@code VersionedProject}s and their filtered task views,
+ * keyed by project name.
+ * Keeping recently opened projects alive lets the user switch back to them without copying the project
+ * again, and without losing their undo/redo history.
+ */
+class VersionedProjectCache {
+
+    public static final int DEFAULT_CAPACITY = 8;
+
+    private final Map<String, CachedProject> entries;
+
+    VersionedProjectCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    VersionedProjectCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        entries = new LinkedHashMap<String, CachedProject>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedProject> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Stores {@code project} together with its filtered task view, replacing any entry for a project of the
+     * same name. The entry becomes the most recently used one.
+     */
+    void put(VersionedProject project, FilteredView<Task> filteredTasks) {
+        requireNonNull(project);
+        requireNonNull(filteredTasks);
+        entries.put(keyOf(project), new CachedProject(project, filteredTasks));
+    }
+
+    /**
+     * Returns the cached entry for {@code project}, or null if there is none.
+     * An entry is only returned if it is the same instance as {@code project}, if {@code project} is the state it
+     * was last written back as, or if it still holds the same tasks as {@code project}. Only the last check
+     * compares the tasks, and it is only needed when the project list holds a copy of the project. Entries that
+     * have gone stale (e.g. after the project list was undone or imported over) are dropped.
+     */
+    CachedProject get(ReadOnlyProject project) {
+        requireNonNull(project);
+        String key = keyOf(project);
+        CachedProject cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+
+        if (cached.project != project && !cached.project.isCurrentState(project)
+                && !cached.project.getTaskList().equals(project.getTaskList())) {
+            entries.remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Removes the entry for the project with the same name as {@code project}, if any.
+     */
+    void remove(ReadOnlyProject project) {
+        requireNonNull(project);
+        entries.remove(keyOf(project));
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String keyOf(ReadOnlyProject project) {
+        return project.getName().toString();
+    }
+
+    /**
+     * A live {@code VersionedProject} and the filtered view of its tasks.
+     */
+    static class CachedProject {
+        final VersionedProject project;
+        final FilteredView<Task> filteredTasks;
+
+        CachedProject(VersionedProject project, FilteredView<Task> filteredTasks) {
+            this.project = project;
+            this.filteredTasks = filteredTasks;
+        }
+    }
+}
@@ -42,7 +42,6 @@ public class VersionedProjectList extends ProjectList {
         removeStatesAfterCurrentPointer();
         projectListStateList.add(new ProjectList(this));
         currentStatePointer++;
-        indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
@@ -122,4 +121,11 @@ public class VersionedProjectList extends ProjectList {
             super("Current state pointer at end of projectListState list, unable to redo.");
         }
     }
+
+    /**
+     * Returns the number of states kept for undo and redo, including the current one.
+     */
+    public int getStateCount() {
+        return projectListStateList.size();
+    }
 }
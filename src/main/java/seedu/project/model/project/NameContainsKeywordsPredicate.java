@@ -17,8 +17,14 @@ public class NameContainsKeywordsPredicate implements Predicate<Project> {
 
     @Override
     public boolean test(Project project) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(project.getName().fullName, keyword));
+        // a plain loop, as a stream and a lambda would be created for every project tested
+        String name = project.getName().fullName;
+        for (String keyword : keywords) {
+            if (StringUtil.containsWordIgnoreCase(name, keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -4,16 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.project.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 
-import javafx.beans.InvalidationListener;
-import javafx.collections.ObservableList;
-import seedu.project.commons.util.InvalidationListenerManager;
+import seedu.project.commons.util.ChangeFeed;
+import seedu.project.commons.util.ListenerManager;
+import seedu.project.model.ModelChange;
+import seedu.project.model.ModelChangeListener;
 import seedu.project.model.Name;
 import seedu.project.model.tag.Tag;
+import seedu.project.model.tag.TagSet;
 import seedu.project.model.task.Task;
 import seedu.project.model.task.UniqueTaskList;
 
@@ -28,7 +28,10 @@ public class Project implements ReadOnlyProject {
     private Name name;
 
     private final UniqueTaskList tasks;
-    private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private final ListenerManager<ModelChangeListener> listenerManager = new ListenerManager<>();
+    private long version;
+    // set once the project is kept as a saved state, after which it never changes
+    private boolean isFrozen;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -66,7 +69,13 @@ public class Project implements ReadOnlyProject {
     }
 
     public void setName(String name) {
+        requireNotFrozen();
+        Name oldName = this.name;
         this.name = new Name(name);
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.projectRenamed(version, this, oldName));
+        }
     }
 
     /**
@@ -84,8 +93,28 @@ public class Project implements ReadOnlyProject {
      * {@code tasks} must not contain duplicate tasks.
      */
     public void setTasks(List<Task> tasks) {
+        requireNotFrozen();
         this.tasks.setTasks(tasks);
-        indicateModified();
+        fireTasksReset();
+    }
+
+    /**
+     * Replaces the contents of the task list with the tasks of {@code tasks}, which are already known to be unique.
+     */
+    private void setTasks(UniqueTaskList tasks) {
+        requireNotFrozen();
+        this.tasks.setTasks(tasks);
+        fireTasksReset();
+    }
+
+    /**
+     * Notifies the listeners that the task list has been replaced as a whole.
+     */
+    private void fireTasksReset() {
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.tasksReset(version, this));
+        }
     }
     /**
      * clears task
@@ -103,7 +132,12 @@ public class Project implements ReadOnlyProject {
     public void resetData(ReadOnlyProject newData) {
         requireNonNull(newData);
 
-        setTasks(newData.getTaskList());
+        if (newData instanceof Project) {
+            // copying another project need not check its tasks for duplicates again
+            setTasks(((Project) newData).tasks);
+        } else {
+            setTasks(newData.getTaskList());
+        }
     }
 
     //// task-level operations
@@ -121,8 +155,12 @@ public class Project implements ReadOnlyProject {
      * The task must not already exist in the project.
      */
     public void addTask(Task t) {
+        requireNotFrozen();
         tasks.add(t);
-        indicateModified();
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.taskAdded(version, this, t));
+        }
     }
 
     /**
@@ -132,9 +170,13 @@ public class Project implements ReadOnlyProject {
      */
     public void setTask(Task target, Task editedTask) {
         requireNonNull(editedTask);
+        requireNotFrozen();
 
         tasks.setTask(target, editedTask);
-        indicateModified();
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.taskReplaced(version, this, target, editedTask));
+        }
     }
 
     /**
@@ -142,17 +184,20 @@ public class Project implements ReadOnlyProject {
      * {@code key} must exist in the project.
      */
     public void removeTask(Task key) {
+        requireNotFrozen();
         tasks.remove(key);
-        indicateModified();
+        version++;
+        if (!listenerManager.isEmpty()) {
+            fireChange(ModelChange.taskRemoved(version, this, key));
+        }
     }
 
     /**
      * Removes tag from a specific Task.
      */
     private void removeTagTask(Tag tag, Task task) {
-        Set<Tag> newTags = new HashSet<>(task.getTags());
-
-        if (!newTags.remove(tag)) {
+        TagSet newTags = task.getTags().without(tag);
+        if (newTags == task.getTags()) {
             return;
         }
 
@@ -178,21 +223,47 @@ public class Project implements ReadOnlyProject {
                 && otherProject.getName().equals(getName());
     }
 
+    /**
+     * Stops this project from being changed any further, so that its task list can be shared without copying it.
+     * Any later attempt to change the project throws an {@code UnsupportedOperationException}.
+     */
+    public void freeze() {
+        isFrozen = true;
+    }
+
+    /**
+     * Returns true if this project can no longer be changed.
+     */
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
+    private void requireNotFrozen() {
+        if (isFrozen) {
+            throw new UnsupportedOperationException("A saved state of a project cannot be changed.");
+        }
+    }
+
     @Override
-    public void addListener(InvalidationListener listener) {
-        invalidationListenerManager.addListener(listener);
+    public void addListener(ModelChangeListener listener) {
+        listenerManager.addListener(listener);
     }
 
     @Override
-    public void removeListener(InvalidationListener listener) {
-        invalidationListenerManager.removeListener(listener);
+    public void removeListener(ModelChangeListener listener) {
+        listenerManager.removeListener(listener);
     }
 
     /**
-     * Notifies listeners that the project has been modified.
+     * Notifies listeners of {@code change}, which has just been made to this project.
      */
-    protected void indicateModified() {
-        invalidationListenerManager.callListeners(this);
+    private void fireChange(ModelChange change) {
+        listenerManager.callListeners(listener -> listener.onChange(change));
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
@@ -208,8 +279,15 @@ public class Project implements ReadOnlyProject {
     }
 
     @Override
-    public ObservableList<Task> getTaskList() {
-        return tasks.asUnmodifiableObservableList();
+    public List<Task> getTaskList() {
+        return tasks.asUnmodifiableList();
+    }
+
+    /**
+     * Returns the feed through which changes to {@link #getTaskList()} are reported.
+     */
+    public ChangeFeed<Task> getTaskChangeFeed() {
+        return tasks.getChangeFeed();
     }
 
     @Override
@@ -1,20 +1,21 @@
 package seedu.project.model.project;
 
-import javafx.beans.Observable;
-import javafx.collections.ObservableList;
+import java.util.List;
+
+import seedu.project.model.ModelChangeListener;
 import seedu.project.model.Name;
 import seedu.project.model.task.Task;
 
 /**
  * Unmodifiable view of an project
  */
-public interface ReadOnlyProject extends Observable {
+public interface ReadOnlyProject {
 
     /**
      * Returns an unmodifiable view of the tasks list.
      * This list will not contain any duplicate tasks.
      */
-    ObservableList<Task> getTaskList();
+    List<Task> getTaskList();
 
     Name getName();
 
@@ -24,4 +25,20 @@ public interface ReadOnlyProject extends Observable {
      */
     int getIndex(int taskId);
 
+    /**
+     * Returns a number that increases whenever the name or the tasks of this project change.
+     * Lets callers tell cheaply whether a copy they made earlier is still up to date.
+     */
+    long getVersion();
+
+    /**
+     * Starts sending each subsequent change of this project to {@code listener}.
+     */
+    void addListener(ModelChangeListener listener);
+
+    /**
+     * Stops sending changes of this project to {@code listener}.
+     */
+    void removeListener(ModelChangeListener listener);
+
 }
@@ -3,11 +3,12 @@ package seedu.project.model.project;
 import static java.util.Objects.requireNonNull;
 import static seedu.project.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.project.commons.util.ChangeFeed;
+import seedu.project.commons.util.ChangeFeedList;
 import seedu.project.model.project.exceptions.DuplicateGroupTagException;
 import seedu.project.model.project.exceptions.GroupTagNotFoundException;
 import seedu.project.model.tag.GroupTag;
@@ -28,9 +29,8 @@ import seedu.project.model.tag.GroupTag;
  */
 public class UniqueGroupTagList implements Iterable<GroupTag> {
 
-    private final ObservableList<GroupTag> internalList = FXCollections.observableArrayList();
-    private final ObservableList<GroupTag> internalUnmodifiableList = FXCollections
-            .unmodifiableObservableList(internalList);
+    private final ChangeFeedList<GroupTag> internalList = new ChangeFeedList<>();
+    private final List<GroupTag> internalUnmodifiableList = Collections.unmodifiableList(internalList);
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
@@ -96,12 +96,19 @@ public class UniqueGroupTagList implements Iterable<GroupTag> {
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code List}.
      */
-    public ObservableList<GroupTag> asUnmodifiableObservableList() {
+    public List<GroupTag> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the feed through which changes to this list are reported.
+     */
+    public ChangeFeed<GroupTag> getChangeFeed() {
+        return internalList;
+    }
+
     @Override
     public Iterator<GroupTag> iterator() {
         return internalList.iterator();
@@ -3,11 +3,13 @@ package seedu.project.model.project;
 import static java.util.Objects.requireNonNull;
 import static seedu.project.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.project.commons.util.ChangeFeed;
+import seedu.project.commons.util.ChangeFeedList;
 import seedu.project.model.project.exceptions.DuplicateProjectException;
 import seedu.project.model.project.exceptions.ProjectNotFoundException;
 
@@ -24,9 +26,8 @@ import seedu.project.model.project.exceptions.ProjectNotFoundException;
  */
 public class UniqueProjectList implements Iterable<Project> {
 
-    private final ObservableList<Project> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Project> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ChangeFeedList<Project> internalList = new ChangeFeedList<>();
+    private final List<Project> internalUnmodifiableList = Collections.unmodifiableList(internalList);
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
@@ -88,19 +89,27 @@ public class UniqueProjectList implements Iterable<Project> {
         if (!projectsAreUnique(projects)) {
             throw new DuplicateProjectException();
         }
-        internalList.clear();
+        List<Project> copies = new ArrayList<>(projects.size());
         for (Project p : projects) {
-            internalList.add(new Project(p));
+            copies.add(new Project(p));
         }
+        internalList.setAll(copies);
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code List}.
      */
-    public ObservableList<Project> asUnmodifiableObservableList() {
+    public List<Project> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the feed through which changes to this list are reported.
+     */
+    public ChangeFeed<Project> getChangeFeed() {
+        return internalList;
+    }
+
     @Override
     public Iterator<Project> iterator() {
         return internalList.iterator();
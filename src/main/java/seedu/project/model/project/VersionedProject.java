@@ -10,13 +10,19 @@ import seedu.project.model.task.Task;
  */
 public class VersionedProject extends Project {
 
-    private final List<ReadOnlyProject> projectStateList;
+    private static final long NO_STATE = -1;
+
+    private final List<Project> projectStateList;
     private int currentStatePointer;
+    // the version of this project when its data was last that of the current state, if it still is
+    private long currentStateVersion;
+
     public VersionedProject(ReadOnlyProject initialState) {
         super(initialState);
         projectStateList = new ArrayList<>();
-        projectStateList.add(new Project(initialState));
+        projectStateList.add(createState(initialState));
         currentStatePointer = 0;
+        currentStateVersion = getVersion();
     }
 
     /**
@@ -25,13 +31,14 @@ public class VersionedProject extends Project {
     public void clear() {
         projectStateList.clear();
         currentStatePointer = 0;
+        currentStateVersion = NO_STATE;
     }
 
     /**
      * Populate history after clearing when selecting a new project
      */
     public void populate(ReadOnlyProject initialState) {
-        projectStateList.add(new Project(initialState));
+        projectStateList.add(createState(initialState));
     }
 
     /**
@@ -40,9 +47,19 @@ public class VersionedProject extends Project {
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        projectStateList.add(new Project(this));
+        projectStateList.add(createState(this));
         currentStatePointer++;
-        indicateModified();
+        currentStateVersion = getVersion();
+    }
+
+    /**
+     * Returns a frozen copy of {@code project} to be kept as a saved state, which can then be shared by
+     * {@link #toProject()} without copying it again.
+     */
+    private static Project createState(ReadOnlyProject project) {
+        Project state = new Project(project);
+        state.freeze();
+        return state;
     }
 
     private void removeStatesAfterCurrentPointer() {
@@ -58,6 +75,7 @@ public class VersionedProject extends Project {
         }
         currentStatePointer--;
         resetData(projectStateList.get(currentStatePointer));
+        currentStateVersion = getVersion();
     }
 
     /**
@@ -69,6 +87,7 @@ public class VersionedProject extends Project {
         }
         currentStatePointer++;
         resetData(projectStateList.get(currentStatePointer));
+        currentStateVersion = getVersion();
     }
 
     /**
@@ -85,6 +104,28 @@ public class VersionedProject extends Project {
         return currentStatePointer < projectStateList.size() - 1;
     }
 
+    /**
+     * Returns a {@code Project} with the current data of this project, to be kept apart from it.
+     * While nothing has changed since the last commit, undo or redo, this is the frozen state saved for it, so that
+     * writing the project back into the project list does not copy its tasks.
+     */
+    public Project toProject() {
+        return isCurrentStateUnchanged() ? projectStateList.get(currentStatePointer) : new Project(this);
+    }
+
+    /**
+     * Returns true if {@code project} is what {@link #toProject()} returns without copying, i.e. if this project
+     * still holds the data of {@code project}.
+     */
+    public boolean isCurrentState(ReadOnlyProject project) {
+        return isCurrentStateUnchanged() && project == projectStateList.get(currentStatePointer);
+    }
+
+    private boolean isCurrentStateUnchanged() {
+        return currentStateVersion == getVersion()
+                && projectStateList.get(currentStatePointer).getName().equals(getName());
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -207,4 +248,11 @@ public class VersionedProject extends Project {
             super("Current state pointer at end of projectState list, unable to redo.");
         }
     }
+
+    /**
+     * Returns the number of states kept for undo and redo, including the current one.
+     */
+    public int getStateCount() {
+        return projectStateList.size();
+    }
 }
@@ -3,6 +3,9 @@ package seedu.project.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.project.commons.util.AppUtil.checkArgument;
 
+import seedu.project.commons.util.StringUtil;
+import seedu.project.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the project.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +15,9 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** The tags handed out by {@link #of(String)}, as a workspace has only a few distinct tags for many tasks. */
+    private static final WeakInterner<String, Tag> POOL = new WeakInterner<>();
+
     public final String tagName;
 
     /**
@@ -20,16 +26,52 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false);
+    }
+
+    private Tag(String tagName, boolean isValidated) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            assert isValidTagName(tagName) : tagName;
+        } else {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        return ofValidated(tagName);
+    }
+
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}, which the caller has already checked with
+     * {@link #isValidTagName(String)}, without checking it again.
+     */
+    public static Tag ofValidated(String tagName) {
+        return POOL.intern(tagName, name -> new Tag(name, true));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
+     * Checks the characters one by one, as {@code VALIDATION_REGEX} does, without compiling the pattern.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
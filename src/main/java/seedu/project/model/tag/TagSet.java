@@ -0,0 +1,226 @@
+package seedu.project.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import seedu.project.commons.util.WeakInterner;
+
+/**
+ * An immutable set of tags, kept as an array sorted by tag name, which throws
+ * {@code UnsupportedOperationException} if modification is attempted.
+ * A task has only a few tags, so the array takes far less memory than a {@code HashSet}, and is searched in
+ * O(log k) time. Tag sets are shared through {@link #of(Collection)}, as many tasks have the same tags.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+    private static final WeakInterner<TagSet, TagSet> POOL = new WeakInterner<>();
+    private static final TagSet EMPTY = of(new Tag[0]);
+
+    private final Tag[] tags;
+    private final int hash;
+
+    private TagSet(Tag[] sortedTags) {
+        tags = sortedTags;
+        int tagsHash = 0;
+        for (Tag tag : sortedTags) {
+            tagsHash += tag.hashCode();
+        }
+        hash = tagsHash;
+    }
+
+    /**
+     * Returns the empty tag set.
+     */
+    public static TagSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the shared tag set with the tags of {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        return of(tags.toArray(new Tag[0]));
+    }
+
+    /**
+     * Returns the shared tag set with the tags of {@code tags}, which is sorted and rid of duplicates in place.
+     */
+    private static TagSet of(Tag[] tags) {
+        Arrays.sort(tags, TAG_NAME_ORDER);
+        int distinctCount = 0;
+        for (Tag tag : tags) {
+            requireNonNull(tag);
+            if (distinctCount == 0 || !tags[distinctCount - 1].tagName.equals(tag.tagName)) {
+                tags[distinctCount++] = tag;
+            }
+        }
+        TagSet tagSet = new TagSet(distinctCount == tags.length ? tags : Arrays.copyOf(tags, distinctCount));
+        return POOL.intern(tagSet, newTagSet -> newTagSet);
+    }
+
+    /**
+     * Returns a tag set with the tags of this set and {@code tag}, or this set if it already has {@code tag}.
+     */
+    public TagSet with(Tag tag) {
+        requireNonNull(tag);
+        if (contains(tag)) {
+            return this;
+        }
+        Tag[] newTags = Arrays.copyOf(tags, tags.length + 1);
+        newTags[tags.length] = tag;
+        return of(newTags);
+    }
+
+    /**
+     * Returns a tag set with the tags of this set except {@code tag}, or this set if it does not have {@code tag}.
+     */
+    public TagSet without(Tag tag) {
+        int index = indexOf(tag);
+        if (index < 0) {
+            return this;
+        }
+        Tag[] newTags = new Tag[tags.length - 1];
+        System.arraycopy(tags, 0, newTags, 0, index);
+        System.arraycopy(tags, index + 1, newTags, index, newTags.length - index);
+        return of(newTags);
+    }
+
+    /**
+     * Returns the tag at {@code index} in the order of tag names, so that the tags can be gone through without
+     * creating an iterator.
+     */
+    public Tag get(int index) {
+        return tags[index];
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && indexOf((Tag) o) >= 0;
+    }
+
+    /**
+     * Returns the index of {@code tag} in {@code tags}, or a negative number if it is not in the set.
+     */
+    private int indexOf(Tag tag) {
+        int low = 0;
+        int high = tags.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (tags[middle] == tag) {
+                return middle;
+            }
+            int comparison = tags[middle].tagName.compareTo(tag.tagName);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<Tag>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (next >= tags.length) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super Tag> action) {
+        for (Tag tag : tags) {
+            action.accept(tag);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(tags, tags.length, Object[].class);
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet) {
+            TagSet otherTagSet = (TagSet) other;
+            return hash == otherTagSet.hash && Arrays.equals(tags, otherTagSet.tags);
+        }
+        return other instanceof Set && super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
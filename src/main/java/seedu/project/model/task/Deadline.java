@@ -3,6 +3,8 @@ package seedu.project.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.project.commons.util.AppUtil.checkArgument;
 
+import seedu.project.commons.util.WeakInterner;
+
 /**
  * Represents a Task's deadline in the project.
  * Guarantees: immutable; is valid as declared in {@link #isValidDeadline(String)}
@@ -24,10 +26,17 @@ public class Deadline {
      */
     public static final String VALIDATION_REGEX =
             "^(3[0]|[12][0-9]|0[1-9])-(11|0[469])-(20[1][9]|202[01])$|"
-                    + "^(3[1]|[12][0-9]|0[1-9])-(1[02]|0[13578])-(20[1][9]|202[01])$|"
+                    + "^(3[01]|[12][0-9]|0[1-9])-(1[02]|0[13578])-(20[1][9]|202[01])$|"
                     + "^(2[0-8]|[1][0-9]|0[1-9])-(02)-(2019|2021)$|"
                     + "^(2[0-9]|[1][0-9]|0[1-9])-(02)-(2020)$";
 
+    private static final int FIRST_YEAR = 2019;
+    private static final int LAST_YEAR = 2021;
+    private static final int LENGTH = "DD-MM-YYYY".length();
+
+    /** The deadlines handed out by {@link #of(String)}, as many tasks share the same few hundred deadlines. */
+    private static final WeakInterner<String, Deadline> POOL = new WeakInterner<>();
+
     public final String value;
 
     /**
@@ -36,16 +45,85 @@ public class Deadline {
      * @param deadline A valid deadline.
      */
     public Deadline(String deadline) {
+        this(deadline, false);
+    }
+
+    private Deadline(String deadline, boolean isValidated) {
         requireNonNull(deadline);
-        checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            assert isValidDeadline(deadline) : deadline;
+        } else {
+            checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
+        }
         value = deadline;
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns the shared {@code Deadline} for {@code deadline}.
+     *
+     * @param deadline A valid deadline.
+     */
+    public static Deadline of(String deadline) {
+        requireNonNull(deadline);
+        checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
+        return ofValidated(deadline);
+    }
+
+    /**
+     * Returns the shared {@code Deadline} for {@code deadline}, which the caller has already checked with
+     * {@link #isValidDeadline(String)}, without checking it again.
+     */
+    public static Deadline ofValidated(String deadline) {
+        return POOL.intern(deadline, validDeadline -> new Deadline(validDeadline, true));
+    }
+
+    /**
+     * Returns true if a given string is a valid deadline.
+     * Reads the day, month and year as numbers and checks them against the calendar, rather than matching
+     * {@code VALIDATION_REGEX}, which accepts the same deadlines.
      */
     public static boolean isValidDeadline(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != LENGTH || test.charAt(2) != '-' || test.charAt(5) != '-') {
+            return false;
+        }
+        int day = parseDigits(test, 0, 2);
+        int month = parseDigits(test, 3, 5);
+        int year = parseDigits(test, 6, LENGTH);
+        if (year < FIRST_YEAR || year > LAST_YEAR || month < 1 || month > 12) {
+            return false;
+        }
+        return day >= 1 && day <= getDaysInMonth(month, year);
+    }
+
+    /**
+     * Returns the number written in {@code s} from {@code start} to {@code end}, or -1 if any of those characters
+     * is not a digit.
+     */
+    private static int parseDigits(String s, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    private static int getDaysInMonth(int month, int year) {
+        switch (month) {
+        case 2:
+            boolean isLeapYear = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+            return isLeapYear ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
     }
 
     @Override
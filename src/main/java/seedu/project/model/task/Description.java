@@ -3,6 +3,8 @@ package seedu.project.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.project.commons.util.AppUtil.checkArgument;
 
+import seedu.project.commons.util.StringUtil;
+
 /**
  * Represents a Task's description in the project.
  * Guarantees: immutable; is valid as declared in {@link #isValidDescription(String)}
@@ -25,16 +27,46 @@ public class Description {
      * @param description A valid description.
      */
     public Description(String description) {
+        this(description, false);
+    }
+
+    private Description(String description, boolean isValidated) {
         requireNonNull(description);
-        checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            assert isValidDescription(description) : description;
+        } else {
+            checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        }
         value = description;
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns a {@code Description} for {@code description}, which the caller has already checked with
+     * {@link #isValidDescription(String)}, without checking it again.
+     */
+    public static Description ofValidated(String description) {
+        return new Description(description, true);
+    }
+
+    /**
+     * Returns true if a given string is a valid description.
+     * Checks the characters one by one, as {@code VALIDATION_REGEX} does, without compiling the pattern: the first
+     * must not be whitespace, and, like {@code .}, none of the others may end a line.
      */
     public static boolean isValidDescription(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || StringUtil.isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 
     @Override
@@ -17,8 +17,14 @@ public class NameContainsKeywordsPredicate implements Predicate<Task> {
 
     @Override
     public boolean test(Task task) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getName().fullName, keyword));
+        // a plain loop, as a stream and a lambda would be created for every task tested
+        String name = task.getName().fullName;
+        for (String keyword : keywords) {
+            if (StringUtil.containsWordIgnoreCase(name, keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
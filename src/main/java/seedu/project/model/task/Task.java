@@ -2,13 +2,11 @@ package seedu.project.model.task;
 
 import static seedu.project.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 
 import seedu.project.model.Name;
 import seedu.project.model.tag.Tag;
+import seedu.project.model.tag.TagSet;
 
 /**
  * Represents a Task in the project.
@@ -24,7 +22,7 @@ public class Task {
     private final Deadline deadline;
 
     // Data fields
-    private Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
     private int taskId;
 
@@ -36,7 +34,7 @@ public class Task {
         this.name = name;
         this.description = description;
         this.deadline = deadline;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
 
         //numberOfTask++;
         this.taskId = hashCode();
@@ -71,12 +69,24 @@ public class Task {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
-    public void addTag(Tag tag) {
-        this.tags.add(tag);
+    /**
+     * Returns true if the task has {@code tag}.
+     */
+    public boolean hasTag(Tag tag) {
+        return tags.contains(tag);
+    }
+
+    /**
+     * Returns a copy of this task, with the same task id, that also has {@code tag}.
+     */
+    public Task withTag(Tag tag) {
+        Task task = new Task(name, description, deadline, tags.with(tag));
+        task.taskId = taskId;
+        return task;
     }
 
     /**
@@ -126,13 +136,17 @@ public class Task {
         return otherTask.getName().equals(getName())
                 && otherTask.getDescription().equals(getDescription())
                 && otherTask.getDeadline().equals(getDeadline())
-                && otherTask.getTags().equals(getTags());
+                && otherTask.tags.equals(tags);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, description, deadline, tags);
+        // the same hash as Objects.hash(name, description, deadline, tags), without an array for the varargs, as
+        // tasks are hashed whenever they are looked up or their ids are assigned
+        int hash = 31 + name.hashCode();
+        hash = 31 * hash + description.hashCode();
+        hash = 31 * hash + deadline.hashCode();
+        return 31 * hash + tags.hashCode();
     }
 
     @Override
@@ -3,11 +3,12 @@ package seedu.project.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.project.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.project.commons.util.ChangeFeed;
+import seedu.project.commons.util.ChangeFeedList;
 import seedu.project.model.task.exceptions.DuplicateTaskException;
 import seedu.project.model.task.exceptions.TaskNotFoundException;
 
@@ -24,9 +25,8 @@ import seedu.project.model.task.exceptions.TaskNotFoundException;
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Task> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ChangeFeedList<Task> internalList = new ChangeFeedList<>();
+    private final List<Task> internalUnmodifiableList = Collections.unmodifiableList(internalList);
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
@@ -95,16 +95,22 @@ public class UniqueTaskList implements Iterable<Task> {
         }
 
         internalList.setAll(tasks);
-
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code List}.
      */
-    public ObservableList<Task> asUnmodifiableObservableList() {
+    public List<Task> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the feed through which changes to this list are reported.
+     */
+    public ChangeFeed<Task> getChangeFeed() {
+        return internalList;
+    }
+
     @Override
     public Iterator<Task> iterator() {
         return internalList.iterator();
@@ -0,0 +1,364 @@
+package seedu.project.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.project.commons.core.LogsCenter;
+import seedu.project.commons.core.index.Index;
+import seedu.project.commons.exceptions.DataConversionException;
+import seedu.project.commons.util.JsonUtil;
+import seedu.project.commons.util.StringUtil;
+import seedu.project.logic.LogicManager;
+import seedu.project.logic.commands.CommandResult;
+import seedu.project.logic.commands.exceptions.CommandException;
+import seedu.project.logic.parser.ParserUtil;
+import seedu.project.logic.parser.exceptions.ParseException;
+import seedu.project.model.Model;
+import seedu.project.storage.JsonAdaptedProject;
+import seedu.project.storage.Storage;
+
+/**
+ * A local HTTP server that exposes the project list as JSON, and accepts commands from dashboards and scripts.
+ * <ul>
+ *     <li>{@code GET /api/projects} returns all projects with their tasks.</li>
+ *     <li>{@code GET /api/projects/INDEX} returns the project at the one-based {@code INDEX}.</li>
+ *     <li>{@code POST /api/commands} executes the command in the request body, exactly as if it had been typed
+ *     into the command box.</li>
+ * </ul>
+ * Reads are served concurrently from the latest {@code ProjectListSnapshot}, converted from the model's own
+ * snapshots. Commands are executed one at a time on a single model-writer thread, which is the only thread that
+ * touches the model, and a new snapshot is published after each of them. The response to a command is sent from
+ * a thread of its own once the command has run, so that no reader thread waits for commands.
+ * Each client gets its own session, identified by the {@code X-Session-Id} header of its requests. A new session
+ * is started for requests without one, and its id is returned in the same header. Sessions that have been idle
+ * for longer than the session timeout are dropped, as is the least recently used session once there are too many,
+ * and a client whose session was dropped is given a new one.
+ */
+public class ApiServer {
+
+    public static final String PROJECTS_PATH = "/api/projects";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String SESSION_HEADER = "X-Session-Id";
+
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method %1$s is not allowed on %2$s";
+    public static final String MESSAGE_PROJECT_NOT_FOUND = "There is no project at index %1$d";
+    public static final String MESSAGE_INTERNAL_ERROR = "The command could not be executed: %1$s";
+
+    public static final int DEFAULT_MAX_SESSIONS = 64;
+    public static final Duration DEFAULT_SESSION_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final int READER_THREADS = 4;
+    private static final int RESPONDER_THREADS = 2;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final String WRITER_THREAD_NAME = "api-model-writer";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final HttpServer httpServer;
+    private final ExecutorService readers = Executors.newFixedThreadPool(READER_THREADS);
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable ->
+            new Thread(runnable, WRITER_THREAD_NAME));
+    private final ExecutorService responders = Executors.newFixedThreadPool(RESPONDER_THREADS);
+    // only used on the model-writer thread, ordered from the least to the most recently used session
+    private final Map<String, ApiSession> sessions;
+    private final long sessionTimeoutMillis;
+    private final Clock clock;
+    private volatile ProjectListSnapshot snapshot;
+
+    /**
+     * Creates a server for {@code model} that listens on {@code address} once started.
+     * From then on, {@code model} must not be modified other than through this server.
+     */
+    public ApiServer(Model model, Storage storage, InetSocketAddress address) throws IOException {
+        this(model, storage, address, DEFAULT_MAX_SESSIONS, DEFAULT_SESSION_TIMEOUT, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a server for {@code model} that listens on {@code address} once started, and keeps at most
+     * {@code maxSessions} sessions, each for at most {@code sessionTimeout} after its last command.
+     */
+    ApiServer(Model model, Storage storage, InetSocketAddress address, int maxSessions, Duration sessionTimeout,
+            Clock clock) throws IOException {
+        requireNonNull(model);
+        requireNonNull(storage);
+        requireNonNull(address);
+        requireNonNull(sessionTimeout);
+        requireNonNull(clock);
+        if (maxSessions <= 0) {
+            throw new IllegalArgumentException("Maximum number of sessions must be positive: " + maxSessions);
+        }
+        this.model = model;
+        this.storage = storage;
+        this.sessionTimeoutMillis = sessionTimeout.toMillis();
+        this.clock = clock;
+        sessions = new LinkedHashMap<String, ApiSession>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ApiSession> eldest) {
+                if (size() <= maxSessions) {
+                    return false;
+                }
+                logger.info("Dropped least recently used API session " + eldest.getKey());
+                return true;
+            }
+        };
+
+        httpServer = HttpServer.create(address, 0);
+        httpServer.createContext(PROJECTS_PATH, this::handleProjects);
+        httpServer.createContext(COMMANDS_PATH, this::handleCommands);
+        httpServer.setExecutor(readers);
+    }
+
+    /**
+     * Publishes the first snapshot and starts accepting requests.
+     */
+    public void start() throws InterruptedException, ExecutionException {
+        writer.submit(() -> {
+            model.publishSnapshot();
+            publishSnapshot();
+        }).get();
+        httpServer.start();
+        logger.info("API server listening on " + httpServer.getAddress());
+    }
+
+    /**
+     * Stops accepting requests, and waits a short while for commands that are already running to finish.
+     */
+    public void stop() {
+        httpServer.stop(0);
+        readers.shutdown();
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("API server did not finish pending commands before shutdown");
+            }
+            // the responses to the commands that have run are still sent
+            responders.shutdown();
+            responders.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the port the server listens on, which is useful if it was started on an ephemeral port.
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Serves {@code GET /api/projects} and {@code GET /api/projects/INDEX} from the latest snapshot.
+     */
+    private void handleProjects(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange);
+                return;
+            }
+
+            ProjectListSnapshot currentSnapshot = snapshot;
+            String subPath = exchange.getRequestURI().getPath().substring(PROJECTS_PATH.length());
+            if (subPath.isEmpty() || subPath.equals("/")) {
+                send(exchange, HttpURLConnection.HTTP_OK, currentSnapshot);
+                return;
+            }
+
+            Index index = ParserUtil.parseIndex(subPath.substring(1));
+            Optional<JsonAdaptedProject> project = currentSnapshot.getProject(index.getZeroBased());
+            if (project.isPresent()) {
+                send(exchange, HttpURLConnection.HTTP_OK, project.get());
+            } else {
+                send(exchange, HttpURLConnection.HTTP_NOT_FOUND,
+                        new ErrorResponse(String.format(MESSAGE_PROJECT_NOT_FOUND, index.getOneBased())));
+            }
+        } catch (ParseException pe) {
+            send(exchange, HttpURLConnection.HTTP_BAD_REQUEST, new ErrorResponse(pe.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Serves {@code POST /api/commands} by handing the command over to the model-writer thread. The response is
+     * sent by a responder thread once the command has run, leaving this thread free to serve other requests.
+     */
+    private void handleCommands(HttpExchange exchange) throws IOException {
+        String commandText;
+        String sessionId;
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange);
+                exchange.close();
+                return;
+            }
+
+            try (InputStream body = exchange.getRequestBody()) {
+                commandText = new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            sessionId = exchange.getRequestHeaders().getFirst(SESSION_HEADER);
+        } catch (IOException | RuntimeException e) {
+            exchange.close();
+            throw e;
+        }
+
+        try {
+            CompletableFuture.supplyAsync(() -> execute(sessionId, commandText), writer)
+                    .whenCompleteAsync((response, failure) -> sendCommandResponse(exchange, response, failure),
+                            responders);
+        } catch (RejectedExecutionException e) {
+            // the server is being stopped
+            try {
+                send(exchange, HttpURLConnection.HTTP_UNAVAILABLE,
+                        new ErrorResponse(String.format(MESSAGE_INTERNAL_ERROR, e)));
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    /**
+     * Sends {@code response} to a command, or an error if the command failed unexpectedly with {@code failure},
+     * and closes {@code exchange}.
+     */
+    private void sendCommandResponse(HttpExchange exchange, CommandResponse response, Throwable failure) {
+        try {
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                logger.warning("Unexpected failure on " + WRITER_THREAD_NAME + " thread: "
+                        + StringUtil.getDetails(cause));
+                send(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR,
+                        new ErrorResponse(String.format(MESSAGE_INTERNAL_ERROR, cause)));
+                return;
+            }
+
+            exchange.getResponseHeaders().set(SESSION_HEADER, response.session);
+            send(exchange, response.success ? HttpURLConnection.HTTP_OK : HttpURLConnection.HTTP_BAD_REQUEST,
+                    response);
+        } catch (IOException e) {
+            logger.fine("Response to a command could not be sent: " + e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Executes {@code commandText} in the session with {@code sessionId}, starting a new session if there is no
+     * such session. Must be called on the model-writer thread.
+     */
+    private CommandResponse execute(String sessionId, String commandText) {
+        long now = clock.millis();
+        dropIdleSessions(now);
+        ApiSession session = sessionId == null ? null : sessions.get(sessionId);
+        if (session == null) {
+            session = new ApiSession(UUID.randomUUID().toString(), new LogicManager(model, storage), now);
+            sessions.put(session.getId(), session);
+            logger.info("Started API session " + session.getId());
+        }
+        session.setLastUsedMillis(now);
+
+        session.restore(model);
+        try {
+            CommandResult result = session.getLogic().execute(commandText);
+            return new CommandResponse(session.getId(), true, result.getFeedbackToUser());
+        } catch (CommandException | ParseException | DataConversionException | IOException e) {
+            return new CommandResponse(session.getId(), false, e.getMessage());
+        } finally {
+            session.save(model);
+            publishSnapshot();
+        }
+    }
+
+    /**
+     * Drops the sessions that have not run a command for longer than the session timeout at {@code now}.
+     * Must be called on the model-writer thread.
+     */
+    private void dropIdleSessions(long now) {
+        Iterator<ApiSession> leastRecentlyUsed = sessions.values().iterator();
+        while (leastRecentlyUsed.hasNext()) {
+            ApiSession session = leastRecentlyUsed.next();
+            if (now - session.getLastUsedMillis() <= sessionTimeoutMillis) {
+                // the remaining sessions have been used more recently
+                return;
+            }
+            leastRecentlyUsed.remove();
+            logger.info("Dropped idle API session " + session.getId());
+        }
+    }
+
+    /**
+     * Replaces the snapshot that requests are served from with the one last published by the model.
+     * Must be called on the model-writer thread.
+     */
+    private void publishSnapshot() {
+        snapshot = ProjectListSnapshot.of(model.getSnapshot(), snapshot);
+    }
+
+    private static void sendMethodNotAllowed(HttpExchange exchange) throws IOException {
+        send(exchange, HttpURLConnection.HTTP_BAD_METHOD, new ErrorResponse(String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                exchange.getRequestMethod(), exchange.getRequestURI().getPath())));
+    }
+
+    /**
+     * Sends {@code body} as JSON with the given {@code status}.
+     */
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * The outcome of a command, as returned to the client.
+     */
+    static class CommandResponse {
+        private final String session;
+        private final boolean success;
+        private final String feedback;
+
+        CommandResponse(String session, boolean success, String feedback) {
+            this.session = session;
+            this.success = success;
+            this.feedback = feedback;
+        }
+    }
+
+    /**
+     * A request that could not be served, as returned to the client.
+     */
+    static class ErrorResponse {
+        private final String error;
+
+        ErrorResponse(String error) {
+            this.error = error;
+        }
+    }
+}
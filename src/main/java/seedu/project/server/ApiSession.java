@@ -0,0 +1,94 @@
+package seedu.project.server;
+
+import static seedu.project.model.Model.PREDICATE_SHOW_ALL_PROJECTS;
+import static seedu.project.model.Model.PREDICATE_SHOW_ALL_TASKS;
+
+import java.util.function.Predicate;
+
+import seedu.project.logic.Logic;
+import seedu.project.logic.LogicManager;
+import seedu.project.model.Model;
+import seedu.project.model.Name;
+import seedu.project.model.project.Project;
+import seedu.project.model.task.Task;
+
+/**
+ * The view state of one API client: whether it is inside a project, which project and task it has selected, how
+ * its project and task lists are filtered, and its own command history.
+ * The model only has one opened project and {@code LogicManager} one global state flag, so a session is swapped
+ * into the model before each of its commands, and read back out afterwards.
+ * All methods must be called on the thread that modifies the model.
+ */
+class ApiSession {
+
+    private final String id;
+    private final Logic logic;
+    private boolean isTaskLevel;
+    private Name projectName;
+    private Task selectedTask;
+    private Predicate<Project> projectPredicate = PREDICATE_SHOW_ALL_PROJECTS;
+    private Predicate<Task> taskPredicate = PREDICATE_SHOW_ALL_TASKS;
+    private long lastUsedMillis;
+
+    ApiSession(String id, Logic logic, long createdMillis) {
+        this.id = id;
+        this.logic = logic;
+        lastUsedMillis = createdMillis;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Logic getLogic() {
+        return logic;
+    }
+
+    long getLastUsedMillis() {
+        return lastUsedMillis;
+    }
+
+    void setLastUsedMillis(long lastUsedMillis) {
+        this.lastUsedMillis = lastUsedMillis;
+    }
+
+    /**
+     * Makes {@code model} show what this session saw after its last command.
+     * If the session's project no longer exists, the session goes back to the project list.
+     */
+    void restore(Model model) {
+        LogicManager.setState(false);
+        model.updateFilteredProjectList(projectPredicate);
+        if (!isTaskLevel) {
+            return;
+        }
+
+        Project project = model.getFilteredProjectList().stream()
+                .filter(candidate -> candidate.getName().equals(projectName))
+                .findFirst()
+                .orElse(null);
+        if (project == null) {
+            isTaskLevel = false;
+            return;
+        }
+
+        model.setProject(project);
+        model.setSelectedProject(project);
+        LogicManager.setState(true);
+        model.updateFilteredTaskList(taskPredicate);
+        if (selectedTask != null && model.getFilteredTaskList().contains(selectedTask)) {
+            model.setSelectedTask(selectedTask);
+        }
+    }
+
+    /**
+     * Remembers what {@code model} shows after one of this session's commands.
+     */
+    void save(Model model) {
+        isTaskLevel = LogicManager.getState();
+        projectName = isTaskLevel ? model.getProject().getName() : null;
+        selectedTask = isTaskLevel ? model.selectedTaskProperty().getValue() : null;
+        projectPredicate = model.getFilteredProjectListPredicate();
+        taskPredicate = isTaskLevel ? model.getFilteredTaskListPredicate() : PREDICATE_SHOW_ALL_TASKS;
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.project.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import seedu.project.model.ModelSnapshot;
+import seedu.project.model.ProjectSnapshot;
+import seedu.project.storage.JsonAdaptedProject;
+import seedu.project.storage.JsonAdaptedTask;
+
+/**
+ * An immutable, JSON-ready copy of the project list, converted from a {@code ModelSnapshot}.
+ * Request threads only ever read these, so they never touch the live model.
+ */
+class ProjectListSnapshot {
+
+    private final List<JsonAdaptedProject> projects;
+
+    // Identifies which project snapshot each element of projects was converted from, in the same order.
+    @JsonIgnore
+    private final List<ProjectSnapshot> sources;
+
+    private ProjectListSnapshot(List<JsonAdaptedProject> projects, List<ProjectSnapshot> sources) {
+        this.projects = Collections.unmodifiableList(projects);
+        this.sources = sources;
+    }
+
+    /**
+     * Converts the projects of {@code source}. Projects that {@code previous} (which may be null) already
+     * converted are reused, as the model shares unchanged projects between its snapshots.
+     */
+    static ProjectListSnapshot of(ModelSnapshot source, ProjectListSnapshot previous) {
+        Map<ProjectSnapshot, JsonAdaptedProject> converted = new IdentityHashMap<>();
+        if (previous != null) {
+            for (int i = 0; i < previous.sources.size(); i++) {
+                converted.put(previous.sources.get(i), previous.projects.get(i));
+            }
+        }
+
+        List<JsonAdaptedProject> projects = new ArrayList<>();
+        for (ProjectSnapshot project : source.getProjects()) {
+            JsonAdaptedProject jsonProject = converted.get(project);
+            projects.add(jsonProject != null ? jsonProject : toJsonAdaptedProject(project));
+        }
+        return new ProjectListSnapshot(projects, new ArrayList<>(source.getProjects()));
+    }
+
+    private static JsonAdaptedProject toJsonAdaptedProject(ProjectSnapshot project) {
+        return new JsonAdaptedProject(project.getName().fullName,
+                project.getTasks().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
+    }
+
+    List<JsonAdaptedProject> getProjects() {
+        return projects;
+    }
+
+    /**
+     * Returns the project at {@code zeroBasedIndex}, or an empty {@code Optional} if there is none.
+     */
+    Optional<JsonAdaptedProject> getProject(int zeroBasedIndex) {
+        if (zeroBasedIndex < 0 || zeroBasedIndex >= projects.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(projects.get(zeroBasedIndex));
+    }
+}
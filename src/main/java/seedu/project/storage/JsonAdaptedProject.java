@@ -15,7 +15,7 @@ import seedu.project.model.task.Task;
 /**
  * Jackson-friendly version of {@link Project}.
  */
-class JsonAdaptedProject {
+public class JsonAdaptedProject {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Project's %s field is missing!";
 
@@ -53,7 +53,7 @@ class JsonAdaptedProject {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofValidated(name);
 
         final List<Task> modelTasks = new ArrayList<>();
         for (JsonAdaptedTask task : tasks) {
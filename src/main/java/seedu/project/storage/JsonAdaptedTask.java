@@ -1,9 +1,7 @@
 package seedu.project.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.project.commons.exceptions.IllegalValueException;
 import seedu.project.model.Name;
 import seedu.project.model.tag.Tag;
+import seedu.project.model.tag.TagSet;
 import seedu.project.model.task.Deadline;
 import seedu.project.model.task.Description;
 import seedu.project.model.task.Task;
@@ -19,7 +18,7 @@ import seedu.project.model.task.Task;
 /**
  * Jackson-friendly version of {@link Task}.
  */
-class JsonAdaptedTask {
+public class JsonAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
 
@@ -72,7 +71,7 @@ class JsonAdaptedTask {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofValidated(name);
 
         if (description == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -81,7 +80,7 @@ class JsonAdaptedTask {
         if (!Description.isValidDescription(description)) {
             throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
         }
-        final Description modelDescription = new Description(description);
+        final Description modelDescription = Description.ofValidated(description);
 
         if (deadline == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -90,9 +89,9 @@ class JsonAdaptedTask {
         if (!Deadline.isValidDeadline(deadline)) {
             throw new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS);
         }
-        final Deadline modelDeadline = new Deadline(deadline);
+        final Deadline modelDeadline = Deadline.ofValidated(deadline);
 
-        final Set<Tag> modelTags = new HashSet<>(taskTags);
+        final TagSet modelTags = TagSet.of(taskTags);
         return new Task(modelName, modelDescription, modelDeadline, modelTags);
     }
 
@@ -3,6 +3,7 @@ package seedu.project.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.project.commons.core.LogsCenter;
@@ -57,7 +58,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyProjectList> readProjectList(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.log(Level.FINE, "Attempting to read data from file: {0}", filePath);
         return projectListStorage.readProjectList(filePath);
     }
 
@@ -68,7 +69,7 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveProjectList(ReadOnlyProjectList projectList, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.log(Level.FINE, "Attempting to write to data file: {0}", filePath);
         projectListStorage.saveProjectList(projectList, filePath);
     }
 
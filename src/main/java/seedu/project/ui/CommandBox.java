@@ -1,13 +1,19 @@
 package seedu.project.ui;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.project.commons.exceptions.DataConversionException;
 import seedu.project.logic.commands.CommandResult;
 import seedu.project.logic.commands.exceptions.CommandException;
@@ -19,21 +25,65 @@ import seedu.project.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
+    // suggestions and validation are only requested once the user pauses typing for this long
+    private static final Duration TYPING_PAUSE = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final CommandQueue commandQueue;
     private final List<String> history;
+    private final SuggestionProvider suggestionProvider;
+    private final CommandValidator commandValidator;
+    private final PauseTransition typingPause = new PauseTransition(TYPING_PAUSE);
     private ListElementPointer historySnapshot;
 
+    // the suggestions for suggestionsInput, which is null while there are no suggestions for the current text
+    private List<String> suggestions = Collections.emptyList();
+    private String suggestionsInput;
+    private int suggestionIndex = -1;
+    private boolean isCompleting;
+
     @FXML
     private TextField commandTextField;
 
     public CommandBox(CommandExecutor commandExecutor, List<String> history) {
+        this(commandExecutor, history, CommandQueue.createDirectQueue());
+    }
+
+    public CommandBox(CommandExecutor commandExecutor, List<String> history, CommandQueue commandQueue) {
+        this(commandExecutor, history, commandQueue, input -> CompletableFuture.completedFuture(
+                Collections.emptyList()), commandText -> CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Creates a {@code CommandBox} that executes commands through {@code commandQueue}, and completes them with
+     * the suggestions of {@code suggestionProvider} when Tab is pressed.
+     * Whenever the user pauses typing, the text is checked by {@code commandValidator} and styled as an error if
+     * it is not a valid command.
+     * The text field stays editable while commands run, and is styled as busy until they complete.
+     * {@code history} is changed by the commands, so it is only read here before the first command, and
+     * afterwards on the model-writer thread, which hands a copy of it back with the outcome of each command.
+     */
+    public CommandBox(CommandExecutor commandExecutor, List<String> history, CommandQueue commandQueue,
+            SuggestionProvider suggestionProvider, CommandValidator commandValidator) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandQueue = commandQueue;
         this.history = history;
+        this.suggestionProvider = suggestionProvider;
+        this.commandValidator = commandValidator;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> handleTextChanged());
+        typingPause.setOnFinished(unused -> {
+            // while cycling through completions, the suggestions of the text before completing are kept
+            if (suggestionsInput == null) {
+                requestSuggestions(false);
+            }
+            requestValidation();
+        });
+        commandQueue.busyProperty().addListener((unused1, unused2, isBusy) -> setStyleToIndicateBusy(isBusy));
         historySnapshot = new ListElementPointer(history);
     }
 
@@ -54,6 +104,11 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case TAB:
+            // keeps the focus in the text field
+            keyEvent.consume();
+            complete();
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -85,6 +140,104 @@ public class CommandBox extends UiPart<Region> {
         replaceText(historySnapshot.next());
     }
 
+    /**
+     * Requests a validation of the text once the user pauses typing. Unless the text was changed by a completion,
+     * also forgets the suggestions for the previous text, and requests new ones at the same time.
+     */
+    private void handleTextChanged() {
+        if (!isCompleting) {
+            suggestions = Collections.emptyList();
+            suggestionsInput = null;
+            suggestionIndex = -1;
+        }
+        typingPause.playFromStart();
+    }
+
+    /**
+     * Completes the text with the suggestions for it, requesting them right away if they are not available yet.
+     */
+    private void complete() {
+        if (suggestionsInput != null) {
+            applySuggestions();
+            return;
+        }
+        typingPause.stop();
+        requestSuggestions(true);
+    }
+
+    /**
+     * Validates the current text off the JavaFX application thread, and styles it as an error if it is invalid.
+     * The result is discarded if the text has changed by the time it arrives.
+     */
+    private void requestValidation() {
+        String commandText = commandTextField.getText();
+        if (commandText.trim().isEmpty()) {
+            return;
+        }
+
+        commandValidator.validate(commandText).thenAccept(errorMessage -> Platform.runLater(() -> {
+            if (errorMessage != null && commandTextField.getText().equals(commandText)) {
+                setStyleToIndicateCommandFailure();
+            }
+        }));
+    }
+
+    /**
+     * Requests the suggestions for the current text. They are computed off the JavaFX application thread, and
+     * discarded if the text has changed by the time they arrive.
+     *
+     * @param isApplyWhenReady whether to complete the text with the suggestions once they arrive
+     */
+    private void requestSuggestions(boolean isApplyWhenReady) {
+        String input = commandTextField.getText();
+        suggestionProvider.suggest(input).thenAccept(result -> Platform.runLater(() -> {
+            if (!commandTextField.getText().equals(input)) {
+                return;
+            }
+            suggestions = result;
+            suggestionsInput = input;
+            if (isApplyWhenReady) {
+                applySuggestions();
+            }
+        }));
+    }
+
+    /**
+     * Completes the text as far as all suggestions agree. Once they no longer agree, each further call cycles
+     * through the suggestions.
+     */
+    private void applySuggestions() {
+        if (suggestions.isEmpty()) {
+            return;
+        }
+
+        String commonPrefix = suggestions.get(0);
+        for (String suggestion : suggestions) {
+            int length = 0;
+            while (length < commonPrefix.length() && length < suggestion.length()
+                    && commonPrefix.charAt(length) == suggestion.charAt(length)) {
+                length++;
+            }
+            commonPrefix = commonPrefix.substring(0, length);
+        }
+
+        if (suggestionIndex == -1 && commonPrefix.length() > commandTextField.getText().length()) {
+            setCompletedText(commonPrefix);
+        } else {
+            suggestionIndex = (suggestionIndex + 1) % suggestions.size();
+            setCompletedText(suggestions.get(suggestionIndex));
+        }
+    }
+
+    /**
+     * Sets the text to a completion, keeping the suggestions it was made from.
+     */
+    private void setCompletedText(String text) {
+        isCompleting = true;
+        replaceText(text);
+        isCompleting = false;
+    }
+
     /**
      * Sets {@code CommandBox}'s text field with {@code text} and
      * positions the caret to the end of the {@code text}.
@@ -99,22 +252,47 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandExecutor.execute(commandTextField.getText());
-            initHistory();
-            historySnapshot.next();
+        String commandText = commandTextField.getText();
+        List<String> historyAfterCommand = new ArrayList<>();
+        commandQueue.submit(() -> {
+            try {
+                return commandExecutor.execute(commandText);
+            } finally {
+                historyAfterCommand.addAll(history);
+            }
+        }, unused -> handleCommandSucceeded(commandText, historyAfterCommand),
+            unused -> handleCommandFailed(commandText, historyAfterCommand));
+    }
+
+    /**
+     * Updates the history to {@code historyAfterCommand} and clears the text field after {@code commandText}
+     * succeeded.
+     */
+    private void handleCommandSucceeded(String commandText, List<String> historyAfterCommand) {
+        initHistory(historyAfterCommand);
+        historySnapshot.next();
+        // the user may have started typing the next command while this one was running
+        if (commandTextField.getText().equals(commandText)) {
             commandTextField.setText("");
-        } catch (CommandException | ParseException | DataConversionException | IOException e) {
-            initHistory();
+        }
+    }
+
+    /**
+     * Updates the history to {@code historyAfterCommand} and indicates the failure of {@code commandText}, unless
+     * the user has moved on.
+     */
+    private void handleCommandFailed(String commandText, List<String> historyAfterCommand) {
+        initHistory(historyAfterCommand);
+        if (commandTextField.getText().equals(commandText)) {
             setStyleToIndicateCommandFailure();
         }
     }
 
     /**
-     * Initializes the history snapshot.
+     * Initializes the history snapshot with {@code historyAfterCommand}.
      */
-    private void initHistory() {
-        historySnapshot = new ListElementPointer(history);
+    private void initHistory(List<String> historyAfterCommand) {
+        historySnapshot = new ListElementPointer(historyAfterCommand);
         // add an empty string to represent the most-recent end of historySnapshot, to be shown to
         // the user if she tries to navigate past the most-recent end of the historySnapshot.
         historySnapshot.add("");
@@ -140,6 +318,45 @@ public class CommandBox extends UiPart<Region> {
         styleClass.add(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to indicate whether commands are still running.
+     */
+    private void setStyleToIndicateBusy(boolean isBusy) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+
+        if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
+        }
+    }
+
+    /**
+     * Represents a function that suggests completions of partially typed commands.
+     */
+    @FunctionalInterface
+    public interface SuggestionProvider {
+        /**
+         * Computes the completions of {@code input}, each being the whole input once completed.
+         *
+         * @see seedu.project.logic.Autocompleter#complete(String)
+         */
+        CompletableFuture<List<String>> suggest(String input);
+    }
+
+    /**
+     * Represents a function that checks commands without executing them.
+     */
+    @FunctionalInterface
+    public interface CommandValidator {
+        /**
+         * Checks the command, returning a future holding the message of its error, or null if it is valid.
+         *
+         * @see seedu.project.logic.Logic#validate(String)
+         */
+        CompletableFuture<String> validate(String commandText);
+    }
+
     /**
      * Represents a function that can execute commands.
      */
@@ -0,0 +1,117 @@
+package seedu.project.ui;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.property.SimpleIntegerProperty;
+import seedu.project.commons.core.LogsCenter;
+import seedu.project.commons.util.StringUtil;
+
+/**
+ * Runs work that touches the model on a single model-writer thread, so that the JavaFX application thread
+ * never blocks on parsing, model changes or saving.
+ * Work is executed in submission order, and its outcome is reported back on the JavaFX application thread.
+ */
+public class CommandQueue {
+
+    public static final String WRITER_THREAD_NAME = "model-writer";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final Executor writer;
+    private final Executor uiThread;
+    private final SimpleIntegerProperty pendingCount = new SimpleIntegerProperty(0);
+    private final BooleanBinding busy = Bindings.greaterThan(pendingCount, 0);
+
+    public CommandQueue(Executor writer, Executor uiThread) {
+        this.writer = writer;
+        this.uiThread = uiThread;
+    }
+
+    /**
+     * Creates a queue backed by a single daemon model-writer thread, which reports back on the JavaFX
+     * application thread.
+     */
+    public static CommandQueue createModelWriterQueue() {
+        ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new CommandQueue(writer, Platform::runLater);
+    }
+
+    /**
+     * Creates a queue that runs all work directly on the calling thread.
+     */
+    public static CommandQueue createDirectQueue() {
+        return new CommandQueue(Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Enqueues {@code work} on the model-writer thread. Once it is done, either {@code onSuccess} or
+     * {@code onFailure} is called on the JavaFX application thread.
+     * Must be called on the JavaFX application thread.
+     */
+    public <T> void submit(Callable<T> work, Consumer<T> onSuccess, Consumer<Exception> onFailure) {
+        pendingCount.set(pendingCount.get() + 1);
+        writer.execute(() -> {
+            try {
+                T result = work.call();
+                uiThread.execute(() -> complete(() -> onSuccess.accept(result)));
+            } catch (Exception e) {
+                if (e instanceof RuntimeException) {
+                    logger.warning("Unexpected failure on " + WRITER_THREAD_NAME + " thread: "
+                            + StringUtil.getDetails(e));
+                }
+                uiThread.execute(() -> complete(() -> onFailure.accept(e)));
+            }
+        });
+    }
+
+    /**
+     * Runs {@code callback} and marks one piece of submitted work as completed.
+     */
+    private void complete(Runnable callback) {
+        try {
+            callback.run();
+        } finally {
+            pendingCount.set(pendingCount.get() - 1);
+        }
+    }
+
+    /**
+     * Returns a binding that is true while submitted work has not completed yet.
+     */
+    public BooleanBinding busyProperty() {
+        return busy;
+    }
+
+    /**
+     * Stops accepting work, and waits a short while for already submitted work to finish.
+     */
+    public void shutdown() {
+        if (!(writer instanceof ExecutorService)) {
+            return;
+        }
+
+        ExecutorService writerService = (ExecutorService) writer;
+        writerService.shutdown();
+        try {
+            if (!writerService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Model writer did not finish pending commands before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package seedu.project.ui;
 
 import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,13 +17,15 @@ import javafx.stage.Stage;
 import seedu.project.commons.core.GuiSettings;
 import seedu.project.commons.core.LogsCenter;
 import seedu.project.commons.exceptions.DataConversionException;
+import seedu.project.logic.Autocompleter;
 import seedu.project.logic.Logic;
-import seedu.project.logic.LogicManager;
 import seedu.project.logic.commands.CommandResult;
-import seedu.project.logic.commands.ListProjectCommand;
-import seedu.project.logic.commands.SelectCommand;
+import seedu.project.logic.commands.ResultSource;
 import seedu.project.logic.commands.exceptions.CommandException;
+import seedu.project.logic.parser.CommandRegistry;
 import seedu.project.logic.parser.exceptions.ParseException;
+import seedu.project.model.project.Project;
+import seedu.project.model.task.Task;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -34,6 +39,15 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private final CommandQueue commandQueue;
+    private final ModelMirror modelMirror;
+    private final RefreshScheduler refreshScheduler;
+    private final RefreshScheduler.View windowView;
+
+    // Posted on the model-writer thread and shown at the next repaint of the window, guarded by pendingLock
+    private final Object pendingLock = new Object();
+    private ModelMirror.Snapshot pendingSnapshot;
+    private ResultSource pendingFeedback;
 
     // Independent Ui parts residing in this Ui container
     private BrowserPanel browserPanel;
@@ -69,6 +83,17 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        commandQueue = CommandQueue.createModelWriterQueue();
+        modelMirror = new ModelMirror();
+        refreshScheduler = RefreshScheduler.createPulseScheduler();
+        windowView = refreshScheduler.register(this::repaint);
+        // bursts of commands are repainted once per pulse, but the state after the last one is shown right away,
+        // before the command box stops indicating that commands are running
+        commandQueue.busyProperty().addListener((unused1, unused2, isBusy) -> {
+            if (!isBusy) {
+                refreshScheduler.flush();
+            }
+        });
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -120,15 +145,20 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
+        // nothing runs on the model-writer thread yet, so the model can be read directly here
+        modelMirror.apply(modelMirror.capture(logic));
+
         browserPanel = new BrowserPanel();
         browserPlaceholder.getChildren().add(browserPanel.getRoot());
 
-        projectListPanel = new ProjectListPanel(logic.getFilteredProjectList(), logic.selectedProjectProperty(),
-                logic::setSelectedProject);
+        Consumer<Project> onSelectedProjectChange = project -> updateSelection(() -> logic.setSelectedProject(project));
+        projectListPanel = new ProjectListPanel(modelMirror.getProjectList(), modelMirror.selectedProjectProperty(),
+                onSelectedProjectChange);
         projectListPanelPlaceholder.getChildren().add(projectListPanel.getRoot());
 
-        taskListPanel = new TaskListPanel(logic.getFilteredTaskList(), logic.selectedTaskProperty(),
-                logic::setSelectedTask);
+        Consumer<Task> onSelectedTaskChange = task -> updateSelection(() -> logic.setSelectedTask(task));
+        taskListPanel = new TaskListPanel(modelMirror.getTaskList(), modelMirror.selectedTaskProperty(),
+                onSelectedTaskChange);
         taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
         taskListPanelPlaceholder.setDisable(true);
 
@@ -136,13 +166,72 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getProjectListFilePath(), logic.getProjectList(),
-                logic.getFilteredProjectList().size());
+                logic.getFilteredProjectList().size(), refreshScheduler);
+        logic.addOpenedProjectListener(statusBarFooter::handleOpenedProjectChange);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
+        Autocompleter autocompleter = new Autocompleter(logic.getProjectList(), CommandRegistry.getDefault());
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory(), commandQueue,
+                autocompleter::complete, logic::validate);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Applies a selection made in one of the list panels to the model on the model-writer thread.
+     */
+    private void updateSelection(Runnable selectionChange) {
+        commandQueue.submit(() -> {
+            selectionChange.run();
+            return ModelMirror.captureSelection(logic);
+        }, snapshot -> post(snapshot, null), e -> logger.fine("Selection could not be applied: " + e));
+    }
+
+    /**
+     * Posts what the window should show after a change, to be shown at the next repaint of the window.
+     * Whatever was posted earlier but not shown yet is superseded: only the latest lists and feedback are shown.
+     * May be called from any thread. Null arguments leave the respective part unchanged.
+     */
+    private void post(ModelMirror.Snapshot snapshot, ResultSource feedback) {
+        synchronized (pendingLock) {
+            if (snapshot != null) {
+                pendingSnapshot = ModelMirror.merge(pendingSnapshot, snapshot);
+            }
+            if (feedback != null) {
+                pendingFeedback = feedback;
+            }
+        }
+        windowView.markDirty();
+    }
+
+    /**
+     * Shows what has been posted since the last repaint.
+     */
+    private void repaint() {
+        ModelMirror.Snapshot snapshot;
+        ResultSource feedback;
+        synchronized (pendingLock) {
+            snapshot = pendingSnapshot;
+            feedback = pendingFeedback;
+            pendingSnapshot = null;
+            pendingFeedback = null;
+        }
+
+        if (snapshot != null) {
+            boolean wasTaskLevel = modelMirror.isTaskLevel();
+            Project previousProject = modelMirror.selectedProjectProperty().getValue();
+            Task previousTask = modelMirror.selectedTaskProperty().getValue();
+            modelMirror.apply(snapshot);
+            if (wasTaskLevel != modelMirror.isTaskLevel()
+                    || previousProject != modelMirror.selectedProjectProperty().getValue()
+                    || previousTask != modelMirror.selectedTaskProperty().getValue()) {
+                refreshPanel();
+            }
+        }
+        if (feedback != null) {
+            resultDisplay.setFeedbackToUser(feedback);
+        }
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -181,41 +270,26 @@ public class MainWindow extends UiPart<Stage> {
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
         primaryStage.hide();
+        commandQueue.shutdown();
+        logger.info("UI refreshes: " + refreshScheduler);
     }
 
     /**
-     * Navigating between project and task
+     * Navigating between project and task.
+     * Shows the panel of the level the user is at, and the details of the selected task inside a project. Follows
+     * the mirrored model rather than the command text, so that aliases, prefixes, batches and scripts navigate too.
      */
-    private void refreshPanel(String commandText) {
-        if (commandText.contains(SelectCommand.COMMAND_WORD)
-                || commandText.contains(SelectCommand.COMMAND_ALIAS + " ")) {
-            if (LogicManager.getState()) { //to update task list panel
-                if (logic.getFilteredTaskList().size() > 0) {
-                    if (logic.selectedTaskProperty().getValue() == null) {
-                        logic.setSelectedTask(logic.getFilteredTaskList().get(0));
-                    }
-                    browserPlaceholder.getChildren().clear();
-                    browserPlaceholder.getChildren().add(browserPanel.getRoot());
-                    browserPanel.setTaskDetails(logic.selectedTaskProperty().getValue().browserDisplayToString());
-                }
-                taskListPanelPlaceholder.setDisable(false);
-                taskListPanelPlaceholder.getChildren().clear();
-                taskListPanel = new TaskListPanel(logic.getFilteredTaskList(), logic.selectedTaskProperty(),
-                        logic::setSelectedTask);
-                taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
-                projectListPanelPlaceholder.setDisable(true);
-            }
-        } else if (commandText.equals(ListProjectCommand.COMMAND_WORD)
-                || commandText.equals(ListProjectCommand.COMMAND_ALIAS)) {
-            taskListPanelPlaceholder.setDisable(true);
-            projectListPanelPlaceholder.setDisable(false);
-
-            browserPlaceholder.getChildren().clear();
+    private void refreshPanel() {
+        boolean isTaskLevel = modelMirror.isTaskLevel();
+        taskListPanelPlaceholder.setDisable(!isTaskLevel);
+        projectListPanelPlaceholder.setDisable(isTaskLevel);
+
+        browserPlaceholder.getChildren().clear();
+        Task selectedTask = modelMirror.selectedTaskProperty().getValue();
+        if (isTaskLevel && selectedTask != null) {
+            browserPlaceholder.getChildren().add(browserPanel.getRoot());
+            browserPanel.setTaskDetails(selectedTask.browserDisplayToString());
         }
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getProjectListFilePath(), logic.getProjectList(),
-                logic.getFilteredProjectList().size());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-
     }
 
     public TaskListPanel getTaskListPanel() {
@@ -224,6 +298,8 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Executes the command and returns the result.
+     * Called on the model-writer thread; the displayed model and result are updated at the next repaint of the
+     * window, so that a burst of commands only repaints the window once per pulse.
      *
      * @see seedu.project.logic.Logic#execute(String)
      */
@@ -231,23 +307,28 @@ public class MainWindow extends UiPart<Stage> {
             DataConversionException, IOException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            refreshPanel(commandText);
-
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+            // only the first page is logged, as the rest of a long result is only built if it is shown
+            if (logger.isLoggable(Level.INFO)) {
+                logger.log(Level.INFO, "Result: {0}", commandResult.getFeedbackSource().getPage(0));
             }
+            post(modelMirror.capture(logic), commandResult.getFeedbackSource());
+
+            if (commandResult.isShowHelp() || commandResult.isExit()) {
+                Platform.runLater(() -> {
+                    if (commandResult.isShowHelp()) {
+                        handleHelp();
+                    }
 
-            if (commandResult.isExit()) {
-                handleExit();
+                    if (commandResult.isExit()) {
+                        handleExit();
+                    }
+                });
             }
 
             return commandResult;
         } catch (CommandException | ParseException | DataConversionException | IOException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
+            logger.log(Level.INFO, "Invalid command: {0}", commandText);
+            post(null, ResultSource.of(e.getMessage()));
             throw e;
         }
     }
@@ -0,0 +1,280 @@
+package seedu.project.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.project.commons.util.ChangeFeed;
+import seedu.project.commons.util.ListChange;
+import seedu.project.logic.Logic;
+import seedu.project.logic.LogicManager;
+import seedu.project.model.project.Project;
+import seedu.project.model.task.Task;
+
+/**
+ * Copies of the parts of the model that are shown on screen, owned by the JavaFX application thread.
+ * The model itself is only modified on the model-writer thread, and no longer uses JavaFX collections. While it
+ * changes, the writer records the {@code ListChange}s of the displayed lists, and after each change captures them
+ * in a {@code Snapshot}, which is then replayed here on the observable lists that the list panels are bound to.
+ * A list is only copied as a whole when it is reset, or when the project whose tasks are displayed is switched.
+ */
+public class ModelMirror {
+
+    /** The number of changes to a list after which copying the list is expected to be cheaper than replaying them. */
+    private static final int MAX_RECORDED_CHANGES = 64;
+
+    private final ObservableList<Project> projects = FXCollections.observableArrayList();
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList();
+    private final ObservableList<Project> unmodifiableProjects = FXCollections.unmodifiableObservableList(projects);
+    private final ObservableList<Task> unmodifiableTasks = FXCollections.unmodifiableObservableList(tasks);
+    private final SimpleObjectProperty<Project> selectedProject = new SimpleObjectProperty<>();
+    private final SimpleObjectProperty<Task> selectedTask = new SimpleObjectProperty<>();
+    private boolean isTaskLevel;
+
+    // Only accessed by the thread that modifies the model.
+    private final ChangeRecorder<Project> projectRecorder = new ChangeRecorder<>();
+    private final ChangeRecorder<Task> taskRecorder = new ChangeRecorder<>();
+
+    /**
+     * Captures the changes to the displayed lists of {@code logic} since the last capture, and its selections.
+     * Must be called on the thread that modifies the model.
+     */
+    public Snapshot capture(Logic logic) {
+        return new Snapshot(projectRecorder.takeUpdate(logic.getFilteredProjectList()),
+                taskRecorder.takeUpdate(logic.getFilteredTaskList()), logic.selectedProjectProperty().getValue(),
+                logic.selectedTaskProperty().getValue(), LogicManager.getState());
+    }
+
+    /**
+     * Captures only the selections of {@code logic}, for changes that cannot have modified the displayed lists.
+     * Must be called on the thread that modifies the model.
+     */
+    public static Snapshot captureSelection(Logic logic) {
+        return new Snapshot(null, null, logic.selectedProjectProperty().getValue(),
+                logic.selectedTaskProperty().getValue(), LogicManager.getState());
+    }
+
+    /**
+     * Returns a snapshot that, when applied, has the same effect as applying {@code earlier} and then
+     * {@code later}. {@code earlier} may be null.
+     */
+    public static Snapshot merge(Snapshot earlier, Snapshot later) {
+        if (earlier == null) {
+            return later;
+        }
+        return new Snapshot(ListUpdate.merge(earlier.projects, later.projects),
+                ListUpdate.merge(earlier.tasks, later.tasks), later.selectedProject, later.selectedTask,
+                later.isTaskLevel);
+    }
+
+    /**
+     * Updates the mirrored lists and selections to {@code snapshot}.
+     * Only the elements that actually changed are replaced, so that list views only redraw the affected cells.
+     */
+    public void apply(Snapshot snapshot) {
+        if (snapshot.projects != null) {
+            snapshot.projects.applyTo(projects);
+        }
+        if (snapshot.tasks != null) {
+            snapshot.tasks.applyTo(tasks);
+        }
+        selectedProject.set(snapshot.selectedProject);
+        selectedTask.set(snapshot.selectedTask);
+        isTaskLevel = snapshot.isTaskLevel;
+    }
+
+    /**
+     * Makes {@code current} hold the same elements as {@code updated}, by replacing only the range between their
+     * longest common prefix and suffix.
+     * Model elements are replaced rather than changed in place, so an identity check is enough.
+     */
+    private static <T> void updateChangedRange(ObservableList<T> current, List<T> updated) {
+        int prefixLength = 0;
+        int maxPrefixLength = Math.min(current.size(), updated.size());
+        while (prefixLength < maxPrefixLength && current.get(prefixLength) == updated.get(prefixLength)) {
+            prefixLength++;
+        }
+
+        int suffixLength = 0;
+        int maxSuffixLength = maxPrefixLength - prefixLength;
+        while (suffixLength < maxSuffixLength && current.get(current.size() - 1 - suffixLength)
+                == updated.get(updated.size() - 1 - suffixLength)) {
+            suffixLength++;
+        }
+
+        int currentEnd = current.size() - suffixLength;
+        int updatedEnd = updated.size() - suffixLength;
+        if (currentEnd - prefixLength == updatedEnd - prefixLength) {
+            for (int i = prefixLength; i < currentEnd; i++) {
+                current.set(i, updated.get(i));
+            }
+            return;
+        }
+        current.remove(prefixLength, currentEnd);
+        current.addAll(prefixLength, updated.subList(prefixLength, updatedEnd));
+    }
+
+    public ObservableList<Project> getProjectList() {
+        return unmodifiableProjects;
+    }
+
+    public ObservableList<Task> getTaskList() {
+        return unmodifiableTasks;
+    }
+
+    public ReadOnlyProperty<Project> selectedProjectProperty() {
+        return selectedProject;
+    }
+
+    public ReadOnlyProperty<Task> selectedTaskProperty() {
+        return selectedTask;
+    }
+
+    /**
+     * Returns true if the user was inside a project when the last snapshot was taken.
+     */
+    public boolean isTaskLevel() {
+        return isTaskLevel;
+    }
+
+    /**
+     * An immutable capture of the displayed parts of the model.
+     */
+    public static class Snapshot {
+        private final ListUpdate<Project> projects;
+        private final ListUpdate<Task> tasks;
+        private final Project selectedProject;
+        private final Task selectedTask;
+        private final boolean isTaskLevel;
+
+        private Snapshot(ListUpdate<Project> projects, ListUpdate<Task> tasks, Project selectedProject,
+                Task selectedTask, boolean isTaskLevel) {
+            this.projects = projects;
+            this.tasks = tasks;
+            this.selectedProject = selectedProject;
+            this.selectedTask = selectedTask;
+            this.isTaskLevel = isTaskLevel;
+        }
+    }
+
+    /**
+     * The changes to one of the displayed lists: optionally the whole contents of the list after it was reset,
+     * followed by the changes made to it since.
+     * Guarantees: immutable.
+     */
+    private static class ListUpdate<T> {
+        private final List<T> resetContents;
+        private final List<ListChange<T>> changes;
+
+        ListUpdate(List<T> resetContents, List<ListChange<T>> changes) {
+            this.resetContents = resetContents;
+            this.changes = changes;
+        }
+
+        /**
+         * Returns an update with the same effect as {@code earlier} followed by {@code later}, either of which may
+         * be null if the list did not change.
+         */
+        static <T> ListUpdate<T> merge(ListUpdate<T> earlier, ListUpdate<T> later) {
+            if (earlier == null || later == null) {
+                return earlier == null ? later : earlier;
+            }
+            if (later.resetContents != null) {
+                return later;
+            }
+            List<ListChange<T>> changes = new ArrayList<>(earlier.changes);
+            changes.addAll(later.changes);
+            return new ListUpdate<>(earlier.resetContents, changes);
+        }
+
+        /**
+         * Applies this update to {@code list}, which must hold what the model's list held before it.
+         */
+        void applyTo(ObservableList<T> list) {
+            if (resetContents != null) {
+                updateChangedRange(list, resetContents);
+            }
+            for (ListChange<T> change : changes) {
+                switch (change.getType()) {
+                case ADDED:
+                    list.add(change.getIndex(), change.getAdded());
+                    break;
+                case REMOVED:
+                    list.remove(change.getIndex());
+                    break;
+                case REPLACED:
+                    list.set(change.getIndex(), change.getAdded());
+                    break;
+                default:
+                    throw new AssertionError("Resets are recorded as the contents of the list.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the changes to one of the displayed lists of the model, on the thread that modifies the model.
+     * Lists that report their changes through a {@code ChangeFeed}, as the filtered views of the model do, are
+     * followed change by change. Other lists, lists that were reset, and lists with more changes than are worth
+     * replaying are copied as a whole.
+     */
+    private static class ChangeRecorder<T> {
+        private final ChangeFeed.Listener<T> listener = this::record;
+        private List<T> source;
+        private List<ListChange<T>> changes = new ArrayList<>();
+        private boolean isReset = true;
+
+        /**
+         * Returns the changes to {@code list} since the last call, or null if there are none.
+         * {@code list} is the list now displayed, which is followed from now on if it is not the one followed so
+         * far, e.g. because another project was opened.
+         */
+        @SuppressWarnings("unchecked") // a list of T that is a change feed reports changes of T
+        ListUpdate<T> takeUpdate(List<T> list) {
+            if (list != source) {
+                if (source instanceof ChangeFeed) {
+                    ChangeFeed<T> feed = (ChangeFeed<T>) source;
+                    feed.removeListener(listener);
+                }
+                if (list instanceof ChangeFeed) {
+                    ChangeFeed<T> feed = (ChangeFeed<T>) list;
+                    feed.addListener(listener);
+                }
+                source = list;
+                isReset = true;
+            }
+
+            ListUpdate<T> update;
+            if (isReset || !(list instanceof ChangeFeed)) {
+                update = new ListUpdate<>(new ArrayList<>(list), Collections.emptyList());
+            } else if (changes.isEmpty()) {
+                update = null;
+            } else {
+                update = new ListUpdate<>(null, changes);
+                changes = new ArrayList<>();
+            }
+            isReset = false;
+            changes.clear();
+            return update;
+        }
+
+        /**
+         * Records {@code change}, or marks the list as reset if the changes are no longer worth replaying.
+         */
+        private void record(ListChange<T> change) {
+            if (isReset) {
+                return;
+            }
+            if (change.getType() == ListChange.Type.RESET || changes.size() >= MAX_RECORDED_CHANGES) {
+                isReset = true;
+                changes.clear();
+                return;
+            }
+            changes.add(change);
+        }
+    }
+}
@@ -7,10 +7,17 @@ import javafx.scene.layout.Region;
 import seedu.project.model.project.Project;
 
 /**
- * An UI component that displays information of a {@code Task}.
+ * An UI component that displays information of a {@code Project}.
+ * A card can be reused for another project, which only updates its labels.
  */
 public class ProjectCard extends UiPart<Region> {
 
+    /**
+     * The fixed height of a card, as set in its FXML file, which lets list views size their cells without measuring.
+     * Names that are too long are ellipsised.
+     */
+    public static final double CARD_HEIGHT = 105;
+
     private static final String FXML = "ProjectListCard.fxml";
 
     /**
@@ -22,7 +29,7 @@ public class ProjectCard extends UiPart<Region> {
      *      issue on Project level 4</a>
      */
 
-    public final Project project;
+    private Project project;
 
     @FXML
     private HBox projectCardPane;
@@ -31,8 +38,26 @@ public class ProjectCard extends UiPart<Region> {
     @FXML
     private Label id;
 
-    public ProjectCard(Project project, int displayedIndex) {
+    /**
+     * Creates a card that does not show any project yet.
+     */
+    public ProjectCard() {
         super(FXML);
+    }
+
+    public ProjectCard(Project project, int displayedIndex) {
+        this();
+        setProject(project, displayedIndex);
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    /**
+     * Shows {@code project} as the {@code displayedIndex}-th project.
+     */
+    public void setProject(Project project, int displayedIndex) {
         this.project = project;
         id.setText(displayedIndex + ". ");
         name.setText(project.getName().fullName);
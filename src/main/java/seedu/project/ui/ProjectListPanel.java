@@ -2,6 +2,7 @@ package seedu.project.ui;
 
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ObservableValue;
@@ -28,12 +29,14 @@ public class ProjectListPanel extends UiPart<Region> {
         super(FXML);
         projectListView.setItems(projectList);
         projectListView.setCellFactory(listView -> new ProjectListViewCell());
+        // every card has the same height, so the list view need not lay out cells to find out how many fit
+        projectListView.setFixedCellSize(ProjectCard.CARD_HEIGHT);
         projectListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selection in project list panel changed to : '" + newValue + "'");
+            logger.log(Level.FINE, "Selection in project list panel changed to : ''{0}''", newValue);
             onSelectedProjectChange.accept(newValue);
         });
         selectedProject.addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selected project changed to: " + newValue);
+            logger.log(Level.FINE, "Selected project changed to: {0}", newValue);
 
             // Don't modify selection if we are already selecting the selected project,
             // otherwise we would have an infinite loop.
@@ -54,8 +57,11 @@ public class ProjectListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Project} using a {@code ProjectCard}.
+     * The card is loaded once, when the cell first shows a project, and reused for every project shown afterwards.
      */
     class ProjectListViewCell extends ListCell<Project> {
+        private ProjectCard card;
+
         @Override
         protected void updateItem(Project project, boolean empty) {
             super.updateItem(project, empty);
@@ -64,7 +70,11 @@ public class ProjectListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ProjectCard(project, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ProjectCard();
+                }
+                card.setProject(project, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
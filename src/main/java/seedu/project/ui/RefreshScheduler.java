@@ -0,0 +1,221 @@
+package seedu.project.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Repaints views at most once per pulse, however often the model changes in between.
+ * Views are marked dirty, from any thread, when something they show has changed, and are repainted on the JavaFX
+ * application thread at the next pulse. Marking a view that is already dirty costs nothing more, so a burst of model
+ * changes, such as a bulk edit or an undo, only repaints each view once.
+ */
+public class RefreshScheduler {
+
+    private final Executor uiThread;
+    private final Pulses pulses;
+    private final Queue<View> dirtyViews = new ConcurrentLinkedQueue<>();
+    // true from the time a pulse is requested until the pulse that empties dirtyViews
+    private final AtomicBoolean isScheduled = new AtomicBoolean();
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder pulseCount = new LongAdder();
+
+    /**
+     * Creates a {@code RefreshScheduler} that starts and stops {@code pulses} on {@code uiThread}.
+     */
+    public RefreshScheduler(Executor uiThread, Pulses pulses) {
+        requireNonNull(uiThread);
+        requireNonNull(pulses);
+        this.uiThread = uiThread;
+        this.pulses = pulses;
+    }
+
+    /**
+     * Creates a {@code RefreshScheduler} that repaints on the pulses of the JavaFX application thread, using an
+     * {@code AnimationTimer} that only runs while there are dirty views.
+     */
+    public static RefreshScheduler createPulseScheduler() {
+        return new RefreshScheduler(Platform::runLater, new AnimationTimerPulses());
+    }
+
+    /**
+     * Creates a {@code RefreshScheduler} that repaints views as soon as they are marked dirty, on the JavaFX
+     * application thread. Marking views dirty on that thread thus repaints them immediately.
+     */
+    public static RefreshScheduler createDirectScheduler() {
+        Executor uiThread = runnable -> {
+            if (Platform.isFxApplicationThread()) {
+                runnable.run();
+            } else {
+                Platform.runLater(runnable);
+            }
+        };
+        return new RefreshScheduler(uiThread, new Pulses() {
+            @Override
+            public void start(Runnable onPulse) {
+                onPulse.run();
+            }
+
+            @Override
+            public void stop() {
+            }
+        });
+    }
+
+    /**
+     * Registers a view that is repainted by {@code repaint} whenever it has been marked dirty.
+     * {@code repaint} is run on the JavaFX application thread.
+     */
+    public View register(Runnable repaint) {
+        requireNonNull(repaint);
+        return new View(repaint);
+    }
+
+    /**
+     * Returns the number of times a view was marked dirty.
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Returns the number of times a view was marked dirty while it was already dirty, which did not cause a repaint.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * Returns the number of times a view was repainted.
+     */
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    /**
+     * Returns the number of pulses and flushes on which views were repainted.
+     */
+    public long getPulseCount() {
+        return pulseCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d refresh requests, %d coalesced, %d refreshes in %d pulses", getRequestCount(),
+                getCoalescedCount(), getRefreshCount(), getPulseCount());
+    }
+
+    /**
+     * Repaints the dirty views now, rather than at the next pulse. Must be called on the JavaFX application thread.
+     */
+    public void flush() {
+        if (!dirtyViews.isEmpty()) {
+            pulse();
+        }
+    }
+
+    /**
+     * Repaints the views that were dirty when the pulse started. Views marked dirty while they are repainted are
+     * left for the next pulse. Pulses stop once no views are dirty.
+     */
+    void pulse() {
+        pulseCount.increment();
+        for (int pending = dirtyViews.size(); pending > 0; pending--) {
+            View view = dirtyViews.poll();
+            // cleared before repainting, so that changes made during the repaint are not missed
+            view.isDirty.set(false);
+            view.repaint.run();
+            refreshCount.increment();
+        }
+
+        pulses.stop();
+        isScheduled.set(false);
+        // a view may have been marked dirty after the last one was taken, but before isScheduled was cleared
+        if (!dirtyViews.isEmpty()) {
+            schedule();
+        }
+    }
+
+    /**
+     * Starts the pulses, unless they have already been started.
+     */
+    private void schedule() {
+        if (isScheduled.compareAndSet(false, true)) {
+            uiThread.execute(() -> pulses.start(this::pulse));
+        }
+    }
+
+    /**
+     * A view that can be marked dirty, to be repainted at the next pulse.
+     */
+    public class View {
+        private final Runnable repaint;
+        private final AtomicBoolean isDirty = new AtomicBoolean();
+
+        private View(Runnable repaint) {
+            this.repaint = repaint;
+        }
+
+        /**
+         * Marks this view to be repainted at the next pulse. May be called from any thread.
+         */
+        public void markDirty() {
+            requestCount.increment();
+            if (!isDirty.compareAndSet(false, true)) {
+                coalescedCount.increment();
+                return;
+            }
+            dirtyViews.add(this);
+            schedule();
+        }
+    }
+
+    /**
+     * A source of pulses, which is started and stopped on the JavaFX application thread.
+     */
+    public interface Pulses {
+        /**
+         * Runs {@code onPulse} on every pulse from now on, until {@link #stop()} is called.
+         */
+        void start(Runnable onPulse);
+
+        void stop();
+    }
+
+    /**
+     * The pulses of the JavaFX application thread, on which the scene graph is laid out and rendered.
+     */
+    private static class AnimationTimerPulses implements Pulses {
+        private AnimationTimer timer;
+
+        @Override
+        public void start(Runnable onPulse) {
+            if (timer == null) {
+                timer = new AnimationTimer() {
+                    @Override
+                    public void handle(long now) {
+                        onPulse.run();
+                    }
+                };
+            }
+            timer.start();
+        }
+
+        @Override
+        public void stop() {
+            if (timer != null) {
+                timer.stop();
+            }
+        }
+    }
+}
@@ -3,26 +3,82 @@ package seedu.project.ui;
 import static java.util.Objects.requireNonNull;
 
 import javafx.fxml.FXML;
+import javafx.scene.control.IndexRange;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
+import seedu.project.logic.commands.ResultSource;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
+ * Long results are shown a page at a time: only the first page is built at first, and each further page is built
+ * and appended when the user scrolls near the end of what is shown.
  */
 public class ResultDisplay extends UiPart<Region> {
 
     private static final String FXML = "ResultDisplay.fxml";
 
+    /** How far down, as a fraction of the scroll range, the user must scroll for the next page to be shown. */
+    private static final double NEXT_PAGE_THRESHOLD = 0.9;
+
     @FXML
     private TextArea resultDisplay;
 
+    private ResultSource feedbackSource = ResultSource.of("");
+    private int shownPageCount = 1;
+    private boolean isAppending;
+
     public ResultDisplay() {
         super(FXML);
+        // the scroll pane is only created with the skin of the text area
+        resultDisplay.skinProperty().addListener((observable, oldSkin, newSkin) -> {
+            ScrollPane scrollPane = (ScrollPane) resultDisplay.lookup(".scroll-pane");
+            if (scrollPane != null) {
+                scrollPane.vvalueProperty().addListener((unused1, unused2, vvalue) -> {
+                    if (vvalue.doubleValue() >= scrollPane.getVmax() * NEXT_PAGE_THRESHOLD) {
+                        showNextPage();
+                    }
+                });
+            }
+        });
     }
 
     public void setFeedbackToUser(String feedbackToUser) {
         requireNonNull(feedbackToUser);
-        resultDisplay.setText(feedbackToUser);
+        setFeedbackToUser(ResultSource.of(feedbackToUser));
+    }
+
+    /**
+     * Shows the first page of {@code feedbackSource}; further pages are shown as the user scrolls down.
+     */
+    public void setFeedbackToUser(ResultSource feedbackSource) {
+        requireNonNull(feedbackSource);
+        this.feedbackSource = feedbackSource;
+        shownPageCount = 1;
+        resultDisplay.setText(feedbackSource.getPage(0));
+    }
+
+    /**
+     * Appends the next page of the feedback, if there is one, keeping the scroll position and selection.
+     */
+    private void showNextPage() {
+        if (isAppending || shownPageCount >= feedbackSource.getPageCount()) {
+            return;
+        }
+
+        double scrollTop = resultDisplay.getScrollTop();
+        IndexRange selection = resultDisplay.getSelection();
+        int anchor = resultDisplay.getAnchor();
+        isAppending = true;
+        resultDisplay.appendText(feedbackSource.getPage(shownPageCount++));
+        // appending moves the caret to the end, which would scroll straight to the end and show the next page
+        if (anchor == selection.getStart()) {
+            resultDisplay.selectRange(selection.getStart(), selection.getEnd());
+        } else {
+            resultDisplay.selectRange(selection.getEnd(), selection.getStart());
+        }
+        resultDisplay.setScrollTop(scrollTop);
+        isAppending = false;
     }
 
 }
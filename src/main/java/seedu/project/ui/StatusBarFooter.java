@@ -5,10 +5,10 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
 
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.project.model.ModelChange;
 import seedu.project.model.ReadOnlyProjectList;
 
 /**
@@ -31,6 +31,7 @@ public class StatusBarFooter extends UiPart<Region> {
     private static Clock clock = Clock.systemDefaultZone();
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final long NOT_UPDATED = -1;
 
     @FXML
     private Label syncStatus;
@@ -39,18 +40,25 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label totalProjectsStatus;
 
-    // private Logic logic;
+    private final RefreshScheduler.View view;
+
+    // written on the thread that changes the project list, and shown at the next repaint
+    private volatile long lastUpdatedMillis = NOT_UPDATED;
+    private volatile int totalProjects;
 
     public StatusBarFooter(Path saveLocation, ReadOnlyProjectList projectList, int totalProjects) {
+        this(saveLocation, projectList, totalProjects, RefreshScheduler.createDirectScheduler());
+    }
+
+    public StatusBarFooter(Path saveLocation, ReadOnlyProjectList projectList, int totalProjects,
+            RefreshScheduler refreshScheduler) {
         super(FXML);
-        projectList.addListener(observable -> updateSyncStatus(projectList.getProjectList().size()));
+        view = refreshScheduler.register(this::repaint);
+        projectList.addListener(change -> handleChange(change, projectList));
         syncStatus.setText(SYNC_STATUS_INITIAL);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
-        setTotalProjects(totalProjects);
-    }
-
-    private void setTotalProjects(int totalProjects) {
-        Platform.runLater(() -> totalProjectsStatus.setText(String.format(TOTAL_PROJECTS_STATUS, totalProjects)));
+        this.totalProjects = totalProjects;
+        totalProjectsStatus.setText(String.format(TOTAL_PROJECTS_STATUS, totalProjects));
     }
 
     /**
@@ -68,13 +76,46 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     /**
-     * Updates "last updated" status to the current time.
+     * Records {@code change} of {@code projectList}, and marks the status bar to be repainted.
+     * The project count is only recounted when the change can have affected it.
+     */
+    private void handleChange(ModelChange change, ReadOnlyProjectList projectList) {
+        lastUpdatedMillis = clock.millis();
+        switch (change.getType()) {
+        case PROJECT_ADDED:
+        case PROJECT_REMOVED:
+        case PROJECTS_RESET:
+            totalProjects = projectList.getProjectList().size();
+            break;
+        default:
+            break;
+        }
+        // the project list is modified on the model-writer thread, but labels may only be changed on the
+        // JavaFX application thread
+        view.markDirty();
+    }
+
+    /**
+     * Records a change of the opened project, which is saved together with the project list, and marks the status
+     * bar to be repainted.
+     */
+    void handleOpenedProjectChange(ModelChange change) {
+        lastUpdatedMillis = clock.millis();
+        view.markDirty();
+    }
+
+    /**
+     * Shows the time of the last change and the number of projects recorded since the last repaint.
      */
-    private void updateSyncStatus(int projectListSize) {
-        long now = clock.millis();
-        String lastUpdated = new Date(now).toString();
-        syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
-        setTotalProjects(projectListSize);
+    private void repaint() {
+        long updatedMillis = lastUpdatedMillis;
+        if (updatedMillis != NOT_UPDATED) {
+            syncStatus.setText(String.format(SYNC_STATUS_UPDATED, new Date(updatedMillis).toString()));
+        }
+        String totalProjectsText = String.format(TOTAL_PROJECTS_STATUS, totalProjects);
+        if (!totalProjectsText.equals(totalProjectsStatus.getText())) {
+            totalProjectsStatus.setText(totalProjectsText);
+        }
     }
 
 }
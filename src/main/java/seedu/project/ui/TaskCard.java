@@ -1,20 +1,37 @@
 package seedu.project.ui;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+import seedu.project.model.tag.Tag;
 import seedu.project.model.task.Task;
 
 /**
  * An UI component that displays information of a {@code Task}.
+ * A card can be reused for another task, which only updates its labels, so that list cells do not need to load a
+ * new card for every task they show.
  */
 public class TaskCard extends UiPart<Region> {
 
+    /**
+     * The fixed height of a card, as set in its FXML file, which lets list views size their cells without measuring.
+     * Labels that are too long are ellipsised, and tags that wrap beyond the card are clipped.
+     */
+    public static final double CARD_HEIGHT = 105;
+
     private static final String FXML = "TaskListCard.fxml";
     private static final String[] TAG_COLORS = { "teal", "red", "yellow", "blue",
         "orange", "brown", "green", "pink", "black", "grey" };
+    private static final List<String> TAG_COLOR_LIST = Arrays.asList(TAG_COLORS);
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved
@@ -25,7 +42,7 @@ public class TaskCard extends UiPart<Region> {
      *      issue on Project level 4</a>
      */
 
-    public final Task task;
+    private Task task;
 
     @FXML
     private HBox taskCardPane;
@@ -40,26 +57,64 @@ public class TaskCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public TaskCard(Task task, int displayedIndex) {
+    /**
+     * Creates a card that does not show any task yet.
+     */
+    public TaskCard() {
         super(FXML);
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(taskCardPane.widthProperty());
+        clip.heightProperty().bind(taskCardPane.heightProperty());
+        taskCardPane.setClip(clip);
+    }
+
+    public TaskCard(Task task, int displayedIndex) {
+        this();
+        setTask(task, displayedIndex);
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    /**
+     * Shows {@code task} as the {@code displayedIndex}-th task, reusing the labels of the task shown before.
+     */
+    public void setTask(Task task, int displayedIndex) {
         this.task = task;
         id.setText(displayedIndex + ". ");
         name.setText(task.getName().fullName);
         description.setText(task.getDescription().value);
         deadline.setText(task.getDeadline().value);
-        setTagColor(task);
+        setTagLabels(task.getTags());
     }
 
-    // Create tag labels for task
-    public void setTagColor(Task task) {
-        task.getTags().forEach(tag -> {
+    /**
+     * Shows a label for each of {@code taskTags}, reusing the existing tag labels and only creating or removing
+     * labels when the number of tags differs.
+     */
+    private void setTagLabels(Set<Tag> taskTags) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > taskTags.size()) {
+            tagLabels.remove(taskTags.size(), tagLabels.size());
+        }
+
+        int i = 0;
+        for (Tag tag : taskTags) {
+            Label tagLabel;
+            if (i < tagLabels.size()) {
+                tagLabel = (Label) tagLabels.get(i);
+                tagLabel.setText(tag.tagName);
+                tagLabel.getStyleClass().removeAll(TAG_COLOR_LIST);
+            } else {
+                tagLabel = new Label(tag.tagName);
+                tagLabels.add(tagLabel);
+            }
             // Todo: Allow defining of tag colors through CLI instead of randomization
             // Throw out color name from TAG_COLOR array based on randomized value
-            String tagColor = TAG_COLORS[Math.abs(tag.tagName.hashCode()) % TAG_COLORS.length];
-            Label tagLabel = new Label(tag.tagName);
-            tagLabel.getStyleClass().add(tagColor);
-            tags.getChildren().add(tagLabel);
-        });
+            tagLabel.getStyleClass().add(TAG_COLORS[Math.abs(tag.tagName.hashCode()) % TAG_COLORS.length]);
+            i++;
+        }
     }
 
     @Override
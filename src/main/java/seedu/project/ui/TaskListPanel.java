@@ -2,6 +2,7 @@ package seedu.project.ui;
 
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ObservableValue;
@@ -28,13 +29,15 @@ public class TaskListPanel extends UiPart<Region> {
         super(FXML);
         taskListView.setItems(taskList);
         taskListView.setCellFactory(listView -> new TaskListViewCell());
+        // every card has the same height, so the list view need not lay out cells to find out how many fit
+        taskListView.setFixedCellSize(TaskCard.CARD_HEIGHT);
         taskListView.getSelectionModel().select(selectedTask.getValue());
         taskListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selection in task list panel changed to : '" + newValue + "'");
+            logger.log(Level.FINE, "Selection in task list panel changed to : ''{0}''", newValue);
             onSelectedTaskChange.accept(newValue);
         });
         selectedTask.addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selected task changed to: " + newValue);
+            logger.log(Level.FINE, "Selected task changed to: {0}", newValue);
 
             // Don't modify selection if we are already selecting the selected task,
             // otherwise we would have an infinite loop.
@@ -54,8 +57,11 @@ public class TaskListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code TaskCard}.
+     * The card is loaded once, when the cell first shows a task, and reused for every task shown afterwards.
      */
     class TaskListViewCell extends ListCell<Task> {
+        private TaskCard card;
+
         @Override
         protected void updateItem(Task task, boolean empty) {
             super.updateItem(task, empty);
@@ -64,7 +70,11 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new TaskCard();
+                }
+                card.setTask(task, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,81 @@
+package seedu.project;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.project.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.project.testutil.TypicalTasks.getTypicalProjectList;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.project.logic.LogicManager;
+import seedu.project.logic.commands.ExitCommand;
+import seedu.project.logic.commands.ListCommand;
+import seedu.project.model.Model;
+import seedu.project.model.ModelManager;
+import seedu.project.model.UserPrefs;
+import seedu.project.model.project.Project;
+import seedu.project.storage.JsonProjectListStorage;
+import seedu.project.storage.JsonUserPrefsStorage;
+import seedu.project.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private HeadlessApp app;
+
+    @Before
+    public void setUp() throws Exception {
+        JsonProjectListStorage projectListStorage = new JsonProjectListStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        StorageManager storage = new StorageManager(projectListStorage, userPrefsStorage);
+        Model model = new ModelManager(getTypicalProjectList(), new Project(), new UserPrefs());
+        app = new HeadlessApp(new LogicManager(model, storage), model, storage);
+    }
+
+    @Test
+    public void run_validCommands_printsFeedback() throws Exception {
+        int failedCount = run("# a comment", "", ListCommand.COMMAND_WORD);
+        assertEquals(0, failedCount);
+        assertEquals(ListCommand.MESSAGE_SUCCESS_PROJECT + LINE_SEPARATOR, getOutput());
+    }
+
+    @Test
+    public void run_invalidCommand_printsErrorAndContinues() throws Exception {
+        int failedCount = run("unknowncommand", ListCommand.COMMAND_WORD);
+        assertEquals(1, failedCount);
+        assertEquals(String.format(HeadlessApp.MESSAGE_ERROR, MESSAGE_UNKNOWN_COMMAND) + LINE_SEPARATOR
+                + ListCommand.MESSAGE_SUCCESS_PROJECT + LINE_SEPARATOR, getOutput());
+    }
+
+    @Test
+    public void run_exitCommand_ignoresRemainingCommands() throws Exception {
+        int failedCount = run(ExitCommand.COMMAND_WORD, "unknowncommand");
+        assertEquals(0, failedCount);
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + LINE_SEPARATOR, getOutput());
+    }
+
+    /**
+     * Runs {@code app} on {@code lines} and returns the number of failed commands.
+     */
+    private int run(String... lines) throws Exception {
+        BufferedReader in = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return app.run(in, new PrintStream(output, true, StandardCharsets.UTF_8.name()));
+    }
+
+    private String getOutput() throws Exception {
+        return output.toString(StandardCharsets.UTF_8.name());
+    }
+}
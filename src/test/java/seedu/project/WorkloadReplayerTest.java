@@ -0,0 +1,105 @@
+package seedu.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.project.testutil.TypicalTasks.getTypicalProjectList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.project.WorkloadReplayer.ReplayResult;
+import seedu.project.commons.metrics.SlowCommandLog;
+import seedu.project.commons.util.JsonUtil;
+import seedu.project.logic.LogicManager;
+import seedu.project.logic.WorkloadEntry;
+import seedu.project.logic.WorkloadRecorder;
+import seedu.project.model.Model;
+import seedu.project.model.ModelManager;
+import seedu.project.model.UserPrefs;
+import seedu.project.model.project.Project;
+import seedu.project.storage.JsonProjectListStorage;
+import seedu.project.storage.JsonUserPrefsStorage;
+import seedu.project.storage.StorageManager;
+
+public class WorkloadReplayerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path workloadFile;
+
+    @Before
+    public void setUp() {
+        workloadFile = temporaryFolder.getRoot().toPath().resolve("workload.jsonl");
+    }
+
+    @Test
+    public void replay_recordedSession_sameCommandsReplayed() throws Exception {
+        Model model = new ModelManager(getTypicalProjectList(), new Project(), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonProjectListStorage(temporaryFolder.newFile().toPath()),
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()));
+        WorkloadRecorder recorder = new WorkloadRecorder(workloadFile);
+        recorder.start(model.getProjectList());
+        LogicManager logic = new LogicManager(model, storage, new SlowCommandLog(SlowCommandLog.LOG_FILE, -1),
+                recorder);
+        for (String commandText : Arrays.asList("list", "add n/Replayed project", "unknowncommand", "delete 1")) {
+            try {
+                logic.execute(commandText);
+            } catch (Exception e) {
+                // failed commands are recorded, and replayed, too
+            }
+        }
+        recorder.close();
+
+        WorkloadReplayer replayer = new WorkloadReplayer(workloadFile);
+        assertEquals(4, replayer.getEntries().size());
+        String startingData = new String(Files.readAllBytes(WorkloadRecorder.getStartingDataFile(workloadFile)));
+
+        ReplayResult result = replayer.replay(false);
+        assertEquals(4, result.getCommandCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(0, result.getDivergedCount());
+        assertEquals(4, result.getLatencies().getCount());
+        assertTrue(result.getThroughput() > 0);
+        assertEquals(4, result.report(false).size());
+
+        // replayed on a copy, so the workload can be replayed again with the same result
+        assertEquals(startingData, new String(Files.readAllBytes(WorkloadRecorder.getStartingDataFile(workloadFile))));
+        result = replayer.replay(false);
+        assertEquals(1, result.getFailedCount());
+        assertEquals(0, result.getDivergedCount());
+    }
+
+    @Test
+    public void replay_recordedPace_waitsForEachCommand() throws Exception {
+        new JsonProjectListStorage(WorkloadRecorder.getStartingDataFile(workloadFile))
+                .saveProjectList(getTypicalProjectList());
+        Files.write(workloadFile, Arrays.asList(
+                JsonUtil.toJsonLine(new WorkloadEntry("list", 0, 1)),
+                JsonUtil.toJsonLine(new WorkloadEntry("list", 100, 2))));
+
+        ReplayResult result = new WorkloadReplayer(workloadFile).replay(true);
+        assertEquals(2, result.getCommandCount());
+        assertEquals(0, result.getFailedCount());
+        assertTrue(result.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void replay_modelVersionsDiffer_divergenceCounted() throws Exception {
+        new JsonProjectListStorage(WorkloadRecorder.getStartingDataFile(workloadFile))
+                .saveProjectList(getTypicalProjectList());
+        // the second command was recorded after something else changed the model
+        Files.write(workloadFile, Arrays.asList(
+                JsonUtil.toJsonLine(new WorkloadEntry("list", 0, 1)),
+                JsonUtil.toJsonLine(new WorkloadEntry("list", 0, 5))));
+
+        assertEquals(1, new WorkloadReplayer(workloadFile).replay(false).getDivergedCount());
+    }
+}
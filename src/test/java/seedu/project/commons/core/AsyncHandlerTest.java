@@ -0,0 +1,139 @@
+package seedu.project.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncHandlerTest {
+
+    private final CollectingHandler target = new CollectingHandler();
+    private AsyncHandler handler;
+
+    @After
+    public void tearDown() {
+        handler.close();
+    }
+
+    @Test
+    public void publish_recordsPublishedInOrder() {
+        handler = new AsyncHandler(128, target);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.messages.size());
+        assertEquals("message 0", target.messages.get(0));
+        assertEquals("message 99", target.messages.get(99));
+        assertTrue(target.isFlushed);
+    }
+
+    @Test
+    public void publish_bufferFull_debugRecordsDroppedFirst() throws Exception {
+        CountDownLatch isBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        target.onFirstPublish = () -> {
+            isBlocked.countDown();
+            awaitUninterruptibly(release);
+        };
+        handler = new AsyncHandler(4, target);
+        handler.publish(new LogRecord(Level.INFO, "blocking"));
+        isBlocked.await();
+
+        // the record being published still takes up a slot; the last quarter of the buffer is kept for INFO and above
+        for (int i = 0; i < 3; i++) {
+            handler.publish(new LogRecord(Level.FINE, "fine " + i));
+        }
+        handler.publish(new LogRecord(Level.INFO, "info 0"));
+        handler.publish(new LogRecord(Level.SEVERE, "severe 0"));
+        assertEquals(2, handler.getDroppedCount());
+
+        release.countDown();
+        handler.close();
+        assertEquals(Arrays.asList("blocking", "fine 0", "fine 1", "info 0"), target.messages.subList(0, 4));
+        assertTrue(target.messages.get(4).startsWith("2 log records were dropped"));
+    }
+
+    @Test
+    public void publish_withParameters_formattedWhenQueued() throws Exception {
+        CountDownLatch isBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        target.onFirstPublish = () -> {
+            isBlocked.countDown();
+            awaitUninterruptibly(release);
+        };
+        handler = new AsyncHandler(4, target);
+        handler.publish(new LogRecord(Level.INFO, "blocking"));
+        isBlocked.await();
+
+        StringBuilder name = new StringBuilder("before");
+        LogRecord record = new LogRecord(Level.INFO, "Opened {0}");
+        record.setParameters(new Object[] {name});
+        handler.publish(record);
+        // changed before the background thread gets to the record
+        name.replace(0, name.length(), "after");
+
+        release.countDown();
+        handler.flush();
+        assertEquals(Arrays.asList("blocking", "Opened before"), target.messages);
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        handler = new AsyncHandler(4, target);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.flush();
+        assertEquals(0, target.messages.size());
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    /**
+     * Waits for {@code latch}, keeping the interrupt status of the thread if it is interrupted.
+     */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A handler that keeps the messages it is given.
+     */
+    private static class CollectingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private volatile boolean isFlushed;
+        private Runnable onFirstPublish;
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            if (onFirstPublish != null) {
+                Runnable action = onFirstPublish;
+                onFirstPublish = null;
+                action.run();
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -15,7 +15,9 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Slow command threshold (ms) : -1\n"
+                + "Workload file : null";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,28 @@
+package seedu.project.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class LogsCenterTest {
+
+    @After
+    public void tearDown() {
+        LogsCenter.init(new Config());
+    }
+
+    @Test
+    public void init_loggerObtainedBefore_levelChanged() {
+        Logger logger = LogsCenter.getLogger(LogsCenterTest.class);
+        Config config = new Config();
+        config.setLogLevel(Level.FINE);
+
+        LogsCenter.init(config);
+        assertEquals(Level.FINE, logger.getLevel());
+        assertEquals(Level.FINE, LogsCenter.getLogger("LogsCenterTest other").getLevel());
+    }
+}
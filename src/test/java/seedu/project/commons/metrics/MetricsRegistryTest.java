@@ -0,0 +1,38 @@
+package seedu.project.commons.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class MetricsRegistryTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    public void counter_sameName_sameCounter() {
+        registry.counter("a").increment();
+        registry.counter("a").add(2);
+        assertSame(registry.counter("a"), registry.counter("a"));
+        assertEquals(3, registry.counter("a").get());
+        assertSame(registry.histogram("h"), registry.histogram("h"));
+        assertSame(registry.gauge("g"), registry.gauge("g"));
+    }
+
+    @Test
+    public void report_containsEveryMetric() {
+        registry.histogram("command.ListCommand.total").record(2_000_000);
+        registry.counter("commands.succeeded").increment();
+        registry.gauge("model.projects").set(7);
+
+        List<String> report = registry.report();
+        assertEquals(4, report.size());
+        assertTrue(report.get(1).startsWith("command.ListCommand.total"));
+        assertTrue(report.get(1).contains("2.000"));
+        assertTrue(report.get(2).startsWith("commands.succeeded"));
+        assertTrue(report.get(3).startsWith("model.projects") && report.get(3).endsWith(" 7"));
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.project.commons.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import seedu.project.commons.metrics.PhaseTimes.Phase;
+
+public class PhaseTimesTest {
+
+    @Test
+    public void recordNested_onlyWhileStarted() {
+        PhaseTimes.recordNested(Phase.COMMIT, 100, 10);
+
+        PhaseTimes phaseTimes = PhaseTimes.start();
+        PhaseTimes.recordNested(Phase.COMMIT, 5, 50);
+        PhaseTimes.recordNested(Phase.COMMIT, 7, 70);
+        PhaseTimes.recordListChange();
+        phaseTimes.stop();
+        PhaseTimes.recordNested(Phase.COMMIT, 100, 10);
+        PhaseTimes.recordListChange();
+
+        assertEquals(12, phaseTimes.getNanos(Phase.COMMIT));
+        assertEquals(120, phaseTimes.getAllocatedBytes(Phase.COMMIT));
+        assertEquals(0, phaseTimes.getNanos(Phase.SAVE));
+        assertEquals(1, phaseTimes.getListChangeCount());
+    }
+}
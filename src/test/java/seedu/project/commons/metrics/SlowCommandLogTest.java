@@ -0,0 +1,50 @@
+package seedu.project.commons.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SlowCommandLogTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void isSlow() {
+        // negative threshold -> tracing off
+        assertFalse(new SlowCommandLog("unused", -1).isSlow(Long.MAX_VALUE));
+
+        SlowCommandLog log = new SlowCommandLog("unused", 5);
+        assertFalse(log.isSlow(5_000_000));
+        assertTrue(log.isSlow(5_000_001));
+    }
+
+    @Test
+    public void log_records_oneJsonObjectPerLine() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("slow.0.jsonl");
+        SlowCommandLog log = new SlowCommandLog(testFolder.getRoot().toPath().resolve("slow.%g.jsonl").toString(), 0);
+
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("command", "ListCommand");
+        record.put("totalMillis", 1.5);
+        log.log(record);
+        record.put("command", "AddCommand");
+        log.log(record);
+        log.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertEquals("{\"command\":\"ListCommand\",\"totalMillis\":1.5}", lines.get(0));
+        assertEquals("{\"command\":\"AddCommand\",\"totalMillis\":1.5}", lines.get(1));
+    }
+}
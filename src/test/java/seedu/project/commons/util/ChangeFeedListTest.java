@@ -0,0 +1,103 @@
+package seedu.project.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ChangeFeedListTest {
+
+    private final ChangeFeedList<String> list = new ChangeFeedList<>();
+    private final List<ListChange<String>> changes = new ArrayList<>();
+    private final ChangeFeed.Listener<String> listener = changes::add;
+
+    @Before
+    public void setUp() {
+        list.setAll(Arrays.asList("a", "b", "c"));
+        list.addListener(listener);
+    }
+
+    @Test
+    public void add_reportsAdded() {
+        list.add(1, "x");
+        assertEquals(Arrays.asList("a", "x", "b", "c"), list);
+        assertChange(0, ListChange.Type.ADDED, 1, null, "x");
+    }
+
+    @Test
+    public void set_reportsReplaced() {
+        list.set(2, "x");
+        assertEquals(Arrays.asList("a", "b", "x"), list);
+        assertChange(0, ListChange.Type.REPLACED, 2, "c", "x");
+    }
+
+    @Test
+    public void remove_reportsRemoved() {
+        list.remove("b");
+        assertEquals(Arrays.asList("a", "c"), list);
+        assertChange(0, ListChange.Type.REMOVED, 1, "b", null);
+    }
+
+    @Test
+    public void setAll_sameSize_reportsOnlyReplacedElements() {
+        String a = list.get(0);
+        String c = list.get(2);
+        list.setAll(Arrays.asList(a, "x", c));
+        assertEquals(1, changes.size());
+        assertChange(0, ListChange.Type.REPLACED, 1, "b", "x");
+    }
+
+    @Test
+    public void setAll_sameSizeSeveralReplaced_reportsReset() {
+        list.setAll(Arrays.asList("c", "b", "a"));
+        assertEquals(Arrays.asList("c", "b", "a"), list);
+        assertEquals(1, changes.size());
+        assertChange(0, ListChange.Type.RESET, -1, null, null);
+    }
+
+    @Test
+    public void setAll_sameElements_reportsNothing() {
+        list.setAll(new ArrayList<>(list));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setAll_differentSize_reportsReset() {
+        list.setAll(Arrays.asList("x"));
+        assertEquals(Arrays.asList("x"), list);
+        assertEquals(1, changes.size());
+        assertChange(0, ListChange.Type.RESET, -1, null, null);
+    }
+
+    @Test
+    public void clear_reportsReset() {
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertChange(0, ListChange.Type.RESET, -1, null, null);
+    }
+
+    @Test
+    public void removeListener_noLongerReported() {
+        list.removeListener(listener);
+        list.add("x");
+        list.setAll(Arrays.asList("y"));
+        assertTrue(changes.isEmpty());
+        assertEquals(Arrays.asList("y"), list);
+    }
+
+    /**
+     * Asserts that the change reported at {@code position} matches the given fields.
+     */
+    private void assertChange(int position, ListChange.Type type, int index, String removed, String added) {
+        ListChange<String> change = changes.get(position);
+        assertEquals(type, change.getType());
+        assertEquals(index, change.getIndex());
+        assertEquals(removed, change.getRemoved());
+        assertEquals(added, change.getAdded());
+    }
+}
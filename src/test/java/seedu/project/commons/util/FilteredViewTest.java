@@ -0,0 +1,110 @@
+package seedu.project.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class FilteredViewTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ChangeFeedList<String> source = new ChangeFeedList<>();
+    private final List<ListChange<String>> changes = new ArrayList<>();
+    private FilteredView<String> view;
+
+    @Before
+    public void setUp() {
+        source.setAll(Arrays.asList("apple", "banana", "avocado", "cherry"));
+        view = new FilteredView<>(source, source);
+        view.setPredicate(element -> element.startsWith("a"));
+        view.addListener(changes::add);
+    }
+
+    @Test
+    public void constructor_noPredicate_showsAllElements() {
+        assertEquals(source, new FilteredView<>(source, source));
+    }
+
+    @Test
+    public void setPredicate_showsMatchingElementsOnly() {
+        assertEquals(Arrays.asList("apple", "avocado"), view);
+
+        view.setPredicate(null);
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void sourceAdd_matchingElement_insertedAtFilteredIndex() {
+        source.add(2, "apricot");
+        assertEquals(Arrays.asList("apple", "apricot", "avocado"), view);
+        assertChange(ListChange.Type.ADDED, 1, null, "apricot");
+    }
+
+    @Test
+    public void sourceAdd_nonMatchingElement_noChange() {
+        source.add("date");
+        assertEquals(Arrays.asList("apple", "avocado"), view);
+        assertEquals(0, changes.size());
+    }
+
+    @Test
+    public void sourceRemove_matchingElement_removedFromView() {
+        source.remove("avocado");
+        assertEquals(Arrays.asList("apple"), view);
+        assertChange(ListChange.Type.REMOVED, 1, "avocado", null);
+    }
+
+    @Test
+    public void sourceSet_elementStopsMatching_removedFromView() {
+        source.set(0, "blueberry");
+        assertEquals(Arrays.asList("avocado"), view);
+        assertChange(ListChange.Type.REMOVED, 0, "apple", null);
+    }
+
+    @Test
+    public void sourceSet_bothMatching_replacedInView() {
+        source.set(2, "almond");
+        assertEquals(Arrays.asList("apple", "almond"), view);
+        assertChange(ListChange.Type.REPLACED, 1, "avocado", "almond");
+    }
+
+    @Test
+    public void sourceSetAll_sorted_resetsViewOnce() {
+        source.setAll(Arrays.asList("cherry", "banana", "avocado", "apple"));
+        assertEquals(Arrays.asList("avocado", "apple"), view);
+        assertChange(ListChange.Type.RESET, -1, null, null);
+    }
+
+    @Test
+    public void sourceSetAll_differentSize_resetsView() {
+        source.setAll(Arrays.asList("acai"));
+        assertEquals(Arrays.asList("acai"), view);
+        assertChange(ListChange.Type.RESET, -1, null, null);
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        view.add("apricot");
+    }
+
+    /**
+     * Asserts that the view reported exactly one change, matching the given fields.
+     */
+    private void assertChange(ListChange.Type type, int index, String removed, String added) {
+        assertEquals(1, changes.size());
+        ListChange<String> change = changes.get(0);
+        assertEquals(type, change.getType());
+        assertEquals(index, change.getIndex());
+        assertEquals(removed, change.getRemoved());
+        assertEquals(added, change.getAdded());
+    }
+}
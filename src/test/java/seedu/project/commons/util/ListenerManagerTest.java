@@ -0,0 +1,80 @@
+package seedu.project.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+public class ListenerManagerTest {
+    private static final String DUMMY_EVENT = "event";
+
+    private final ListenerManager<Consumer<String>> listenerManager = new ListenerManager<>();
+    private int counter;
+
+    @Test
+    public void addListener_sameListenerOnce_listenerAdded() {
+        listenerManager.addListener(event -> {
+            assertEquals(DUMMY_EVENT, event);
+            counter++;
+        });
+        callListeners();
+        assertEquals(1, counter);
+        assertFalse(listenerManager.isEmpty());
+    }
+
+    @Test
+    public void addListener_sameListenerTwice_listenerAddedTwice() {
+        Consumer<String> listener = event -> counter++;
+        listenerManager.addListener(listener);
+        listenerManager.addListener(listener);
+        callListeners();
+        assertEquals(2, counter);
+    }
+
+    @Test
+    public void addListener_listenersBeingCalled_listenerNotCalled() {
+        Consumer<String> listener1 = event -> {
+            throw new AssertionError("should not be called");
+        };
+        Consumer<String> listener2 = event -> listenerManager.addListener(listener1);
+        listenerManager.addListener(listener2);
+        callListeners();
+    }
+
+    @Test
+    public void removeListener_singleListenerAdded_listenerRemoved() {
+        Consumer<String> listener = event -> counter++;
+        listenerManager.addListener(listener);
+        listenerManager.removeListener(listener);
+        callListeners();
+        assertEquals(0, counter);
+        assertTrue(listenerManager.isEmpty());
+    }
+
+    @Test
+    public void removeListener_sameListenerAddedTwice_firstListenerRemoved() {
+        Consumer<String> listener = event -> counter++;
+        listenerManager.addListener(listener);
+        listenerManager.addListener(listener);
+        listenerManager.removeListener(listener);
+        callListeners();
+        assertEquals(1, counter);
+    }
+
+    @Test
+    public void removeListener_listenersBeingCalled_listenerStillCalled() {
+        Consumer<String> listener1 = event -> counter++;
+        Consumer<String> listener2 = event -> listenerManager.removeListener(listener1);
+        listenerManager.addListener(listener2);
+        listenerManager.addListener(listener1);
+        callListeners();
+        assertEquals(1, counter);
+    }
+
+    private void callListeners() {
+        listenerManager.callListeners(listener -> listener.accept(DUMMY_EVENT));
+    }
+}
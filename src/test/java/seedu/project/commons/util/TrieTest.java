@@ -0,0 +1,55 @@
+package seedu.project.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class TrieTest {
+
+    private final Trie<Integer> trie = new Trie<>();
+
+    @Test
+    public void put_newAndExistingKeys_valuesStored() {
+        assertNull(trie.put("list", 1));
+        assertNull(trie.put("listtag", 2));
+        assertEquals(Integer.valueOf(1), trie.put("list", 3));
+
+        assertEquals(Integer.valueOf(3), trie.get("list"));
+        assertEquals(Integer.valueOf(2), trie.get("listtag"));
+        assertNull(trie.get("lis"));
+        assertEquals(2, trie.size());
+        assertEquals(2, trie.countWithPrefix("li"));
+    }
+
+    @Test
+    public void keysWithPrefix_returnsKeysInOrderUpToLimit() {
+        trie.put("listtag", 1);
+        trie.put("list", 2);
+        trie.put("listproject", 3);
+        trie.put("find", 4);
+
+        assertEquals(Arrays.asList("list", "listproject", "listtag"), trie.keysWithPrefix("li", 10));
+        assertEquals(Arrays.asList("list", "listproject"), trie.keysWithPrefix("list", 2));
+        assertEquals(Arrays.asList(2, 3, 1), trie.valuesWithPrefix("list", 10));
+        assertEquals(Collections.emptyList(), trie.keysWithPrefix("x", 10));
+    }
+
+    @Test
+    public void remove_existingKey_keyAndUnusedNodesRemoved() {
+        trie.put("list", 1);
+        trie.put("listtag", 2);
+
+        assertEquals(Integer.valueOf(2), trie.remove("listtag"));
+        assertNull(trie.remove("listtag"));
+        assertEquals(Collections.singletonList("list"), trie.keysWithPrefix("", 10));
+        assertEquals(0, trie.countWithPrefix("listt"));
+        assertEquals(1, trie.size());
+
+        assertEquals(Integer.valueOf(1), trie.remove("list"));
+        assertEquals(0, trie.countWithPrefix(""));
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.project.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.Test;
+
+import seedu.project.testutil.Assert;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<String, StringBuilder> interner = new WeakInterner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> interner.intern(null, StringBuilder::new));
+        Assert.assertThrows(NullPointerException.class, () -> interner.intern("key", key -> null));
+    }
+
+    @Test
+    public void intern_sameKey_sameValue() {
+        StringBuilder value = interner.intern("key", StringBuilder::new);
+        assertSame(value, interner.intern(new String("key"), StringBuilder::new));
+        assertNotSame(value, interner.intern("other", StringBuilder::new));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_valueNoLongerUsed_valueCollected() {
+        WeakReference<StringBuilder> reference = new WeakReference<>(
+                interner.intern(new String("key"), StringBuilder::new));
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(reference.get());
+
+        StringBuilder value = interner.intern("key", key -> new StringBuilder("created again"));
+        assertEquals("created again", value.toString());
+        assertSame(value, interner.intern("key", StringBuilder::new));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.project.logic;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.project.testutil.TypicalTasks.GROUP_MEETING;
+import static seedu.project.testutil.TypicalTasks.LECTURE;
+import static seedu.project.testutil.TypicalTasks.PRINT;
+import static seedu.project.testutil.TypicalTasks.TUTORIAL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.project.logic.parser.CommandRegistry;
+import seedu.project.model.ProjectList;
+import seedu.project.model.project.Project;
+import seedu.project.testutil.ProjectBuilder;
+
+public class AutocompleterTest {
+
+    private final ProjectList projectList = new ProjectList();
+    private Project project;
+    private Autocompleter autocompleter;
+
+    @Before
+    public void setUp() {
+        project = new ProjectBuilder().withName("Attendance").withTask(GROUP_MEETING, LECTURE).build();
+        projectList.addProject(project);
+        autocompleter = new Autocompleter(projectList, CommandRegistry.getDefault());
+    }
+
+    @Test
+    public void complete_commandWord_matchingCommandWords() throws Exception {
+        assertEquals(Arrays.asList("s ", "sd ", "select ", "sortDeadline ", "st ", "stats "), complete("s"));
+        assertEquals(Collections.singletonList("sortDeadline "), complete("so"));
+    }
+
+    @Test
+    public void complete_prefix_matchingPrefixes() throws Exception {
+        assertEquals(Arrays.asList("add n/Task ds/", "add n/Task dl/"), complete("add n/Task d"));
+    }
+
+    @Test
+    public void complete_name_projectAndTaskNames() throws Exception {
+        assertEquals(Arrays.asList("find n/Attend lecture", "find n/Attendance"), complete("find n/Att"));
+        assertEquals(Collections.singletonList("find n/Group meeting"), complete("find n/Group m"));
+    }
+
+    @Test
+    public void complete_tag_tagNames() throws Exception {
+        assertEquals(Collections.singletonList("add n/Task t/TYPICAL"), complete("add n/Task t/TY"));
+    }
+
+    @Test
+    public void complete_modelChanged_followsChanges() throws Exception {
+        project.addTask(TUTORIAL);
+        project.removeTask(LECTURE);
+        assertEquals(Arrays.asList("find n/Attend tutorial", "find n/Attendance"), complete("find n/Att"));
+        assertEquals(Collections.singletonList("add t/TUTORIAL"), complete("add t/TU"));
+
+        projectList.addProject(new ProjectBuilder().withName("Printing").withTask(PRINT).build());
+        assertEquals(Arrays.asList("find n/Print slides", "find n/Printing"), complete("find n/Pri"));
+
+        projectList.removeProject(project);
+        assertEquals(Collections.emptyList(), complete("find n/Att"));
+    }
+
+    @Test
+    public void complete_projectReplacedByNewVersion_followsNewVersion() throws Exception {
+        Project newVersion = new Project(project);
+        newVersion.setTask(LECTURE, TUTORIAL);
+        projectList.setProject(project, newVersion);
+        assertEquals(Arrays.asList("find n/Attend tutorial", "find n/Attendance"), complete("find n/Att"));
+        assertEquals(Collections.singletonList("find n/Group meeting"), complete("find n/Group m"));
+
+        // the replaced version is no longer followed
+        project.removeTask(GROUP_MEETING);
+        assertEquals(Collections.singletonList("find n/Group meeting"), complete("find n/Group m"));
+        newVersion.removeTask(GROUP_MEETING);
+        assertEquals(Collections.emptyList(), complete("find n/Group m"));
+    }
+
+    private List<String> complete(String input) throws Exception {
+        return autocompleter.complete(input).get();
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.project.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static seedu.project.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.project.logic.commands.AddCommand;
+import seedu.project.logic.commands.Command;
+import seedu.project.logic.commands.HistoryCommand;
+import seedu.project.logic.parser.exceptions.ParseException;
+import seedu.project.testutil.Assert;
+
+public class BackgroundParserTest {
+
+    private final BackgroundParser parser = new BackgroundParser();
+
+    @After
+    public void tearDown() {
+        LogicManager.setState(false);
+    }
+
+    @Test
+    public void validate_invalidCommand_returnsErrorMessage() throws Exception {
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, parser.validate("unknownCommand").get());
+    }
+
+    @Test
+    public void parse_validatedCommand_parsedCommandReusedOnce() throws Exception {
+        assertNull(parser.validate(HistoryCommand.COMMAND_WORD).get());
+
+        Command first = parser.parse(HistoryCommand.COMMAND_WORD);
+        Command second = parser.parse(HistoryCommand.COMMAND_WORD);
+        assertEquals(HistoryCommand.class, first.getClass());
+        assertNotSame(first, second);
+
+        assertNull(parser.validate(HistoryCommand.COMMAND_WORD).get());
+        Command third = parser.parse(HistoryCommand.COMMAND_WORD);
+        assertNotSame(second, third);
+        assertSame(third.getClass(), second.getClass());
+    }
+
+    @Test
+    public void parse_levelChangedAfterValidation_parsedAgainAtNewLevel() throws Exception {
+        // adding a project needs only a name, but adding a task also needs a description and deadline
+        String addProject = AddCommand.COMMAND_WORD + " n/Project";
+        LogicManager.setState(false);
+        assertNull(parser.validate(addProject).get());
+
+        LogicManager.setState(true);
+        Assert.assertThrows(ParseException.class, () -> parser.parse(addProject));
+
+        // the command parsed ahead of time is still kept for the project level
+        LogicManager.setState(false);
+        assertEquals(AddCommand.class, parser.parse(addProject).getClass());
+    }
+}
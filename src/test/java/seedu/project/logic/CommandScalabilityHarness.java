@@ -0,0 +1,306 @@
+package seedu.project.logic;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+
+import seedu.project.commons.core.Config;
+import seedu.project.commons.core.LogsCenter;
+import seedu.project.model.Model;
+import seedu.project.model.ModelManager;
+import seedu.project.model.ProjectList;
+import seedu.project.model.UserPrefs;
+import seedu.project.model.project.Project;
+import seedu.project.storage.JsonProjectListStorage;
+import seedu.project.storage.JsonUserPrefsStorage;
+import seedu.project.storage.StorageManager;
+import seedu.project.testutil.WorkspaceGenerator;
+
+/**
+ * Runs every command against generated workspaces of 1k, 10k, 100k and 1M tasks, or of the sizes given as
+ * arguments, and reports how the time of each command grows with the number of tasks.
+ * Commands whose time grows faster than O(n log n) are flagged, and make the harness exit with status 1.
+ *
+ * Each command is run, together with saving its changes, on a fresh model {@code REPETITIONS} times, and the
+ * shortest time is kept. Task level commands are run in the first and biggest project, which holds about a third
+ * of the tasks. A command is no longer run once it is expected to take, together with the commands that prepare the
+ * model for it, longer than {@code TIME_BUDGET_MILLIS}; it is then flagged as well. Commands that only act on the
+ * UI or on other files (help, exit, import, export and run) are left out.
+ */
+public class CommandScalabilityHarness {
+
+    private static final int[] DEFAULT_SIZES = {1000, 10000, 100000, 1000000};
+    private static final int PROJECT_COUNT = 10;
+    private static final int REPETITIONS = 3;
+    // shorter times are mostly noise, so the growth of a command is only estimated from longer ones
+    private static final double NOISE_FLOOR_MILLIS = 0.5;
+    // how much faster than n log n a command may grow before it is flagged, as an exponent of n
+    private static final double EXPONENT_TOLERANCE = 0.25;
+    private static final double TIME_BUDGET_MILLIS = 60_000;
+    private static final String ADD_TASK = "add n/Harness task ds/Added by the harness dl/01-06-2019 t/tag1";
+    private static final String EDIT_TASK = "edit 1 ds/Edited by the harness";
+    private static final String DEFINE_TAG = "definetag gt/Harness t/tag1";
+
+    private static final List<Scenario> SCENARIOS = Arrays.asList(
+            Scenario.inProjectList("list"),
+            Scenario.inProjectList("find Project"),
+            Scenario.inProjectList("analyse"),
+            Scenario.inProjectList("add n/Harness project"),
+            Scenario.inProjectList("edit 1 n/Renamed project"),
+            Scenario.inProjectList("delete 1"),
+            Scenario.inProjectList("select 1"),
+            Scenario.inProjectList(DEFINE_TAG),
+            Scenario.inProjectList("undo", "add n/Harness project"),
+            Scenario.inProject("list"),
+            Scenario.inProject("find Write"),
+            Scenario.inProject("listtag"),
+            Scenario.inProject("sortDeadline"),
+            Scenario.inProject(ADD_TASK),
+            Scenario.inProject(EDIT_TASK),
+            Scenario.inProject("delete 1"),
+            Scenario.inProject("completed 1"),
+            Scenario.inProject("select 2"),
+            Scenario.inProject("compare 1", EDIT_TASK),
+            Scenario.inProject("taskhistory 1", EDIT_TASK),
+            Scenario.inProject("addtag 1 gt/Harness", DEFINE_TAG),
+            Scenario.inProject("undo", "delete 1"),
+            Scenario.inProject("redo", "delete 1", "undo"),
+            Scenario.inProject("history"),
+            Scenario.inProject("stats"),
+            Scenario.inProject("listproject"),
+            Scenario.inProject("clear"));
+
+    private final int[] sizes;
+    private final double[][] millis;
+    // the times of the commands together with the commands that prepare the model for them
+    private final double[][] totalMillis;
+    private final String[] failures = new String[SCENARIOS.size()];
+    private final Path dataFile;
+    private final Path userPrefsFile;
+
+    private CommandScalabilityHarness(int[] sizes) throws IOException {
+        this.sizes = sizes;
+        millis = new double[SCENARIOS.size()][sizes.length];
+        totalMillis = new double[SCENARIOS.size()][sizes.length];
+        dataFile = Files.createTempFile("scalability", ".json");
+        userPrefsFile = Files.createTempFile("scalabilityPrefs", ".json");
+        dataFile.toFile().deleteOnExit();
+        userPrefsFile.toFile().deleteOnExit();
+    }
+
+    /**
+     * Runs the harness with the workspace sizes, in tasks, given as arguments, or with the default sizes.
+     */
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0
+                ? DEFAULT_SIZES
+                : Arrays.stream(String.join(",", args).split(",")).mapToInt(Integer::parseInt).sorted().toArray();
+        CommandScalabilityHarness harness = new CommandScalabilityHarness(sizes);
+        // every command is logged at INFO, which would bury the report
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        System.out.println("Warming up on " + sizes[0] + " tasks");
+        harness.measure(new WorkspaceGenerator().withTaskCount(sizes[0]).withProjectCount(PROJECT_COUNT).generate(),
+                -1);
+        for (int i = 0; i < sizes.length; i++) {
+            System.out.println("Measuring " + sizes[i] + " tasks");
+            harness.measure(
+                    new WorkspaceGenerator().withTaskCount(sizes[i]).withProjectCount(PROJECT_COUNT).generate(), i);
+        }
+
+        boolean hasFlagged = harness.report();
+        System.exit(hasFlagged ? 1 : 0);
+    }
+
+    /**
+     * Measures every command on {@code workspace}, recording the times as those of the {@code sizeIndex}-th size,
+     * or not at all if it is negative.
+     */
+    private void measure(ProjectList workspace, int sizeIndex) {
+        for (int i = 0; i < SCENARIOS.size(); i++) {
+            if (sizeIndex < 0) {
+                time(workspace, SCENARIOS.get(i), 1);
+                continue;
+            }
+            if (failures[i] != null) {
+                millis[i][sizeIndex] = Double.NaN;
+                continue;
+            }
+
+            double predicted = predictMillis(totalMillis[i], sizeIndex);
+            if (predicted > TIME_BUDGET_MILLIS) {
+                failures[i] = String.format("skipped at %d tasks, expected to take %.0f ms", sizes[sizeIndex],
+                        predicted);
+                millis[i][sizeIndex] = Double.NaN;
+                continue;
+            }
+
+            try {
+                double[] times = time(workspace, SCENARIOS.get(i), REPETITIONS);
+                millis[i][sizeIndex] = times[0];
+                totalMillis[i][sizeIndex] = times[1];
+            } catch (Exception e) {
+                failures[i] = "failed: " + e.getMessage();
+                millis[i][sizeIndex] = Double.NaN;
+            }
+        }
+    }
+
+    /**
+     * Returns the shortest time, in milliseconds, that the command of {@code scenario} takes out of
+     * {@code repetitions} runs, and the shortest time of the whole scenario, including the commands that prepare
+     * the model.
+     */
+    private double[] time(ProjectList workspace, Scenario scenario, int repetitions) {
+        PrintStream out = System.out;
+        double shortest = Double.MAX_VALUE;
+        double shortestTotal = Double.MAX_VALUE;
+        try {
+            // some commands print every task, which would bury the report
+            System.setOut(new PrintStream(new OutputStream() {
+                @Override
+                public void write(int b) {
+                }
+            }));
+            for (int i = 0; i < repetitions; i++) {
+                long setUpStart = System.nanoTime();
+                Model model = new ModelManager(workspace, new Project(), new UserPrefs());
+                Logic logic = new LogicManager(model, new StorageManager(new JsonProjectListStorage(dataFile),
+                        new JsonUserPrefsStorage(userPrefsFile)));
+                LogicManager.setState(false);
+                if (scenario.isInProject) {
+                    logic.execute("select 1");
+                }
+                for (String setUpCommand : scenario.setUpCommands) {
+                    logic.execute(setUpCommand);
+                }
+                double setUpMillis = (System.nanoTime() - setUpStart) / 1e6;
+                System.gc();
+
+                long start = System.nanoTime();
+                logic.execute(scenario.command);
+                double commandMillis = (System.nanoTime() - start) / 1e6;
+                shortest = Math.min(shortest, commandMillis);
+                shortestTotal = Math.min(shortestTotal, setUpMillis + commandMillis);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        } finally {
+            System.setOut(out);
+        }
+        return new double[] {shortest, shortestTotal};
+    }
+
+    /**
+     * Returns the time that a command is expected to take at the {@code sizeIndex}-th size, going by its times at
+     * the smaller sizes, or 0 if there are none. Commands are expected to grow at least linearly, and quadratically
+     * while there is only one earlier time to go by.
+     */
+    private double predictMillis(double[] times, int sizeIndex) {
+        if (sizeIndex == 0) {
+            return 0;
+        }
+        double ratio = (double) sizes[sizeIndex] / sizes[sizeIndex - 1];
+        double exponent = sizeIndex == 1 ? 2 : Math.max(1, exponent(times, sizeIndex - 2, sizeIndex - 1));
+        return times[sizeIndex - 1] * Math.pow(ratio, exponent);
+    }
+
+    /**
+     * Returns the exponent k for which the growth of {@code times} from the {@code from}-th to the {@code to}-th
+     * size is that of n^k.
+     */
+    private double exponent(double[] times, int from, int to) {
+        return Math.log(times[to] / times[from]) / Math.log((double) sizes[to] / sizes[from]);
+    }
+
+    /**
+     * Returns the exponent k for which the growth of n log n from the {@code from}-th to the {@code to}-th size is
+     * that of n^k.
+     */
+    private double nLogNExponent(int from, int to) {
+        double growth = sizes[to] * Math.log(sizes[to]) / (sizes[from] * Math.log(sizes[from]));
+        return Math.log(growth) / Math.log((double) sizes[to] / sizes[from]);
+    }
+
+    /**
+     * Prints the time of every command at every size, and how fast it grows. Returns true if any command is flagged.
+     */
+    private boolean report() {
+        String nameFormat = "%-" + SCENARIOS.stream().mapToInt(scenario -> scenario.toString().length()).max()
+                .getAsInt() + "s";
+        StringBuilder header = new StringBuilder(String.format(nameFormat, "command (ms)"));
+        for (int size : sizes) {
+            header.append(String.format(" %10d", size));
+        }
+        System.out.println(header.append("   growth"));
+
+        boolean hasFlagged = false;
+        for (int i = 0; i < SCENARIOS.size(); i++) {
+            StringBuilder line = new StringBuilder(String.format(nameFormat, SCENARIOS.get(i)));
+            for (double time : millis[i]) {
+                line.append(Double.isNaN(time) ? String.format(" %10s", "-") : String.format(" %10.2f", time));
+            }
+
+            String growth = describeGrowth(millis[i]);
+            boolean isFlagged = failures[i] != null || growth.startsWith("FLAGGED");
+            line.append("   ").append(failures[i] != null ? "FLAGGED, " + failures[i] : growth);
+            System.out.println(line);
+            hasFlagged |= isFlagged;
+        }
+        return hasFlagged;
+    }
+
+    /**
+     * Describes the growth of {@code times} between the two largest successive sizes at which the times are above
+     * the noise floor.
+     */
+    private String describeGrowth(double[] times) {
+        for (int to = sizes.length - 1; to > 0; to--) {
+            int from = to - 1;
+            if (Double.isNaN(times[to]) || times[from] < NOISE_FLOOR_MILLIS) {
+                continue;
+            }
+            double exponent = exponent(times, from, to);
+            double limit = nLogNExponent(from, to) + EXPONENT_TOLERANCE;
+            return String.format("%sn^%.2f from %d to %d tasks", exponent > limit ? "FLAGGED, worse than n log n: "
+                    : "", exponent, sizes[from], sizes[to]);
+        }
+        return "too fast to tell";
+    }
+
+    /**
+     * A command to measure, with the commands that prepare the model for it.
+     */
+    private static class Scenario {
+        private final boolean isInProject;
+        private final String command;
+        private final List<String> setUpCommands;
+
+        private Scenario(boolean isInProject, String command, String... setUpCommands) {
+            this.isInProject = isInProject;
+            this.command = command;
+            this.setUpCommands = new ArrayList<>(Arrays.asList(setUpCommands));
+        }
+
+        static Scenario inProjectList(String command, String... setUpCommands) {
+            return new Scenario(false, command, setUpCommands);
+        }
+
+        static Scenario inProject(String command, String... setUpCommands) {
+            return new Scenario(true, command, setUpCommands);
+        }
+
+        @Override
+        public String toString() {
+            return (isInProject ? "[project] " : "[list] ") + command;
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package seedu.project.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.project.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 import static seedu.project.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.project.logic.commands.CommandTestUtil.DEADLINE_DESC_CS2101;
 import static seedu.project.logic.commands.CommandTestUtil.DESC_DESC_CS2101;
 import static seedu.project.logic.commands.CommandTestUtil.NAME_DESC_CS2101;
 import static seedu.project.testutil.TypicalTasks.CS2101_MILESTONE;
+import static seedu.project.testutil.TypicalTasks.KEYWORD_MATCHING_TEST;
 import static seedu.project.testutil.TypicalTasks.getTypicalProjectList;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -19,13 +27,21 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.project.commons.exceptions.DataConversionException;
+import seedu.project.commons.metrics.SlowCommandLog;
+import seedu.project.commons.util.JsonUtil;
 import seedu.project.logic.commands.AddCommand;
 import seedu.project.logic.commands.CommandResult;
+import seedu.project.logic.commands.DeleteCommand;
+import seedu.project.logic.commands.FindCommand;
 import seedu.project.logic.commands.HistoryCommand;
 import seedu.project.logic.commands.ListCommand;
+import seedu.project.logic.commands.ListTagCommand;
+import seedu.project.logic.commands.SelectCommand;
+import seedu.project.logic.commands.UndoCommand;
 import seedu.project.logic.commands.exceptions.CommandException;
 import seedu.project.logic.parser.exceptions.ParseException;
 import seedu.project.model.Model;
+import seedu.project.model.ModelChange;
 import seedu.project.model.ModelManager;
 import seedu.project.model.ReadOnlyProjectList;
 import seedu.project.model.UserPrefs;
@@ -87,6 +103,32 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_slowCommandLogEnabled_commandTraced() throws Exception {
+        Path traceFile = temporaryFolder.getRoot().toPath().resolve("trace.0.jsonl");
+        String traceFilePattern = temporaryFolder.getRoot().toPath().resolve("trace.%g.jsonl").toString();
+        SlowCommandLog slowCommandLog = new SlowCommandLog(traceFilePattern, 0);
+        JsonProjectListStorage projectListStorage = new JsonProjectListStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(model, new StorageManager(projectListStorage, userPrefsStorage), slowCommandLog,
+                new WorkloadRecorder(null));
+        LogicManager.setState(true);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        slowCommandLog.close();
+
+        List<String> lines = Files.readAllLines(traceFile);
+        assertEquals(1, lines.size());
+        Map<?, ?> record = JsonUtil.fromJsonString(lines.get(0), Map.class);
+        assertEquals("ListCommand", record.get("command"));
+        assertEquals(ListCommand.COMMAND_WORD, record.get("commandText"));
+        assertEquals(true, record.get("successful"));
+        Map<?, ?> phases = (Map<?, ?>) record.get("phases");
+        assertEquals(Arrays.asList("parse", "execute", "commit", "save"), new ArrayList<>(phases.keySet()));
+        Map<?, ?> modelSizes = (Map<?, ?>) record.get("model");
+        assertEquals(model.getProject().getTaskList().size(), modelSizes.get("openedProjectTasks"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
 
@@ -115,6 +157,47 @@ public class LogicManagerTest {
         assertHistoryCorrect(addCommand);
     }
 
+    @Test
+    public void execute_readOnlyCommands_doNotTouchStorage() throws Exception {
+        JsonProjectListStorage projectListStorage =
+                new JsonProjectListIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(model, new StorageManager(projectListStorage, userPrefsStorage));
+        LogicManager.setState(true);
+
+        // none of these commands should attempt to save, so the throwing storage is never reached
+        logic.execute(FindCommand.COMMAND_WORD + " " + KEYWORD_MATCHING_TEST);
+        logic.execute(ListTagCommand.COMMAND_WORD);
+        logic.execute(HistoryCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void execute_taskLevelChanges_projectListChanged() throws Exception {
+        List<ModelChange> changes = new ArrayList<>();
+        logic.getProjectList().addListener(changes::add);
+        LogicManager.setState(true);
+
+        // the status bar shows the time of the last change to the project list, which every save must update
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertFalse(changes.isEmpty());
+
+        changes.clear();
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertFalse(changes.isEmpty());
+        assertEquals(model.getProject().getTaskList(), model.getSelectedProject().getTaskList());
+    }
+
+    @Test
+    public void execute_batchOpeningProject_laterCommandsParsedAtTaskLevel() throws Exception {
+        LogicManager.setState(false);
+
+        // the add command is only valid at task level, which the select command before it switches to
+        logic.execute(SelectCommand.COMMAND_WORD + " 1 ; " + AddCommand.COMMAND_WORD + NAME_DESC_CS2101
+                + DESC_DESC_CS2101 + DEADLINE_DESC_CS2101);
+        assertTrue(LogicManager.getState());
+        assertTrue(model.hasTask(new TaskBuilder(CS2101_MILESTONE).withTags().build()));
+    }
+
     @Test
     public void getFilteredTaskList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
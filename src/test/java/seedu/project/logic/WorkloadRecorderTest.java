@@ -0,0 +1,86 @@
+package seedu.project.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.project.testutil.TypicalTasks.getTypicalProjectList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.project.commons.util.JsonUtil;
+import seedu.project.model.ProjectList;
+import seedu.project.storage.JsonProjectListStorage;
+
+public class WorkloadRecorderTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void record_notEnabled_nothingRecorded() {
+        WorkloadRecorder recorder = new WorkloadRecorder(null);
+        assertFalse(recorder.isEnabled());
+
+        // neither throws
+        recorder.start(getTypicalProjectList());
+        recorder.record("list", 1);
+    }
+
+    @Test
+    public void record_notStarted_nothingRecorded() {
+        Path workloadFile = testFolder.getRoot().toPath().resolve("workload.jsonl");
+        new WorkloadRecorder(workloadFile).record("list", 1);
+        assertFalse(Files.exists(workloadFile));
+    }
+
+    @Test
+    public void record_started_startingDataAndOneEntryPerLine() throws Exception {
+        Path workloadFile = testFolder.getRoot().toPath().resolve("sub").resolve("workload.jsonl");
+        WorkloadRecorder recorder = new WorkloadRecorder(workloadFile);
+        assertTrue(recorder.isEnabled());
+
+        recorder.start(getTypicalProjectList());
+        recorder.record("list", 1);
+        recorder.record("select 1", 2);
+        recorder.close();
+        // closed -> nothing recorded
+        recorder.record("list", 3);
+
+        List<String> lines = Files.readAllLines(workloadFile);
+        assertEquals(2, lines.size());
+        WorkloadEntry first = JsonUtil.fromJsonString(lines.get(0), WorkloadEntry.class);
+        WorkloadEntry second = JsonUtil.fromJsonString(lines.get(1), WorkloadEntry.class);
+        assertEquals("list", first.getCommandText());
+        assertEquals(1, first.getModelVersion());
+        assertEquals("select 1", second.getCommandText());
+        assertEquals(2, second.getModelVersion());
+        assertTrue(first.getOffsetMillis() <= second.getOffsetMillis());
+
+        Path startingDataFile = WorkloadRecorder.getStartingDataFile(workloadFile);
+        assertEquals("workload.jsonl" + WorkloadRecorder.STARTING_DATA_FILE_SUFFIX,
+                startingDataFile.getFileName().toString());
+        assertEquals(getTypicalProjectList(),
+                new ProjectList(new JsonProjectListStorage(startingDataFile).readProjectList().get()));
+    }
+
+    @Test
+    public void start_startedAgain_workloadStartedAfresh() throws Exception {
+        Path workloadFile = testFolder.getRoot().toPath().resolve("workload.jsonl");
+        WorkloadRecorder recorder = new WorkloadRecorder(workloadFile);
+        recorder.start(getTypicalProjectList());
+        recorder.record("list", 1);
+        recorder.start(new ProjectList());
+        recorder.record("clear", 1);
+        recorder.close();
+
+        List<String> lines = Files.readAllLines(workloadFile);
+        assertEquals(1, lines.size());
+        assertEquals("clear", JsonUtil.fromJsonString(lines.get(0), WorkloadEntry.class).getCommandText());
+    }
+}
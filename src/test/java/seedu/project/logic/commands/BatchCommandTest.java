@@ -0,0 +1,141 @@
+package seedu.project.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.project.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.project.testutil.TypicalTasks.CP2106_MILESTONE;
+import static seedu.project.testutil.TypicalTasks.CS2101_MILESTONE;
+import static seedu.project.testutil.TypicalTasks.REPORT_SUBMISSION;
+import static seedu.project.testutil.TypicalTasks.getTypicalProjectList;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.project.commons.core.Messages;
+import seedu.project.commons.core.index.Index;
+import seedu.project.logic.CommandHistory;
+import seedu.project.logic.LogicManager;
+import seedu.project.model.Model;
+import seedu.project.model.ModelManager;
+import seedu.project.model.UserPrefs;
+import seedu.project.model.project.Project;
+
+public class BatchCommandTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private Model model;
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(getTypicalProjectList(), new Project(), new UserPrefs());
+        model.setProject(model.getFilteredProjectList().get(0));
+        model.setSelectedProject(model.getFilteredProjectList().get(0));
+        LogicManager.setState(true);
+    }
+
+    @Test
+    public void constructor_undoCommand_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new BatchCommand(Arrays.asList(new ListCommand(), new UndoCommand()));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_singleUndoStep() throws Exception {
+        int initialSize = model.getProject().getTaskList().size();
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(new AddCommand(CS2101_MILESTONE),
+                new AddCommand(CP2106_MILESTONE)));
+
+        CommandResult result = batchCommand.execute(model, commandHistory);
+        String lastFeedback = String.format(AddCommand.MESSAGE_SUCCESS_TASK, CP2106_MILESTONE);
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2, lastFeedback), result.getFeedbackToUser());
+        assertEquals(CommandEffect.MUTATES_PROJECT, batchCommand.getEffect());
+        assertTrue(model.hasTask(CS2101_MILESTONE));
+        assertTrue(model.hasTask(CP2106_MILESTONE));
+        assertFalse(model.isInBatch());
+
+        // the whole batch is undone in one step
+        model.undoProject();
+        assertEquals(initialSize, model.getProject().getTaskList().size());
+        assertFalse(model.canUndoProject());
+    }
+
+    @Test
+    public void execute_commandFails_rollsBackEarlierCommands() {
+        // one past the end of the task list after the first command has added a task
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredTaskList().size() + 2);
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(new AddCommand(CS2101_MILESTONE),
+                new DeleteCommand(outOfBoundIndex)));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_FAILURE, 2, 2,
+                Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        assertCommandFailure(batchCommand, model, commandHistory, expectedMessage);
+        assertFalse(model.hasTask(CS2101_MILESTONE));
+        assertFalse(model.canUndoProject());
+        assertFalse(model.isInBatch());
+        assertTrue(LogicManager.getState());
+    }
+
+    @Test
+    public void execute_navigationFails_restoresState() {
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(new ListProjectCommand(),
+                new SelectCommand(Index.fromOneBased(model.getFilteredProjectList().size() + 1))));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_FAILURE, 2, 2,
+                Messages.MESSAGE_INVALID_PROJECT_DISPLAYED_INDEX);
+        assertCommandFailure(batchCommand, model, commandHistory, expectedMessage);
+        assertTrue(LogicManager.getState());
+    }
+
+    @Test
+    public void execute_commandFailsAfterOpeningOtherProject_restoresOtherProject() throws Exception {
+        // open the second project with some undo history, and go back to the first one
+        model.setProject(model.getFilteredProjectList().get(1));
+        model.addTask(CS2101_MILESTONE);
+        model.setProject(model.getFilteredProjectList().get(1), (Project) model.getProject());
+        model.commitProject();
+        model.setProject(model.getFilteredProjectList().get(0));
+        model.setSelectedProject(model.getFilteredProjectList().get(0));
+
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(new ListProjectCommand(),
+                new SelectCommand(Index.fromOneBased(2)), new DeleteCommand(Index.fromOneBased(1)),
+                new SelectCommand(Index.fromOneBased(model.getFilteredTaskList().size() + 1))));
+        String expectedMessage = String.format(BatchCommand.MESSAGE_FAILURE, 4, 4,
+                Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+        assertCommandFailure(batchCommand, model, commandHistory, expectedMessage);
+
+        Project secondProject = model.getFilteredProjectList().get(1);
+        assertTrue(secondProject.hasTask(REPORT_SUBMISSION));
+        assertTrue(secondProject.hasTask(CS2101_MILESTONE));
+
+        // the second project is opened again with its tasks and undo history
+        model.setProject(secondProject);
+        assertTrue(model.hasTask(REPORT_SUBMISSION));
+        assertTrue(model.hasTask(CS2101_MILESTONE));
+        assertTrue(model.canUndoProject());
+    }
+
+    @Test
+    public void equals() {
+        AddCommand addCommand = new AddCommand(CS2101_MILESTONE);
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(addCommand));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // same commands -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(Arrays.asList(addCommand))));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Arrays.asList(new AddCommand(CP2106_MILESTONE)))));
+    }
+}
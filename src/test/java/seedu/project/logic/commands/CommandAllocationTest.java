@@ -0,0 +1,107 @@
+package seedu.project.logic.commands;
+
+import static org.junit.Assume.assumeTrue;
+import static seedu.project.testutil.AllocationMeter.assertAllocatesAtMost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import seedu.project.logic.CommandHistory;
+import seedu.project.logic.LogicManager;
+import seedu.project.logic.parser.ProjectParser;
+import seedu.project.model.Model;
+import seedu.project.model.ModelManager;
+import seedu.project.model.ProjectList;
+import seedu.project.model.UserPrefs;
+import seedu.project.model.project.Project;
+import seedu.project.testutil.AllocationMeter;
+import seedu.project.testutil.WorkspaceGenerator;
+
+/**
+ * Checks that the commands run most often allocate no more than they need to on a project of 10k tasks, so that
+ * changes that make them churn through more memory, and so cause longer garbage collection pauses, fail the build.
+ * Budgets are about twice the bytes allocated when they were set. Commands that change or open a project copy it,
+ * and so allocate in proportion to its size; {@code find} only allocates its filter, and {@code analyse} nothing for
+ * each task.
+ */
+public class CommandAllocationTest {
+
+    private static final int TASK_COUNT = 10_000;
+    private static final int RUNS = 3;
+
+    private static ProjectList workspace;
+
+    private final ProjectParser parser = new ProjectParser();
+    private final CommandHistory history = new CommandHistory();
+    private Model model;
+
+    @BeforeClass
+    public static void setUpWorkspace() {
+        workspace = new WorkspaceGenerator().withProjectCount(1).withTaskCount(TASK_COUNT).generate();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue(AllocationMeter.isSupported());
+        model = new ModelManager(workspace, new Project(), new UserPrefs());
+        LogicManager.setState(false);
+    }
+
+    @Test
+    public void find() throws Exception {
+        openProject();
+        assertAllocatesAtMost("find", 600_000, RUNS, run -> execute("find Write Review"));
+    }
+
+    @Test
+    public void add() throws Exception {
+        openProject();
+        assertAllocatesAtMost("add", 800_000, RUNS, run ->
+                execute("add n/Allocation task " + run + " ds/Added dl/01-06-2019 t/tag1"));
+    }
+
+    @Test
+    public void edit() throws Exception {
+        openProject();
+        assertAllocatesAtMost("edit", 700_000, RUNS, run -> execute("edit 1 ds/Edited " + run));
+    }
+
+    @Test
+    public void completed() throws Exception {
+        openProject();
+        assertAllocatesAtMost("completed", 700_000, RUNS, run -> execute("completed " + (run + 1)));
+    }
+
+    @Test
+    public void select() throws Exception {
+        // opening a project is only measured on models that have not opened it before, and so have not cached it
+        List<Model> models = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            models.add(new ModelManager(workspace, new Project(), new UserPrefs()));
+        }
+        assertAllocatesAtMost("select", 850_000, RUNS, run -> {
+            LogicManager.setState(false);
+            parser.parseCommand("select 1").execute(models.get(run), history);
+        });
+    }
+
+    @Test
+    public void analyse() throws Exception {
+        assertAllocatesAtMost("analyse", 4_096, RUNS, run -> execute(AnalyseCommand.COMMAND_WORD));
+    }
+
+    /**
+     * Opens the project of the workspace.
+     */
+    private void openProject() throws Exception {
+        execute("select 1");
+    }
+
+    private void execute(String commandText) throws Exception {
+        parser.parseCommand(commandText).execute(model, history);
+    }
+}
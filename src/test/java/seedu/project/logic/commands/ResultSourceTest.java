@@ -0,0 +1,78 @@
+package seedu.project.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.project.logic.commands.ResultSource.LINES_PER_PAGE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ResultSourceTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_text_singlePage() {
+        ResultSource source = ResultSource.of("feedback");
+        assertEquals(1, source.getPageCount());
+        assertEquals("feedback", source.getPage(0));
+        assertEquals("feedback", source.getText());
+    }
+
+    @Test
+    public void ofLines_noItems_onlyHeader() {
+        ResultSource source = ResultSource.ofLines("header\n", new ArrayList<String>(), Function.identity(), true);
+        assertEquals(1, source.getPageCount());
+        assertEquals("header\n", source.getText());
+    }
+
+    @Test
+    public void ofLines_manyItems_pagesJoinToWholeText() {
+        List<String> lines = createLines(2 * LINES_PER_PAGE + 1);
+        ResultSource source = ResultSource.ofLines("header\n", lines, Function.identity(), false);
+
+        assertEquals(3, source.getPageCount());
+        assertEquals("header\n" + String.join("\n", lines), source.getText());
+        assertEquals(lines.get(2 * LINES_PER_PAGE), source.getPage(2));
+
+        // terminated -> every line followed by a newline
+        ResultSource terminated = ResultSource.ofLines("", lines, Function.identity(), true);
+        assertEquals(String.join("\n", lines) + "\n", terminated.getText());
+    }
+
+    @Test
+    public void ofLines_onePageBuilt_onlyItsLinesRendered() {
+        List<String> rendered = new ArrayList<>();
+        ResultSource source = ResultSource.ofLines("", createLines(3 * LINES_PER_PAGE), line -> {
+            rendered.add(line);
+            return line;
+        }, false);
+
+        source.getPage(1);
+        assertEquals(LINES_PER_PAGE, rendered.size());
+        assertEquals("line" + LINES_PER_PAGE, rendered.get(0));
+    }
+
+    @Test
+    public void getPage_outOfBounds_throwsIndexOutOfBoundsException() {
+        ResultSource source = ResultSource.ofLines("", createLines(1), Function.identity(), false);
+        thrown.expect(IndexOutOfBoundsException.class);
+        source.getPage(1);
+    }
+
+    /**
+     * Returns {@code count} distinct lines.
+     */
+    private List<String> createLines(int count) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lines.add("line" + i);
+        }
+        return lines;
+    }
+}
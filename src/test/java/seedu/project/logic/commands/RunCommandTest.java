@@ -0,0 +1,139 @@
+package seedu.project.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.project.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.project.testutil.TypicalTasks.CP2106_MILESTONE;
+import static seedu.project.testutil.TypicalTasks.CS2101_MILESTONE;
+import static seedu.project.testutil.TypicalTasks.getTypicalProjectList;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.project.commons.core.Messages;
+import seedu.project.commons.util.FileUtil;
+import seedu.project.logic.CommandHistory;
+import seedu.project.logic.LogicManager;
+import seedu.project.model.Model;
+import seedu.project.model.ModelManager;
+import seedu.project.model.UserPrefs;
+import seedu.project.model.project.Project;
+import seedu.project.model.task.Task;
+import seedu.project.testutil.TaskBuilder;
+import seedu.project.testutil.TaskUtil;
+
+public class RunCommandTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private Model model;
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(getTypicalProjectList(), new Project(), new UserPrefs());
+        model.setProject(model.getFilteredProjectList().get(0));
+        model.setSelectedProject(model.getFilteredProjectList().get(0));
+        LogicManager.setState(true);
+    }
+
+    @Test
+    public void execute_validScript_runsAllCommandsAsOneStep() throws Exception {
+        Path script = writeScript("# onboarding tasks\n" + TaskUtil.getAddCommand(CS2101_MILESTONE) + "\n\n"
+                + TaskUtil.getAddCommand(CP2106_MILESTONE) + "\n");
+        RunCommand runCommand = new RunCommand(script);
+
+        CommandResult result = runCommand.execute(model, commandHistory);
+        String lastFeedback = String.format(AddCommand.MESSAGE_SUCCESS_TASK, CP2106_MILESTONE);
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2, lastFeedback), result.getFeedbackToUser());
+        assertEquals(CommandEffect.MUTATES_PROJECT, runCommand.getEffect());
+        assertTrue(model.hasTask(CS2101_MILESTONE));
+        assertTrue(model.hasTask(CP2106_MILESTONE));
+
+        model.undoProject();
+        assertFalse(model.hasTask(CS2101_MILESTONE));
+        assertFalse(model.hasTask(CP2106_MILESTONE));
+    }
+
+    @Test
+    public void execute_lineWithSeparator_runAsOneCommand() throws Exception {
+        Task task = new TaskBuilder(CS2101_MILESTONE).withDescription("Call Bob ; bring slides").build();
+        Path script = writeScript(TaskUtil.getAddCommand(task));
+
+        new RunCommand(script).execute(model, commandHistory);
+        assertTrue(model.hasTask(task));
+    }
+
+    @Test
+    public void execute_scriptOpeningProject_laterLinesParsedAtTaskLevel() throws Exception {
+        LogicManager.setState(false);
+        Path script = writeScript(SelectCommand.COMMAND_WORD + " 1\n" + TaskUtil.getAddCommand(CS2101_MILESTONE));
+
+        new RunCommand(script).execute(model, commandHistory);
+        assertTrue(LogicManager.getState());
+        assertTrue(model.hasTask(CS2101_MILESTONE));
+    }
+
+    @Test
+    public void execute_invalidArgumentsAfterValidLine_rollsBack() throws Exception {
+        Path script = writeScript(TaskUtil.getAddCommand(CS2101_MILESTONE) + "\n" + DeleteCommand.COMMAND_WORD);
+
+        String invalidLineMessage = String.format(RunCommand.MESSAGE_INVALID_LINE, 2,
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        String expectedMessage = String.format(BatchCommand.MESSAGE_FAILURE, 2, 2, invalidLineMessage);
+        assertCommandFailure(new RunCommand(script), model, commandHistory, expectedMessage);
+        assertFalse(model.hasTask(CS2101_MILESTONE));
+    }
+
+    @Test
+    public void execute_invalidLine_nothingExecuted() throws Exception {
+        Path script = writeScript(TaskUtil.getAddCommand(CS2101_MILESTONE) + "\nunknownCommand\n");
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_INVALID_LINE, 2, Messages.MESSAGE_UNKNOWN_COMMAND);
+        assertCommandFailure(new RunCommand(script), model, commandHistory, expectedMessage);
+        assertFalse(model.hasTask(CS2101_MILESTONE));
+    }
+
+    @Test
+    public void execute_nonBatchableLine_nothingExecuted() throws Exception {
+        Path script = writeScript(TaskUtil.getAddCommand(CS2101_MILESTONE) + "\n" + UndoCommand.COMMAND_WORD);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_INVALID_LINE, 2, BatchCommand.MESSAGE_NOT_BATCHABLE);
+        assertCommandFailure(new RunCommand(script), model, commandHistory, expectedMessage);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingScript = temporaryFolder.getRoot().toPath().resolve("missing.txt");
+        assertCommandFailure(new RunCommand(missingScript), model, commandHistory, RunCommand.MESSAGE_PATH_INVALID);
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("script.txt"));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same path -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("script.txt"))));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("other.txt"))));
+    }
+
+    private Path writeScript(String content) throws Exception {
+        Path script = temporaryFolder.newFile().toPath();
+        FileUtil.writeToFile(script, content);
+        return script;
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.project.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.project.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.project.testutil.TypicalIndexes.INDEX_FIRST_TASK;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,6 +17,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.project.logic.LogicManager;
 import seedu.project.logic.commands.AddCommand;
+import seedu.project.logic.commands.BatchCommand;
 import seedu.project.logic.commands.ClearCommand;
 import seedu.project.logic.commands.DeleteCommand;
 import seedu.project.logic.commands.EditCommand;
@@ -26,7 +28,9 @@ import seedu.project.logic.commands.HelpCommand;
 import seedu.project.logic.commands.HistoryCommand;
 import seedu.project.logic.commands.ListCommand;
 import seedu.project.logic.commands.RedoCommand;
+import seedu.project.logic.commands.RunCommand;
 import seedu.project.logic.commands.SelectCommand;
+import seedu.project.logic.commands.SortByDeadlineCommand;
 import seedu.project.logic.commands.UndoCommand;
 import seedu.project.logic.parser.exceptions.ParseException;
 import seedu.project.model.task.NameContainsKeywordsPredicate;
@@ -201,6 +205,49 @@ public class ProjectParserTest {
         assertTrue(parser.parseCommand(UndoCommand.COMMAND_ALIAS + " 3") instanceof UndoCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt");
+        assertEquals(new RunCommand(Paths.get("script.txt")), command);
+        assertTrue(parser.parseCommand(RunCommand.COMMAND_ALIAS + " script.txt") instanceof RunCommand);
+    }
+
+    @Test
+    public void parseCommand_separatedCommands_returnsBatchCommand() throws Exception {
+        Task task = new TaskBuilder().build();
+        BatchCommand command = (BatchCommand) parser.parseCommand(TaskUtil.getAddCommand(task) + " ; "
+                + TaskUtil.getAddCommand(task) + " ;");
+        assertEquals(BatchCommand.ofPendingCommands(Arrays.asList(
+                parser.parsePendingCommand(TaskUtil.getAddCommand(task)),
+                parser.parsePendingCommand(TaskUtil.getAddCommand(task)))), command);
+    }
+
+    @Test
+    public void parseCommand_separatedCommandsWithUnknownCommand_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_UNKNOWN_COMMAND);
+        parser.parseCommand(ListCommand.COMMAND_WORD + " ; unknownCommand");
+    }
+
+    @Test
+    public void parseCommand_semicolonWithinValue_returnsSingleCommand() throws Exception {
+        Task task = new TaskBuilder().withDescription("Call Bob; bring slides;").build();
+        assertEquals(new AddCommand(task), parser.parseCommand(TaskUtil.getAddCommand(task)));
+    }
+
+    @Test
+    public void parseSingleCommand_standaloneSeparator_notSplit() throws Exception {
+        Task task = new TaskBuilder().withDescription("Call Bob ; bring slides").build();
+        assertEquals(new AddCommand(task), parser.parseSingleCommand(TaskUtil.getAddCommand(task)));
+    }
+
+    @Test
+    public void parseCommand_separatedCommandsWithUndo_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(BatchCommand.MESSAGE_NOT_BATCHABLE);
+        parser.parseCommand(ListCommand.COMMAND_WORD + " ; " + UndoCommand.COMMAND_WORD);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
@@ -208,6 +255,19 @@ public class ProjectParserTest {
         parser.parseCommand("");
     }
 
+    @Test
+    public void parseCommand_unambiguousPrefix_commandOfPrefix() throws Exception {
+        assertTrue(parser.parseCommand("sortD") instanceof SortByDeadlineCommand);
+        assertTrue(parser.parseCommand("hist 3") instanceof HistoryCommand);
+    }
+
+    @Test
+    public void parseCommand_ambiguousPrefix_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_UNKNOWN_COMMAND);
+        parser.parseCommand("lis");
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
@@ -2,6 +2,8 @@ package seedu.project.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.project.logic.commands.CommandTestUtil.VALID_DESCRIPTION_CP2106;
 import static seedu.project.model.Model.PREDICATE_SHOW_ALL_TASKS;
@@ -12,8 +14,10 @@ import static seedu.project.testutil.TypicalTasks.CS2101_MILESTONE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -21,6 +25,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.project.commons.core.GuiSettings;
 import seedu.project.model.project.Project;
+import seedu.project.model.project.ReadOnlyProject;
 import seedu.project.model.task.NameContainsKeywordsPredicate;
 import seedu.project.model.task.Task;
 import seedu.project.model.task.exceptions.TaskNotFoundException;
@@ -152,6 +157,139 @@ public class ModelManagerTest {
         assertEquals(CS2101_MILESTONE, modelManager.getSelectedTask());
     }
 
+    @Test
+    public void setProject_switchBackToRecentProject_keepsUndoHistory() {
+        ProjectList projectList = new ProjectList(Arrays.asList(CS2101, CP2106));
+        modelManager = new ModelManager(projectList, new Project(), new UserPrefs());
+        Project cs2101 = modelManager.getFilteredProjectList().get(0);
+        Project cp2106 = modelManager.getFilteredProjectList().get(1);
+
+        modelManager.setProject(cs2101);
+        ReadOnlyProject openedProject = modelManager.getProject();
+        modelManager.addTask(CS2101_MILESTONE);
+        modelManager.commitProject();
+        modelManager.setProject(cs2101, (Project) modelManager.getProject());
+
+        modelManager.setProject(cp2106);
+        assertFalse(modelManager.canUndoProject());
+
+        modelManager.setProject(modelManager.getFilteredProjectList().get(0));
+        assertSame(openedProject, modelManager.getProject());
+        assertTrue(modelManager.canUndoProject());
+    }
+
+    @Test
+    public void publishSnapshot_changedProject_onlyChangedProjectCopied() {
+        ProjectList projectList = new ProjectList(Arrays.asList(CS2101, CP2106));
+        modelManager = new ModelManager(projectList, new Project(), new UserPrefs());
+        Project cs2101 = modelManager.getFilteredProjectList().get(0);
+        ModelSnapshot before = modelManager.getSnapshot();
+
+        modelManager.setProject(cs2101);
+        modelManager.addTask(CS2101_MILESTONE);
+        modelManager.setProject(cs2101, (Project) modelManager.getProject());
+        modelManager.publishSnapshot();
+        ModelSnapshot after = modelManager.getSnapshot();
+
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertSame(before.getProjects().get(1), after.getProjects().get(1));
+        assertTrue(after.getProjects().get(0).getTasks().contains(CS2101_MILESTONE));
+        assertSame(after.getProjects().get(0), after.getOpenedProject());
+
+        // earlier snapshots are not affected by later changes
+        assertFalse(before.getProjects().get(0).getTasks().contains(CS2101_MILESTONE));
+    }
+
+    @Test
+    public void publishSnapshot_committedOpenedProject_tasksShared() {
+        ProjectList projectList = new ProjectList(Arrays.asList(CS2101, CP2106));
+        modelManager = new ModelManager(projectList, new Project(), new UserPrefs());
+        modelManager.setProject(modelManager.getFilteredProjectList().get(0));
+
+        modelManager.addTask(CS2101_MILESTONE);
+        modelManager.commitProject();
+        modelManager.setProject(modelManager.getFilteredProjectList().get(0), (Project) modelManager.getProject());
+        modelManager.publishSnapshot();
+        ModelSnapshot snapshot = modelManager.getSnapshot();
+
+        // the saved state written back to the list is frozen, so its tasks are published without copying them
+        Project storedProject = modelManager.getFilteredProjectList().get(0);
+        assertTrue(storedProject.isFrozen());
+        assertSame(storedProject.getTaskList(), snapshot.getProjects().get(0).getTasks());
+        assertSame(snapshot.getProjects().get(0), snapshot.getOpenedProject());
+    }
+
+    @Test
+    public void setProject_openedProject_copyStoredAndUndoRestoresTasks() {
+        ProjectList projectList = new ProjectList(Arrays.asList(CS2101, CP2106));
+        modelManager = new ModelManager(projectList, new Project(), new UserPrefs());
+        modelManager.setProject(modelManager.getFilteredProjectList().get(0));
+
+        modelManager.addTask(CS2101_MILESTONE);
+        modelManager.setProject(modelManager.getFilteredProjectList().get(0), (Project) modelManager.getProject());
+        modelManager.commitProjectList();
+        Project storedProject = modelManager.getFilteredProjectList().get(0);
+        assertNotSame(modelManager.getProject(), storedProject);
+        assertSame(storedProject, modelManager.getSelectedProject());
+
+        // changes to the opened project only reach the list when it is written back
+        modelManager.addTask(CP2106_MILESTONE);
+        assertFalse(storedProject.hasTask(CP2106_MILESTONE));
+        modelManager.setProject(storedProject, (Project) modelManager.getProject());
+        modelManager.commitProjectList();
+        assertTrue(modelManager.getFilteredProjectList().get(0).hasTask(CP2106_MILESTONE));
+
+        modelManager.undoProjectList();
+        Project undoneProject = modelManager.getFilteredProjectList().get(0);
+        assertTrue(undoneProject.hasTask(CS2101_MILESTONE));
+        assertFalse(undoneProject.hasTask(CP2106_MILESTONE));
+    }
+
+    @Test
+    public void setProject_committedOpenedProject_savedStateStoredOnce() {
+        ProjectList projectList = new ProjectList(Arrays.asList(CS2101, CP2106));
+        modelManager = new ModelManager(projectList, new Project(), new UserPrefs());
+        modelManager.setProject(modelManager.getFilteredProjectList().get(0));
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.getProjectList().addListener(changes::add);
+
+        modelManager.addTask(CS2101_MILESTONE);
+        modelManager.commitProject();
+        modelManager.setProject(modelManager.getFilteredProjectList().get(0), (Project) modelManager.getProject());
+        Project storedProject = modelManager.getFilteredProjectList().get(0);
+        assertEquals(1, changes.size());
+
+        // writing back an unchanged project leaves the list as it is
+        modelManager.setProject(storedProject, (Project) modelManager.getProject());
+        assertSame(storedProject, modelManager.getFilteredProjectList().get(0));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void addOpenedProjectListener_projectsSwitched_changesOfOpenedProjectReported() {
+        ProjectList projectList = new ProjectList(Arrays.asList(CS2101, CP2106));
+        modelManager = new ModelManager(projectList, new Project(), new UserPrefs());
+        List<ModelChange> changes = new ArrayList<>();
+        modelManager.addOpenedProjectListener(changes::add);
+
+        modelManager.setProject(modelManager.getFilteredProjectList().get(0));
+        Project cs2101 = (Project) modelManager.getProject();
+        modelManager.setProject(modelManager.getFilteredProjectList().get(1));
+        modelManager.addTask(CS2101_MILESTONE);
+        assertEquals(1, changes.size());
+        assertSame(modelManager.getProject(), changes.get(0).getProject());
+
+        // projects that are no longer opened are not followed
+        cs2101.addTask(CP2106_MILESTONE);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void getSnapshot_modifyProjects_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        modelManager.getSnapshot().getProjects().remove(0);
+    }
+
     @Test
     public void equals() {
         ProjectList projectList = new ProjectListBuilder().withProject(CS2101).withProject(CP2106).build();
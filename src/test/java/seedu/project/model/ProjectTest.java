@@ -8,6 +8,7 @@ import static seedu.project.logic.commands.CommandTestUtil.VALID_TAG_CP2106;
 import static seedu.project.testutil.TypicalTasks.CS2101_MILESTONE;
 import static seedu.project.testutil.TypicalTasks.getTypicalProject;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,8 +18,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import javafx.beans.InvalidationListener;
-import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.project.model.project.Project;
@@ -97,22 +96,57 @@ public class ProjectTest {
     }
 
     @Test
-    public void addListener_withInvalidationListener_listenerAdded() {
-        SimpleIntegerProperty counter = new SimpleIntegerProperty();
-        InvalidationListener listener = observable -> counter.set(counter.get() + 1);
-        project.addListener(listener);
+    public void addTask_frozenProject_throwsUnsupportedOperationException() {
+        project.freeze();
+        assertTrue(project.isFrozen());
+        thrown.expect(UnsupportedOperationException.class);
+        project.addTask(CS2101_MILESTONE);
+    }
+
+    @Test
+    public void addListener_withModelChangeListener_listenerAdded() {
+        List<ModelChange> changes = new ArrayList<>();
+        project.addListener(changes::add);
+        project.addTask(CS2101_MILESTONE);
+        assertEquals(1, changes.size());
+        assertEquals(ModelChange.Type.TASK_ADDED, changes.get(0).getType());
+        assertEquals(CS2101_MILESTONE, changes.get(0).getNewTask());
+        assertEquals(CS2101_MILESTONE.getTaskId(), changes.get(0).getTaskId());
+        assertEquals(project.getVersion(), changes.get(0).getVersion());
+    }
+
+    @Test
+    public void addListener_taskReplacedAndRemoved_typedChangesWithIncreasingVersions() {
         project.addTask(CS2101_MILESTONE);
-        assertEquals(1, counter.get());
+        List<ModelChange> changes = new ArrayList<>();
+        project.addListener(changes::add);
+        Task editedTask = new TaskBuilder(CS2101_MILESTONE).withDescription("edited").build();
+        project.setTask(CS2101_MILESTONE, editedTask);
+        project.removeTask(editedTask);
+        project.setName("Renamed");
+
+        assertEquals(3, changes.size());
+        assertEquals(ModelChange.Type.TASK_REPLACED, changes.get(0).getType());
+        assertEquals(CS2101_MILESTONE, changes.get(0).getOldTask());
+        assertEquals(editedTask, changes.get(0).getNewTask());
+        assertEquals(ModelChange.Type.TASK_REMOVED, changes.get(1).getType());
+        assertEquals(editedTask, changes.get(1).getOldTask());
+        assertEquals(ModelChange.Type.PROJECT_RENAMED, changes.get(2).getType());
+        assertEquals(new Name(""), changes.get(2).getOldName());
+        assertTrue(changes.get(0).getVersion() < changes.get(1).getVersion());
+        assertTrue(changes.get(1).getVersion() < changes.get(2).getVersion());
     }
 
     @Test
-    public void removeListener_withInvalidationListener_listenerRemoved() {
-        SimpleIntegerProperty counter = new SimpleIntegerProperty();
-        InvalidationListener listener = observable -> counter.set(counter.get() + 1);
+    public void removeListener_withModelChangeListener_listenerRemoved() {
+        List<ModelChange> changes = new ArrayList<>();
+        ModelChangeListener listener = changes::add;
         project.addListener(listener);
         project.removeListener(listener);
+        long version = project.getVersion();
         project.addTask(CS2101_MILESTONE);
-        assertEquals(0, counter.get());
+        assertTrue(changes.isEmpty());
+        assertTrue(project.getVersion() > version);
     }
 
     /**
@@ -138,12 +172,17 @@ public class ProjectTest {
         }
 
         @Override
-        public void addListener(InvalidationListener listener) {
+        public long getVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addListener(ModelChangeListener listener) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void removeListener(InvalidationListener listener) {
+        public void removeListener(ModelChangeListener listener) {
             throw new AssertionError("This method should not be called.");
         }
 
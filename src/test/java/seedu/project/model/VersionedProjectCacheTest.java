@@ -0,0 +1,94 @@
+package seedu.project.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static seedu.project.testutil.TypicalTasks.CP2106;
+import static seedu.project.testutil.TypicalTasks.CP2106_MILESTONE;
+import static seedu.project.testutil.TypicalTasks.CS2101;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.project.commons.util.FilteredView;
+import seedu.project.model.project.Project;
+import seedu.project.model.project.VersionedProject;
+import seedu.project.model.task.Task;
+import seedu.project.testutil.ProjectBuilder;
+
+public class VersionedProjectCacheTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final VersionedProjectCache cache = new VersionedProjectCache(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new VersionedProjectCache(0);
+    }
+
+    @Test
+    public void get_sameInstance_returnsCachedProject() {
+        VersionedProject project = new VersionedProject(CS2101);
+        FilteredView<Task> filteredTasks = new FilteredView<>(project.getTaskList(), project.getTaskChangeFeed());
+        cache.put(project, filteredTasks);
+
+        VersionedProjectCache.CachedProject cached = cache.get(project);
+        assertSame(project, cached.project);
+        assertSame(filteredTasks, cached.filteredTasks);
+    }
+
+    @Test
+    public void get_equalCopy_returnsCachedProject() {
+        VersionedProject project = new VersionedProject(CS2101);
+        cache.put(project, new FilteredView<>(project.getTaskList(), project.getTaskChangeFeed()));
+
+        assertSame(project, cache.get(new Project(CS2101)).project);
+    }
+
+    @Test
+    public void get_savedStateOfProject_returnsCachedProject() {
+        VersionedProject project = new VersionedProject(CS2101);
+        cache.put(project, new FilteredView<>(project.getTaskList(), project.getTaskChangeFeed()));
+
+        assertSame(project, cache.get(project.toProject()).project);
+    }
+
+    @Test
+    public void get_staleEntry_returnsNullAndDropsEntry() {
+        VersionedProject project = new VersionedProject(CS2101);
+        cache.put(project, new FilteredView<>(project.getTaskList(), project.getTaskChangeFeed()));
+
+        Project modified = new ProjectBuilder(CS2101).withTask(CP2106_MILESTONE).build();
+        assertNull(cache.get(modified));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_exceedsCapacity_evictsLeastRecentlyUsed() {
+        VersionedProject cs2101 = new VersionedProject(CS2101);
+        VersionedProject cp2106 = new VersionedProject(CP2106);
+        VersionedProject other = new VersionedProject(new ProjectBuilder().withName("Other").build());
+        cache.put(cs2101, new FilteredView<>(cs2101.getTaskList(), cs2101.getTaskChangeFeed()));
+        cache.put(cp2106, new FilteredView<>(cp2106.getTaskList(), cp2106.getTaskChangeFeed()));
+
+        // touch CS2101 so that CP2106 becomes the least recently used entry
+        cache.get(cs2101);
+        cache.put(other, new FilteredView<>(other.getTaskList(), other.getTaskChangeFeed()));
+
+        assertEquals(2, cache.size());
+        assertSame(cs2101, cache.get(cs2101).project);
+        assertNull(cache.get(cp2106));
+    }
+
+    @Test
+    public void remove_existingProject_removesEntry() {
+        VersionedProject project = new VersionedProject(CS2101);
+        cache.put(project, new FilteredView<>(project.getTaskList(), project.getTaskChangeFeed()));
+
+        cache.remove(CS2101);
+        assertNull(cache.get(project));
+    }
+}
@@ -2,6 +2,8 @@ package seedu.project.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.project.testutil.TypicalTasks.FEEDBACK;
@@ -197,6 +199,35 @@ public class VersionedProjectTest {
         assertThrows(VersionedProject.NoRedoableStateException.class, versionedProject::redo);
     }
 
+    @Test
+    public void toProject_unchangedSinceCommit_returnsSavedState() {
+        VersionedProject versionedProject = prepareProjectList(emptyProject, projectWithFeedback);
+
+        Project savedState = versionedProject.toProject();
+        assertEquals(projectWithFeedback, savedState);
+        assertSame(savedState, versionedProject.toProject());
+        assertTrue(versionedProject.isCurrentState(savedState));
+
+        // undo moves to another saved state
+        versionedProject.undo();
+        assertEquals(emptyProject, versionedProject.toProject());
+        assertFalse(versionedProject.isCurrentState(savedState));
+    }
+
+    @Test
+    public void toProject_changedSinceCommit_returnsCopy() {
+        VersionedProject versionedProject = prepareProjectList(emptyProject);
+        Project savedState = versionedProject.toProject();
+
+        versionedProject.addTask(QUIZ);
+        Project copy = versionedProject.toProject();
+        assertNotSame(savedState, copy);
+        assertTrue(copy.hasTask(QUIZ));
+        assertFalse(savedState.hasTask(QUIZ));
+        assertFalse(versionedProject.isCurrentState(savedState));
+        assertFalse(versionedProject.isCurrentState(copy));
+    }
+
     @Test
     public void equals() {
         VersionedProject versionedProject = prepareProjectList(projectWithFeedback, projectWithTeachingFeedback);
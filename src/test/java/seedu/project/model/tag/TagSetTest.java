@@ -0,0 +1,102 @@
+package seedu.project.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.project.testutil.Assert;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = Tag.of("friends");
+    private static final Tag COLLEAGUES = Tag.of("colleagues");
+    private static final Tag FAMILY = Tag.of("family");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> TagSet.of(null));
+        Assert.assertThrows(NullPointerException.class, () -> TagSet.of(Arrays.asList(FRIENDS, null)));
+    }
+
+    @Test
+    public void of_duplicateTags_sortedByNameWithoutDuplicates() {
+        TagSet tags = TagSet.of(Arrays.asList(FRIENDS, COLLEAGUES, new Tag("friends"), FAMILY));
+        assertEquals(3, tags.size());
+        assertEquals(Arrays.asList(COLLEAGUES, FAMILY, FRIENDS), new ArrayList<>(tags));
+        assertEquals(COLLEAGUES, tags.get(0));
+        assertSame(TagSet.empty(), TagSet.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void of_sameTags_sameTagSet() {
+        TagSet tags = TagSet.of(Arrays.asList(FRIENDS, COLLEAGUES));
+        assertSame(tags, TagSet.of(new HashSet<>(Arrays.asList(COLLEAGUES, FRIENDS))));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(Arrays.asList(FRIENDS, COLLEAGUES, FAMILY));
+        assertTrue(tags.contains(FRIENDS));
+        assertTrue(tags.contains(new Tag("colleagues")));
+        assertFalse(tags.contains(new Tag("neighbours")));
+        assertFalse(tags.contains("friends"));
+        assertFalse(TagSet.empty().contains(FRIENDS));
+    }
+
+    @Test
+    public void withAndWithout_copiesOnlyWhenChanged() {
+        TagSet tags = TagSet.of(Arrays.asList(FRIENDS, FAMILY));
+        assertSame(tags, tags.with(FRIENDS));
+        assertSame(tags, tags.without(COLLEAGUES));
+
+        TagSet withColleagues = tags.with(COLLEAGUES);
+        assertEquals(Arrays.asList(COLLEAGUES, FAMILY, FRIENDS), new ArrayList<>(withColleagues));
+        assertEquals(2, tags.size());
+        assertSame(tags, withColleagues.without(COLLEAGUES));
+        assertEquals(Collections.singletonList(FRIENDS), new ArrayList<>(tags.without(FAMILY)));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Arrays.asList(FRIENDS, FAMILY));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> tags.add(COLLEAGUES));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> tags.remove(COLLEAGUES));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> tags.removeIf(tag -> true));
+        Assert.assertThrows(UnsupportedOperationException.class, tags::clear);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> {
+            tags.iterator().next();
+            tags.iterator().remove();
+        });
+    }
+
+    @Test
+    public void equals() {
+        TagSet tags = TagSet.of(Arrays.asList(FRIENDS, FAMILY));
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(FAMILY, new Tag("friends")));
+
+        // same tags in any kind of set -> returns true, with the same hash code
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet, tags);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+
+        // different tags -> returns false
+        assertNotEquals(tags, TagSet.of(Collections.singletonList(FRIENDS)));
+        assertNotEquals(tags, tags.with(COLLEAGUES));
+
+        // not a set -> returns false
+        List<Tag> list = Arrays.asList(FAMILY, FRIENDS);
+        assertNotEquals(tags, list);
+    }
+}
@@ -1,5 +1,11 @@
 package seedu.project.model.tag;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
 import org.junit.Test;
 
 import seedu.project.testutil.Assert;
@@ -17,10 +23,37 @@ public class TagTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        Assert.assertThrows(NullPointerException.class, () -> Tag.of(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of("best friend"));
+    }
+
+    @Test
+    public void of_sameTagName_sameTag() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of(new String("friends")));
+        assertSame(tag, Tag.ofValidated("friends"));
+        assertNotSame(tag, Tag.of("colleagues"));
+
+        // tags constructed directly are not shared, but are equal
+        assertNotSame(tag, new Tag("friends"));
+        assertEquals(tag, new Tag("friends"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
         Assert.assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName("best friend")); // contains a space
+        assertFalse(Tag.isValidTagName("caf\u00e9")); // letters outside ASCII
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("friends"));
+        assertTrue(Tag.isValidTagName("CS2101"));
     }
 
 }
@@ -1,6 +1,9 @@
 package seedu.project.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -20,6 +23,21 @@ public class DeadlineTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new Deadline(invalidDeadline));
     }
 
+    @Test
+    public void of_invalidDeadline_throwsIllegalArgumentException() {
+        Assert.assertThrows(NullPointerException.class, () -> Deadline.of(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Deadline.of("31-04-2019"));
+    }
+
+    @Test
+    public void of_sameDeadline_sameDeadline() {
+        Deadline deadline = Deadline.of("01-02-2019");
+        assertSame(deadline, Deadline.of(new String("01-02-2019")));
+        assertSame(deadline, Deadline.ofValidated("01-02-2019"));
+        assertNotSame(deadline, Deadline.of("02-02-2019"));
+        assertEquals(deadline, new Deadline("01-02-2019"));
+    }
+
     @Test
     public void isValidDeadline() {
         // null deadline
@@ -29,8 +47,34 @@ public class DeadlineTest {
         assertFalse(Deadline.isValidDeadline("")); // empty string
         assertFalse(Deadline.isValidDeadline(" ")); // spaces only
 
+        assertFalse(Deadline.isValidDeadline("1-01-2019")); // day of one digit
+        assertFalse(Deadline.isValidDeadline("01/01/2019")); // wrong separators
+        assertFalse(Deadline.isValidDeadline("01-01-2019 ")); // trailing space
+        assertFalse(Deadline.isValidDeadline("00-01-2019")); // day 0
+        assertFalse(Deadline.isValidDeadline("01-13-2019")); // month 13
+        assertFalse(Deadline.isValidDeadline("01-01-2018")); // year before 2019
+        assertFalse(Deadline.isValidDeadline("01-01-2022")); // year after 2021
+        assertFalse(Deadline.isValidDeadline("31-04-2019")); // 31st of a month of 30 days
+        assertFalse(Deadline.isValidDeadline("29-02-2019")); // 29th of February, not in a leap year
+
         // valid deadlines
         assertTrue(Deadline.isValidDeadline("01-01-2019"));
         assertTrue(Deadline.isValidDeadline("19-12-2019"));
+        assertTrue(Deadline.isValidDeadline("30-01-2019")); // 30th of a month of 31 days
+        assertTrue(Deadline.isValidDeadline("31-12-2021"));
+        assertTrue(Deadline.isValidDeadline("29-02-2020")); // 29th of February in a leap year
+    }
+
+    @Test
+    public void isValidDeadline_everyDayMonthAndYear_sameAsValidationRegex() {
+        for (int day = 0; day <= 32; day++) {
+            for (int month = 0; month <= 13; month++) {
+                for (int year = 2018; year <= 2022; year++) {
+                    String deadline = String.format("%02d-%02d-%d", day, month, year);
+                    assertEquals(deadline, deadline.matches(Deadline.VALIDATION_REGEX),
+                            Deadline.isValidDeadline(deadline));
+                }
+            }
+        }
     }
 }
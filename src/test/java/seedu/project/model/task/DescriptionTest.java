@@ -28,10 +28,13 @@ public class DescriptionTest {
         // invalid descriptions
         assertFalse(Description.isValidDescription("")); // empty string
         assertFalse(Description.isValidDescription(" ")); // spaces only
+        assertFalse(Description.isValidDescription("\tsubmit report")); // starts with whitespace
+        assertFalse(Description.isValidDescription("submit\nreport")); // more than one line
 
         // valid descriptions
         assertTrue(Description.isValidDescription("submit report"));
         assertTrue(Description.isValidDescription("-")); // one character
+        assertTrue(Description.isValidDescription("submit\treport ")); // whitespace after the first character
         assertTrue(Description.isValidDescription("submit report to mr john doe at office lvl 4")); // long description
     }
 }
@@ -32,6 +32,8 @@ public class NameTest {
         //assertFalse(Name.isValidName(" ")); // spaces only
         assertFalse(Name.isValidName("^")); // only non-alphanumeric characters
         assertFalse(Name.isValidName("peter*")); // contains non-alphanumeric characters
+        assertFalse(Name.isValidName("peter\tjack")); // whitespace other than spaces
+        assertFalse(Name.isValidName("zo\u00eb")); // letters outside ASCII
 
         // valid name
         assertTrue(Name.isValidName("peter jack")); // alphabets only
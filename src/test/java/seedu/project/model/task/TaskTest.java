@@ -1,6 +1,8 @@
 package seedu.project.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.project.logic.commands.CommandTestUtil.VALID_DEADLINE_CP2106;
 import static seedu.project.logic.commands.CommandTestUtil.VALID_DESCRIPTION_CP2106;
@@ -14,6 +16,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.project.logic.LogicManager;
+import seedu.project.model.tag.Tag;
 import seedu.project.testutil.TaskBuilder;
 
 public class TaskTest {
@@ -27,6 +30,18 @@ public class TaskTest {
         task.getTags().remove(0);
     }
 
+    @Test
+    public void withTag_newTag_copyWithTagAndSameTaskId() {
+        Task task = new TaskBuilder().withTags("friends").build();
+        task.updateTaskId(42);
+        Task taggedTask = task.withTag(Tag.of(VALID_TAG_CP2106));
+
+        assertEquals(new TaskBuilder().withTags("friends", VALID_TAG_CP2106).build(), taggedTask);
+        assertEquals(42, taggedTask.getTaskId());
+        assertFalse(task.hasTag(Tag.of(VALID_TAG_CP2106)));
+        assertSame(task.getTags(), task.withTag(Tag.of("friends")).getTags());
+    }
+
     @Test
     public void isSameTask() {
         // same object -> returns true
@@ -178,8 +178,8 @@ public class UniqueTaskListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
-        uniqueTaskList.asUnmodifiableObservableList().remove(0);
+        uniqueTaskList.asUnmodifiableList().remove(0);
     }
 }
@@ -0,0 +1,326 @@
+package seedu.project.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.project.testutil.TypicalTasks.KEYWORD_MATCHING_TEST;
+import static seedu.project.testutil.TypicalTasks.getTypicalProjectList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.project.commons.core.Messages;
+import seedu.project.commons.util.JsonUtil;
+import seedu.project.logic.commands.FindCommand;
+import seedu.project.logic.commands.ListCommand;
+import seedu.project.logic.commands.SelectCommand;
+import seedu.project.model.Model;
+import seedu.project.model.ModelManager;
+import seedu.project.model.ModelSnapshot;
+import seedu.project.model.UserPrefs;
+import seedu.project.model.project.Project;
+import seedu.project.storage.JsonProjectListStorage;
+import seedu.project.storage.JsonUserPrefsStorage;
+import seedu.project.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final int READ_TIMEOUT_MILLIS = 10000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final TestClock clock = new TestClock();
+    private ApiServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        startServer(ApiServer.DEFAULT_MAX_SESSIONS, ApiServer.DEFAULT_SESSION_TIMEOUT);
+    }
+
+    /**
+     * Starts a new server over the typical project list, which keeps at most {@code maxSessions} sessions for at
+     * most {@code sessionTimeout} each, as measured by {@code clock}.
+     */
+    private void startServer(int maxSessions, Duration sessionTimeout) throws Exception {
+        startServer(new ModelManager(getTypicalProjectList(), new Project(), new UserPrefs()), maxSessions,
+                sessionTimeout);
+    }
+
+    /**
+     * Starts a new server over {@code model}, which keeps at most {@code maxSessions} sessions for at most
+     * {@code sessionTimeout} each, as measured by {@code clock}.
+     */
+    private void startServer(Model model, int maxSessions, Duration sessionTimeout) throws Exception {
+        JsonProjectListStorage projectListStorage = new JsonProjectListStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        StorageManager storage = new StorageManager(projectListStorage, userPrefsStorage);
+
+        server = new ApiServer(model, storage, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                maxSessions, sessionTimeout, clock);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void getProjects_returnsAllProjects() throws Exception {
+        Response response = request("GET", ApiServer.PROJECTS_PATH, null, null);
+        assertEquals(HttpURLConnection.HTTP_OK, response.status);
+        assertEquals(getTypicalProjectList().getProjectList().size(), getProjects(response).size());
+    }
+
+    @Test
+    public void getProject_validIndex_returnsProject() throws Exception {
+        Response response = request("GET", ApiServer.PROJECTS_PATH + "/2", null, null);
+        assertEquals(HttpURLConnection.HTTP_OK, response.status);
+        assertEquals("Sample Project 2", response.body.get("name"));
+    }
+
+    @Test
+    public void getProject_indexOutOfBounds_returnsNotFound() throws Exception {
+        Response response = request("GET", ApiServer.PROJECTS_PATH + "/9", null, null);
+        assertEquals(HttpURLConnection.HTTP_NOT_FOUND, response.status);
+        assertEquals(String.format(ApiServer.MESSAGE_PROJECT_NOT_FOUND, 9), response.body.get("error"));
+    }
+
+    @Test
+    public void getProject_invalidIndex_returnsBadRequest() throws Exception {
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST,
+                request("GET", ApiServer.PROJECTS_PATH + "/abc", null, null).status);
+    }
+
+    @Test
+    public void postProjects_returnsMethodNotAllowed() throws Exception {
+        assertEquals(HttpURLConnection.HTTP_BAD_METHOD, request("POST", ApiServer.PROJECTS_PATH, null, "").status);
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsBadRequest() throws Exception {
+        Response response = request("POST", ApiServer.COMMANDS_PATH, null, "unknowncommand");
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST, response.status);
+        assertEquals(false, response.body.get("success"));
+        assertNotNull(response.session);
+    }
+
+    @Test
+    public void postCommand_modifyingCommand_publishesNewSnapshot() throws Exception {
+        Response response = request("POST", ApiServer.COMMANDS_PATH, null, "delete 1");
+        assertEquals(HttpURLConnection.HTTP_OK, response.status);
+
+        List<?> projects = getProjects(request("GET", ApiServer.PROJECTS_PATH, null, null));
+        assertEquals(getTypicalProjectList().getProjectList().size() - 1, projects.size());
+    }
+
+    @Test
+    public void postCommand_separateSessions_keepTheirOwnViewState() throws Exception {
+        String first = request("POST", ApiServer.COMMANDS_PATH, null, "select 1").session;
+        String second = request("POST", ApiServer.COMMANDS_PATH, null, ListCommand.COMMAND_WORD).session;
+        assertTrue(!first.equals(second));
+
+        // the second session never selected a project, so it still sees the project list
+        assertEquals(ListCommand.MESSAGE_SUCCESS_PROJECT,
+                request("POST", ApiServer.COMMANDS_PATH, second, ListCommand.COMMAND_WORD).body.get("feedback"));
+        assertEquals(ListCommand.MESSAGE_SUCCESS_TASK,
+                request("POST", ApiServer.COMMANDS_PATH, first, ListCommand.COMMAND_WORD).body.get("feedback"));
+    }
+
+    @Test
+    public void postCommand_separateSessions_keepTheirOwnFilters() throws Exception {
+        String first = request("POST", ApiServer.COMMANDS_PATH, null, "select 1").session;
+        request("POST", ApiServer.COMMANDS_PATH, first, FindCommand.COMMAND_WORD + " " + KEYWORD_MATCHING_TEST);
+        String second = request("POST", ApiServer.COMMANDS_PATH, null, "select 1").session;
+        request("POST", ApiServer.COMMANDS_PATH, second, ListCommand.COMMAND_WORD);
+
+        // the first session only sees the two tasks it found, while the second one sees all of them
+        assertEquals(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX,
+                request("POST", ApiServer.COMMANDS_PATH, first, "select 3").body.get("feedback"));
+        assertEquals(String.format(SelectCommand.MESSAGE_SELECT_TASK_SUCCESS, 3),
+                request("POST", ApiServer.COMMANDS_PATH, second, "select 3").body.get("feedback"));
+    }
+
+    @Test
+    public void postCommand_tooManySessions_leastRecentlyUsedSessionDropped() throws Exception {
+        server.stop();
+        startServer(2, ApiServer.DEFAULT_SESSION_TIMEOUT);
+        String first = request("POST", ApiServer.COMMANDS_PATH, null, ListCommand.COMMAND_WORD).session;
+        String second = request("POST", ApiServer.COMMANDS_PATH, null, ListCommand.COMMAND_WORD).session;
+        assertEquals(first, request("POST", ApiServer.COMMANDS_PATH, first, ListCommand.COMMAND_WORD).session);
+
+        // a third session takes the place of the second one, which was used least recently
+        request("POST", ApiServer.COMMANDS_PATH, null, ListCommand.COMMAND_WORD);
+        assertEquals(first, request("POST", ApiServer.COMMANDS_PATH, first, ListCommand.COMMAND_WORD).session);
+        assertNotEquals(second, request("POST", ApiServer.COMMANDS_PATH, second, ListCommand.COMMAND_WORD).session);
+    }
+
+    @Test
+    public void postCommand_idleSession_newSessionStarted() throws Exception {
+        server.stop();
+        startServer(ApiServer.DEFAULT_MAX_SESSIONS, Duration.ofMinutes(1));
+        String session = request("POST", ApiServer.COMMANDS_PATH, null, "select 1").session;
+
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(session, request("POST", ApiServer.COMMANDS_PATH, session, ListCommand.COMMAND_WORD).session);
+
+        // the new session starts at the project list
+        clock.advance(Duration.ofMinutes(2));
+        Response response = request("POST", ApiServer.COMMANDS_PATH, session, ListCommand.COMMAND_WORD);
+        assertNotEquals(session, response.session);
+        assertEquals(ListCommand.MESSAGE_SUCCESS_PROJECT, response.body.get("feedback"));
+    }
+
+    @Test
+    public void getProjects_whileCommandsWait_served() throws Exception {
+        server.stop();
+        CountDownLatch isCommandRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean isBlocking = new AtomicBoolean();
+        Model model = new ModelManager(getTypicalProjectList(), new Project(), new UserPrefs()) {
+            @Override
+            public ModelSnapshot getSnapshot() {
+                if (isBlocking.get()) {
+                    isCommandRunning.countDown();
+                    awaitUninterruptibly(release);
+                }
+                return super.getSnapshot();
+            }
+        };
+        startServer(model, ApiServer.DEFAULT_MAX_SESSIONS, ApiServer.DEFAULT_SESSION_TIMEOUT);
+        isBlocking.set(true);
+
+        // more commands than there are threads serving requests wait for the first one to finish
+        List<Thread> clients = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Thread client = new Thread(() -> {
+                try {
+                    request("POST", ApiServer.COMMANDS_PATH, null, ListCommand.COMMAND_WORD);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            client.start();
+            clients.add(client);
+        }
+        isCommandRunning.await();
+
+        try {
+            assertEquals(HttpURLConnection.HTTP_OK, request("GET", ApiServer.PROJECTS_PATH, null, null).status);
+        } finally {
+            release.countDown();
+            for (Thread client : clients) {
+                client.join();
+            }
+        }
+    }
+
+    /**
+     * Waits for {@code latch}, keeping the interrupt status of the thread if it is interrupted.
+     */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<?> getProjects(Response response) {
+        return (List<?>) response.body.get("projects");
+    }
+
+    /**
+     * Sends a request to the server, and returns its status, session header and JSON body.
+     */
+    private Response request(String method, String path, String session, String body) throws IOException {
+        URL url = new URL("http", "localhost", server.getPort(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        connection.setRequestMethod(method);
+        if (session != null) {
+            connection.setRequestProperty(ApiServer.SESSION_HEADER, session);
+        }
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        InputStream in = status < HttpURLConnection.HTTP_BAD_REQUEST
+                ? connection.getInputStream()
+                : connection.getErrorStream();
+        String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        in.close();
+        return new Response(status, connection.getHeaderField(ApiServer.SESSION_HEADER),
+                JsonUtil.fromJsonString(json, Map.class));
+    }
+
+    /**
+     * A clock that stands still until it is advanced.
+     */
+    private static class TestClock extends Clock {
+        private volatile Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    /**
+     * A response from the server.
+     */
+    private static class Response {
+        private final int status;
+        private final String session;
+        private final Map<?, ?> body;
+
+        Response(int status, String session, Map<?, ?> body) {
+            this.status = status;
+            this.session = session;
+            this.body = body;
+        }
+    }
+}
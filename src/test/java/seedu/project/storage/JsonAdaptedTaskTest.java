@@ -1,6 +1,7 @@
 package seedu.project.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static seedu.project.storage.JsonAdaptedTask.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.project.testutil.TypicalTasks.CS2101_MILESTONE;
 
@@ -12,8 +13,10 @@ import org.junit.Test;
 
 import seedu.project.commons.exceptions.IllegalValueException;
 import seedu.project.model.Name;
+import seedu.project.model.tag.Tag;
 import seedu.project.model.task.Deadline;
 import seedu.project.model.task.Description;
+import seedu.project.model.task.Task;
 import seedu.project.testutil.Assert;
 
 public class JsonAdaptedTaskTest {
@@ -37,6 +40,17 @@ public class JsonAdaptedTaskTest {
         assertEquals(CS2101_MILESTONE, task.toModelType());
     }
 
+    @Test
+    public void toModelType_tasksLoadedTwice_deadlineAndTagsShared() throws Exception {
+        JsonAdaptedTask task = new JsonAdaptedTask(CS2101_MILESTONE);
+        Task firstTask = task.toModelType();
+        Task secondTask = task.toModelType();
+        assertSame(firstTask.getDeadline(), secondTask.getDeadline());
+        for (Tag tag : firstTask.getTags()) {
+            assertSame(tag, Tag.of(tag.tagName));
+        }
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedTask task =
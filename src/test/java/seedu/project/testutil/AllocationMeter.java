@@ -0,0 +1,73 @@
+package seedu.project.testutil;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the bytes that an operation allocates on the current thread, through
+ * {@code com.sun.management.ThreadMXBean}.
+ * An operation is run several times and the fewest bytes of a run are taken, as the first runs also allocate
+ * while classes are loaded and code is compiled.
+ */
+public class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+    /**
+     * An operation to measure, given the number of the run, from 0, so that operations that change the model can
+     * be given different arguments in each run.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run(int run) throws Exception;
+    }
+
+    /**
+     * Returns true if the JVM can count the bytes allocated by a thread.
+     */
+    public static boolean isSupported() {
+        return ALLOCATION_BEAN != null;
+    }
+
+    /**
+     * Returns the fewest bytes allocated by one of {@code runs} runs of {@code operation}.
+     */
+    public static long measure(int runs, Operation operation) throws Exception {
+        long threadId = Thread.currentThread().getId();
+        long fewestBytes = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long before = ALLOCATION_BEAN.getThreadAllocatedBytes(threadId);
+            operation.run(i);
+            fewestBytes = Math.min(fewestBytes, ALLOCATION_BEAN.getThreadAllocatedBytes(threadId) - before);
+        }
+        return fewestBytes;
+    }
+
+    /**
+     * Asserts that {@code operation} allocates at most {@code budgetBytes} in one of {@code runs} runs.
+     */
+    public static void assertAllocatesAtMost(String operationName, long budgetBytes, int runs, Operation operation)
+            throws Exception {
+        long bytes = measure(runs, operation);
+        assertTrue(String.format("%s allocated %,d bytes, over its budget of %,d bytes", operationName, bytes,
+                budgetBytes), bytes <= budgetBytes);
+    }
+
+    /**
+     * Returns the bean that counts allocations, or null if the JVM cannot count them.
+     */
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+        return allocationBean;
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.project.testutil;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.project.model.Name;
+import seedu.project.model.ProjectList;
+import seedu.project.model.project.Project;
+import seedu.project.model.tag.Tag;
+import seedu.project.model.task.Deadline;
+import seedu.project.model.task.Description;
+import seedu.project.model.task.Task;
+import seedu.project.storage.JsonProjectListStorage;
+
+/**
+ * Generates workspaces of any size, for finding out how the app copes with far more data than the sample data.
+ * The same settings and seed always generate the same workspace.
+ *
+ * Tasks are shared out between projects either evenly, or, as in real workspaces, skewed towards a few big
+ * projects: the {@code i}-th project gets a share proportional to {@code 1 / i}, and the projects are ordered from
+ * the biggest to the smallest. Tags are skewed in the same way, so that a few tags are on many tasks and most tags
+ * on few. Deadlines are spread evenly over the given number of days from {@code FIRST_DEADLINE}.
+ */
+public class WorkspaceGenerator {
+
+    public static final long DEFAULT_SEED = 2113;
+    public static final LocalDate FIRST_DEADLINE = LocalDate.of(2019, 1, 1);
+    /** The number of days after {@code FIRST_DEADLINE} that deadlines are still valid. */
+    public static final int MAX_DEADLINE_SPREAD_DAYS = 1095;
+
+    private static final DateTimeFormatter DEADLINE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final String[] VERBS = {"Write", "Review", "Fix", "Plan", "Test", "Design", "Update", "Present"};
+    private static final String[] OBJECTS = {"report", "slides", "parser", "meeting notes", "user guide", "database",
+        "survey", "prototype", "budget", "poster"};
+
+    /**
+     * How tasks are shared out between projects.
+     */
+    public enum Spread { EVEN, SKEWED }
+
+    private long seed = DEFAULT_SEED;
+    private int projectCount = 10;
+    private int taskCount = 1000;
+    private Spread taskSpread = Spread.SKEWED;
+    private int tagCount = 20;
+    private int maxTagsPerTask = 3;
+    private int deadlineSpreadDays = 365;
+
+    /**
+     * Sets the seed of the random choices of names, tags and deadlines.
+     */
+    public WorkspaceGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the number of projects of the workspace, which must be positive.
+     */
+    public WorkspaceGenerator withProjectCount(int projectCount) {
+        if (projectCount < 1) {
+            throw new IllegalArgumentException("A workspace needs at least one project: " + projectCount);
+        }
+        this.projectCount = projectCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of tasks of all projects together.
+     */
+    public WorkspaceGenerator withTaskCount(int taskCount) {
+        if (taskCount < 0) {
+            throw new IllegalArgumentException("Task count must not be negative: " + taskCount);
+        }
+        this.taskCount = taskCount;
+        return this;
+    }
+
+    /**
+     * Sets how tasks are shared out between projects.
+     */
+    public WorkspaceGenerator withTaskSpread(Spread taskSpread) {
+        this.taskSpread = taskSpread;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct tags, and the most tags that a task can have.
+     */
+    public WorkspaceGenerator withTags(int tagCount, int maxTagsPerTask) {
+        if (tagCount < 1 && maxTagsPerTask > 0) {
+            throw new IllegalArgumentException("Tasks cannot have tags if there are none: " + tagCount);
+        }
+        this.tagCount = tagCount;
+        this.maxTagsPerTask = maxTagsPerTask;
+        return this;
+    }
+
+    /**
+     * Sets the number of days, from {@code FIRST_DEADLINE}, over which deadlines are spread.
+     */
+    public WorkspaceGenerator withDeadlineSpreadDays(int deadlineSpreadDays) {
+        if (deadlineSpreadDays < 1 || deadlineSpreadDays > MAX_DEADLINE_SPREAD_DAYS) {
+            throw new IllegalArgumentException("Deadlines can be spread over 1 to " + MAX_DEADLINE_SPREAD_DAYS
+                    + " days: " + deadlineSpreadDays);
+        }
+        this.deadlineSpreadDays = deadlineSpreadDays;
+        return this;
+    }
+
+    /**
+     * Returns the number of tasks of each project, from the first project to the last.
+     */
+    public int[] getTasksPerProject() {
+        double[] weights = new double[projectCount];
+        double totalWeight = 0;
+        for (int i = 0; i < projectCount; i++) {
+            weights[i] = taskSpread == Spread.EVEN ? 1 : 1.0 / (i + 1);
+            totalWeight += weights[i];
+        }
+
+        int[] tasksPerProject = new int[projectCount];
+        int assigned = 0;
+        for (int i = 0; i < projectCount; i++) {
+            tasksPerProject[i] = (int) (taskCount * weights[i] / totalWeight);
+            assigned += tasksPerProject[i];
+        }
+        // the tasks lost to rounding down go to the first projects, which keeps the biggest project first
+        for (int i = 0; assigned < taskCount; i = (i + 1) % projectCount) {
+            tasksPerProject[i]++;
+            assigned++;
+        }
+        return tasksPerProject;
+    }
+
+    /**
+     * Generates the workspace.
+     */
+    public ProjectList generate() {
+        Random random = new Random(seed);
+        Tag[] tags = new Tag[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            tags[i] = new Tag("tag" + i);
+        }
+
+        ProjectList projectList = new ProjectList();
+        int[] tasksPerProject = getTasksPerProject();
+        for (int i = 0; i < projectCount; i++) {
+            List<Task> tasks = new ArrayList<>(tasksPerProject[i]);
+            for (int j = 0; j < tasksPerProject[i]; j++) {
+                tasks.add(createTask(random, tags, j));
+            }
+            projectList.addProject(new Project(new Name("Project " + (i + 1)), tasks));
+        }
+        return projectList;
+    }
+
+    /**
+     * Generates the workspace and writes it to {@code file}.
+     */
+    public void writeTo(Path file) throws IOException {
+        new JsonProjectListStorage(file).saveProjectList(generate());
+    }
+
+    /**
+     * Returns the {@code number}-th task of a project, whose name no other task of the project has.
+     */
+    private Task createTask(Random random, Tag[] tags, int number) {
+        String name = VERBS[random.nextInt(VERBS.length)] + " " + OBJECTS[random.nextInt(OBJECTS.length)] + " "
+                + number;
+        String deadline = FIRST_DEADLINE.plusDays(random.nextInt(deadlineSpreadDays)).format(DEADLINE_FORMAT);
+        Set<Tag> taskTags = new HashSet<>();
+        int taskTagCount = maxTagsPerTask == 0 ? 0 : random.nextInt(maxTagsPerTask + 1);
+        for (int i = 0; i < taskTagCount; i++) {
+            // picking below a random bound favours the first tags
+            taskTags.add(tags[random.nextInt(random.nextInt(tagCount) + 1)]);
+        }
+        return new Task(new Name(name), new Description("Generated task " + number), new Deadline(deadline),
+                taskTags);
+    }
+
+    /**
+     * Writes a workspace to the file given as the first argument.
+     * The optional further arguments are the number of tasks, the number of projects and the seed, e.g.
+     * {@code data/big.json 100000 50 7}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: WorkspaceGenerator FILE [TASK_COUNT [PROJECT_COUNT [SEED]]]");
+            System.exit(1);
+        }
+
+        WorkspaceGenerator generator = new WorkspaceGenerator();
+        if (args.length > 1) {
+            generator.withTaskCount(Integer.parseInt(args[1]));
+        }
+        if (args.length > 2) {
+            generator.withProjectCount(Integer.parseInt(args[2]));
+        }
+        if (args.length > 3) {
+            generator.withSeed(Long.parseLong(args[3]));
+        }
+        Path file = Paths.get(args[0]);
+        generator.writeTo(file);
+        System.out.println("Wrote " + generator.taskCount + " tasks in " + generator.projectCount + " projects to "
+                + file);
+    }
+}
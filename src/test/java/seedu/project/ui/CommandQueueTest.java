@@ -0,0 +1,76 @@
+package seedu.project.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.project.logic.commands.exceptions.CommandException;
+
+public class CommandQueueTest {
+
+    private final List<Runnable> pendingWrites = new ArrayList<>();
+    private final List<Runnable> pendingUiUpdates = new ArrayList<>();
+    private final CommandQueue commandQueue = new CommandQueue(pendingWrites::add, pendingUiUpdates::add);
+
+    private String result;
+    private Exception failure;
+
+    @Test
+    public void submit_successfulWork_busyUntilResultIsDelivered() {
+        commandQueue.submit(() -> "done", value -> result = value, e -> failure = e);
+        assertTrue(commandQueue.busyProperty().get());
+
+        pendingWrites.remove(0).run();
+        assertNull(result);
+        assertTrue(commandQueue.busyProperty().get());
+
+        pendingUiUpdates.remove(0).run();
+        assertEquals("done", result);
+        assertNull(failure);
+        assertFalse(commandQueue.busyProperty().get());
+    }
+
+    @Test
+    public void submit_failingWork_deliversFailure() {
+        CommandException exception = new CommandException("failed");
+        commandQueue.submit(() -> {
+            throw exception;
+        }, value -> result = "unexpected", e -> failure = e);
+
+        pendingWrites.remove(0).run();
+        pendingUiUpdates.remove(0).run();
+        assertEquals(exception, failure);
+        assertNull(result);
+        assertFalse(commandQueue.busyProperty().get());
+    }
+
+    @Test
+    public void submit_multipleWork_staysBusyUntilAllComplete() {
+        commandQueue.submit(() -> "first", value -> result = value, e -> failure = e);
+        commandQueue.submit(() -> "second", value -> result = value, e -> failure = e);
+
+        pendingWrites.remove(0).run();
+        pendingUiUpdates.remove(0).run();
+        assertEquals("first", result);
+        assertTrue(commandQueue.busyProperty().get());
+
+        pendingWrites.remove(0).run();
+        pendingUiUpdates.remove(0).run();
+        assertEquals("second", result);
+        assertFalse(commandQueue.busyProperty().get());
+    }
+
+    @Test
+    public void createDirectQueue_runsWorkImmediately() {
+        CommandQueue directQueue = CommandQueue.createDirectQueue();
+        directQueue.submit(() -> "done", value -> result = value, e -> failure = e);
+        assertEquals("done", result);
+        assertFalse(directQueue.busyProperty().get());
+    }
+}
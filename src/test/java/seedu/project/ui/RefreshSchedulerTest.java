@@ -0,0 +1,101 @@
+package seedu.project.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RefreshSchedulerTest {
+
+    private final List<Runnable> pendingUiUpdates = new ArrayList<>();
+    private final PulsesStub pulses = new PulsesStub();
+    private final RefreshScheduler scheduler = new RefreshScheduler(pendingUiUpdates::add, pulses);
+
+    private int repaintCount;
+    private final RefreshScheduler.View view = scheduler.register(() -> repaintCount++);
+
+    @Test
+    public void markDirty_burstOfChanges_repaintedOncePerPulse() {
+        for (int i = 0; i < 5; i++) {
+            view.markDirty();
+        }
+        assertEquals(1, pendingUiUpdates.size());
+        pendingUiUpdates.remove(0).run();
+        assertTrue(pulses.isRunning);
+        assertEquals(0, repaintCount);
+
+        pulses.pulse();
+        assertEquals(1, repaintCount);
+        assertFalse(pulses.isRunning);
+        assertEquals(5, scheduler.getRequestCount());
+        assertEquals(4, scheduler.getCoalescedCount());
+        assertEquals(1, scheduler.getRefreshCount());
+
+        // no dirty views -> pulses stay stopped
+        assertTrue(pendingUiUpdates.isEmpty());
+    }
+
+    @Test
+    public void markDirty_duringRepaint_repaintedAtNextPulse() {
+        RefreshScheduler.View[] selfDirtying = new RefreshScheduler.View[1];
+        List<String> repaints = new ArrayList<>();
+        selfDirtying[0] = scheduler.register(() -> {
+            repaints.add("self");
+            if (repaints.size() == 1) {
+                selfDirtying[0].markDirty();
+            }
+        });
+
+        selfDirtying[0].markDirty();
+        pendingUiUpdates.remove(0).run();
+        pulses.pulse();
+        assertEquals(1, repaints.size());
+
+        // rescheduled rather than repainted again within the same pulse
+        assertEquals(1, pendingUiUpdates.size());
+        pendingUiUpdates.remove(0).run();
+        pulses.pulse();
+        assertEquals(2, repaints.size());
+        assertFalse(pulses.isRunning);
+    }
+
+    @Test
+    public void flush_dirtyViews_repaintedImmediately() {
+        view.markDirty();
+        scheduler.flush();
+        assertEquals(1, repaintCount);
+
+        // nothing dirty -> nothing repainted
+        scheduler.flush();
+        assertEquals(1, repaintCount);
+        assertEquals(1, scheduler.getPulseCount());
+    }
+
+    /**
+     * Pulses that are only delivered by calling {@code pulse()}.
+     */
+    private class PulsesStub implements RefreshScheduler.Pulses {
+        private boolean isRunning;
+        private Runnable onPulse;
+
+        @Override
+        public void start(Runnable onPulse) {
+            this.onPulse = onPulse;
+            isRunning = true;
+        }
+
+        @Override
+        public void stop() {
+            isRunning = false;
+        }
+
+        void pulse() {
+            assertTrue(isRunning);
+            onPulse.run();
+        }
+    }
+}
@@ -28,6 +28,22 @@ public class TaskCardTest extends GuiUnitTest {
         assertCardDisplay(taskCard, taskWithTags, 2);
     }
 
+    @Test
+    public void setTask_reusedCard_displaysNewTask() {
+        Task taskWithTags = new TaskBuilder().withTags("friends", "owesMoney").build();
+        TaskCard taskCard = new TaskCard(taskWithTags, 1);
+        uiPartRule.setUiPart(taskCard);
+
+        // fewer tags -> extra tag labels removed
+        Task taskWithOneTag = new TaskBuilder().withName("other").withTags("husband").build();
+        guiRobot.interact(() -> taskCard.setTask(taskWithOneTag, 2));
+        assertCardDisplay(taskCard, taskWithOneTag, 2);
+
+        // more tags -> tag labels added
+        guiRobot.interact(() -> taskCard.setTask(taskWithTags, 3));
+        assertCardDisplay(taskCard, taskWithTags, 3);
+    }
+
     @Test
     public void equals() {
         Task task = new TaskBuilder().build();
@@ -0,0 +1,142 @@
+package seedu.project.ui;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.project.model.Name;
+import seedu.project.model.tag.Tag;
+import seedu.project.model.task.Deadline;
+import seedu.project.model.task.Description;
+import seedu.project.model.task.Task;
+
+/**
+ * Measures how long the {@code TaskListPanel} takes to render each frame while it is scrolled through lists of
+ * 1k, 10k and 100k tasks. This is not a test, and is run with {@code gradlew scrollBenchmark}, or
+ * {@code gradlew headless scrollBenchmark} to render in software without a display.
+ *
+ * The list is scrolled by a few rows on every pulse, so that every cell shows a new task on every frame.
+ * For each pulse, the time between pulses and the time taken to lay out the scene (which includes updating the
+ * cells) are recorded, after a number of warm-up pulses that are not.
+ */
+public class TaskListScrollBenchmark {
+
+    private static final int[] ROW_COUNTS = { 1000, 10000, 100000 };
+    private static final int WARMUP_FRAMES = 120;
+    private static final int MEASURED_FRAMES = 600;
+    private static final int ROWS_PER_FRAME = 3;
+
+    /**
+     * Runs the benchmark for each row count and prints the frame times.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Platform.startup(() -> { });
+        Platform.setImplicitExit(false);
+        System.out.println(String.format("%8s  %-12s %8s %8s %8s %8s", "rows", "", "mean", "p50", "p95", "max"));
+        for (int rowCount : ROW_COUNTS) {
+            long[][] frameTimes = measure(rowCount);
+            print(rowCount, "frame (ms)", frameTimes[0]);
+            print(rowCount, "layout (ms)", frameTimes[1]);
+        }
+        Platform.exit();
+    }
+
+    /**
+     * Scrolls through a list of {@code rowCount} tasks.
+     *
+     * @return the nanoseconds between measured pulses, and the nanoseconds taken to lay out each measured pulse
+     */
+    private static long[][] measure(int rowCount) throws InterruptedException {
+        ObservableList<Task> tasks = createTasks(rowCount);
+        long[] frameNanos = new long[MEASURED_FRAMES];
+        long[] layoutNanos = new long[MEASURED_FRAMES];
+        CountDownLatch done = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            TaskListPanel panel = new TaskListPanel(tasks, new SimpleObjectProperty<>(), task -> { });
+            Stage stage = new Stage();
+            Scene scene = new Scene(panel.getRoot(), 600, 800);
+            stage.setScene(scene);
+            stage.show();
+            ListView<?> listView = (ListView<?>) panel.getRoot().lookup("#taskListView");
+
+            new AnimationTimer() {
+                private int frame;
+                private long previousPulse;
+                private long pulseStart;
+                private final Runnable layoutListener = () -> {
+                    int measured = frame - WARMUP_FRAMES - 1;
+                    if (measured >= 0 && measured < MEASURED_FRAMES) {
+                        layoutNanos[measured] = System.nanoTime() - pulseStart;
+                    }
+                };
+
+                @Override
+                public void start() {
+                    scene.addPostLayoutPulseListener(layoutListener);
+                    super.start();
+                }
+
+                @Override
+                public void handle(long now) {
+                    pulseStart = System.nanoTime();
+                    int measured = frame - WARMUP_FRAMES - 1;
+                    if (measured >= 0) {
+                        frameNanos[measured] = now - previousPulse;
+                    }
+                    previousPulse = now;
+                    frame++;
+
+                    if (measured == MEASURED_FRAMES - 1) {
+                        stop();
+                        scene.removePostLayoutPulseListener(layoutListener);
+                        stage.close();
+                        done.countDown();
+                        return;
+                    }
+                    listView.scrollTo((frame * ROWS_PER_FRAME) % rowCount);
+                }
+            }.start();
+        });
+
+        done.await();
+        return new long[][] { frameNanos, layoutNanos };
+    }
+
+    /**
+     * Returns {@code count} tasks, each with up to two tags.
+     */
+    private static ObservableList<Task> createTasks(int count) {
+        ObservableList<Task> tasks = FXCollections.observableArrayList();
+        for (int i = 0; i < count; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (int j = 0; j < i % 3; j++) {
+                tags.add(new Tag("tag" + (i + j) % 50));
+            }
+            tasks.add(new Task(new Name("Task " + i), new Description("Description of task " + i),
+                    new Deadline("01-01-2019"), tags));
+        }
+        return tasks;
+    }
+
+    /**
+     * Prints the mean, median, 95th percentile and maximum of {@code nanos}, in milliseconds.
+     */
+    private static void print(int rowCount, String label, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        System.out.println(String.format("%8d  %-12s %8.2f %8.2f %8.2f %8.2f", rowCount, label, mean / 1e6,
+                sorted[sorted.length / 2] / 1e6, sorted[sorted.length * 95 / 100] / 1e6,
+                sorted[sorted.length - 1] / 1e6));
+    }
+}